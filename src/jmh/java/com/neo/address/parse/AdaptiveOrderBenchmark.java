@@ -0,0 +1,65 @@
+package com.neo.address.parse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AddressParser#withAdaptiveOrder(AdaptiveOrderOptions)} 的效果：同一组合下对比序号顺序与按该组合的流量发布的候选顺序
+ * <p>
+ * 开启时先按输入组合解析若干轮并发布一次顺序，测量期间不再发布，每次解析仍会记录命中次数，差值包含记录的开销。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class AdaptiveOrderBenchmark {
+
+    @Param({"FULL", "NOISY"})
+    private BenchmarkData.Mix mix;
+
+    @Param({"false", "true"})
+    private boolean adaptive;
+
+    private AddressParser parser;
+    private List<String> addresses;
+    private int index;
+
+
+    @Setup
+    public void setup() {
+        addresses = mix.getAddresses();
+        parser = AddressParse.getParser();
+        if (adaptive) {
+            parser = parser.withAdaptiveOrder(AdaptiveOrderOptions.builder().republishInterval(Long.MAX_VALUE).build());
+            for (int round = 0; round < 100; round++) {
+                addresses.forEach(parser::parse);
+            }
+            parser.getAdaptiveOrder().republish();
+        }
+    }
+
+
+    @Benchmark
+    public List<ParseResult> parse() {
+        String address = addresses.get(index);
+        index = index + 1 == addresses.size() ? 0 : index + 1;
+        return parser.parse(address);
+    }
+}
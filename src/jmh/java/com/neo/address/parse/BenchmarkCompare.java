@@ -0,0 +1,217 @@
+package com.neo.address.parse;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 对比两次 JMH 结果，列出每项的变化，超出阈值的退化以非 0 状态退出
+ * <p>
+ * 结果可以是 JMH 的原始输出（-rf json），也可以是由 --summary 生成的摘要：每项一行，只保留名称、模式、参数、单位、
+ * 得分及误差（99.9% 置信区间的半宽）、p99（SampleTime）和每次操作的分配字节数，提交的基准结果使用摘要格式。
+ * <p>
+ * 变化超过阈值且两次结果的区间（得分 ± 误差）不重叠时才算退化，以免把测量噪声当作退化；p99 没有误差，只按阈值判断。
+ * 本次结果中在基准结果里找不到的项（如新增了参数、改了名称）同样以非 0 状态退出，需重新生成基准结果；
+ * 基准结果中本次未运行的项只列出，不影响退出状态，以便只运行部分基准。
+ * <p>
+ * 用法：BenchmarkCompare &lt;基准结果&gt; &lt;本次结果&gt; [阈值百分比，默认 10]<br>
+ * 生成摘要：BenchmarkCompare --summary &lt;JMH 结果&gt; &lt;摘要文件&gt;
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class BenchmarkCompare {
+
+    private static final String ALLOCATION = "·gc.alloc.rate.norm";
+
+    /**
+     * 摘要中保留的有效数字位数
+     */
+    private static final MathContext PRECISION = new MathContext(4);
+
+    private static final Gson GSON = new Gson();
+
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && "--summary".equals(args[0])) {
+            summarize(args[1], args[2]);
+            return;
+        }
+        if (args.length < 2) {
+            throw new IllegalArgumentException("usage: BenchmarkCompare <baseline.json> <current.json> [threshold %]"
+                    + " | BenchmarkCompare --summary <jmh-result.json> <summary.json>");
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+        Map<String, JsonObject> baseline = read(args[0]);
+        Map<String, JsonObject> current = read(args[1]);
+
+        int regressions = 0;
+        List<String> unmatched = new ArrayList<>();
+        System.out.printf("%-80s %22s %22s %9s%n", "benchmark", "baseline", "current", "change");
+        for (Map.Entry<String, JsonObject> entry : current.entrySet()) {
+            JsonObject before = baseline.get(entry.getKey());
+            if (Objects.isNull(before)) {
+                unmatched.add(entry.getKey());
+                continue;
+            }
+            JsonObject after = entry.getValue();
+            // 吞吐量越大越好，其余模式为耗时，越小越好
+            boolean higherIsBetter = "thrpt".equals(after.get("mode").getAsString());
+            regressions += compare(entry.getKey(), metric(before, "score", "error"), metric(after, "score", "error"), higherIsBetter, threshold);
+            regressions += compare(entry.getKey() + " p99", metric(before, "p99", null), metric(after, "p99", null), false, threshold);
+            regressions += compare(entry.getKey() + " alloc B/op", metric(before, "alloc", "allocError"), metric(after, "alloc", "allocError"),
+                    false, threshold);
+        }
+
+        System.out.println(regressions == 0 ? "没有超出 " + threshold + "% 且超出误差范围的退化" : "退化项：" + regressions);
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.println("本次未运行：" + key);
+            }
+        }
+        for (String key : unmatched) {
+            System.out.println("基准结果中没有：" + key);
+        }
+        if (!unmatched.isEmpty()) {
+            System.out.println("基准结果中缺少 " + unmatched.size() + " 项，请重新生成基准结果");
+        }
+        if (regressions > 0 || !unmatched.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+
+    /**
+     * 对比一项指标，before、after 为 {得分, 误差}，没有误差时误差为 0
+     */
+    private static int compare(String name, double[] before, double[] after, boolean higherIsBetter, double threshold) {
+        if (Objects.isNull(before) || Objects.isNull(after) || before[0] == 0) {
+            return 0;
+        }
+        double change = (after[0] - before[0]) / before[0] * 100;
+        boolean overlap = higherIsBetter
+                ? after[0] + after[1] >= before[0] - before[1]
+                : after[0] - after[1] <= before[0] + before[1];
+        boolean regression = (higherIsBetter ? change < -threshold : change > threshold) && !overlap;
+        System.out.printf("%-80s %22s %22s %8.1f%%%s%n", name, format(before), format(after), change,
+                regression ? "  <-- 退化" : "");
+        return regression ? 1 : 0;
+    }
+
+
+    private static String format(double[] metric) {
+        return metric[1] == 0 ? String.format("%.3f", metric[0]) : String.format("%.3f ± %.3f", metric[0], metric[1]);
+    }
+
+
+    /**
+     * 将 JMH 的原始结果写为摘要，每项一行
+     */
+    private static void summarize(String source, String target) throws IOException {
+        Map<String, JsonObject> results = read(source);
+        try (Writer writer = Files.newBufferedWriter(Paths.get(target), StandardCharsets.UTF_8)) {
+            writer.write("[\n");
+            int i = 0;
+            for (JsonObject result : results.values()) {
+                writer.write("  " + GSON.toJson(result) + (++i < results.size() ? ",\n" : "\n"));
+            }
+            writer.write("]\n");
+        }
+        System.out.println("已写入 " + results.size() + " 项：" + target);
+    }
+
+
+    /**
+     * 读取原始结果或摘要，原始结果转换为摘要格式，键为名称、模式及参数
+     */
+    private static Map<String, JsonObject> read(String file) throws IOException {
+        Map<String, JsonObject> results = new LinkedHashMap<>();
+        try (Reader reader = Files.newBufferedReader(Paths.get(file), StandardCharsets.UTF_8)) {
+            JsonArray array = JsonParser.parseReader(reader).getAsJsonArray();
+            for (JsonElement element : array) {
+                JsonObject result = element.getAsJsonObject();
+                if (result.has("primaryMetric")) {
+                    result = summary(result);
+                }
+                String key = result.get("benchmark").getAsString() + " [" + result.get("mode").getAsString() + "]";
+                if (result.has("params")) {
+                    key += " " + result.get("params");
+                }
+                results.put(key, result);
+            }
+        }
+        return results;
+    }
+
+
+    /**
+     * 原始结果中的一项转换为摘要
+     */
+    private static JsonObject summary(JsonObject result) {
+        JsonObject summary = new JsonObject();
+        summary.add("benchmark", result.get("benchmark"));
+        summary.add("mode", result.get("mode"));
+        if (result.has("params")) {
+            summary.add("params", result.get("params"));
+        }
+        JsonObject primary = result.getAsJsonObject("primaryMetric");
+        summary.add("unit", primary.get("scoreUnit"));
+        metric(summary, primary, "score", "error");
+
+        JsonObject percentiles = primary.getAsJsonObject("scorePercentiles");
+        if ("sample".equals(result.get("mode").getAsString()) && percentiles.has("99.0")) {
+            summary.addProperty("p99", round(percentiles.get("99.0").getAsDouble()));
+        }
+
+        JsonObject secondary = result.getAsJsonObject("secondaryMetrics");
+        if (Objects.nonNull(secondary) && secondary.has(ALLOCATION)) {
+            metric(summary, secondary.getAsJsonObject(ALLOCATION), "alloc", "allocError");
+        }
+        return summary;
+    }
+
+
+    /**
+     * 写入得分及误差，只有一个 fork 等无法计算误差时（NaN）不记录误差
+     */
+    private static void metric(JsonObject summary, JsonObject raw, String name, String errorName) {
+        summary.addProperty(name, round(raw.get("score").getAsDouble()));
+        double error = raw.get("scoreError").getAsDouble();
+        if (!Double.isNaN(error) && !Double.isInfinite(error)) {
+            summary.addProperty(errorName, round(error));
+        }
+    }
+
+
+    /**
+     * 摘要中的一项指标 {得分, 误差}，没有误差时误差为 0，没有该指标时返回 null
+     */
+    private static double[] metric(JsonObject summary, String name, String errorName) {
+        if (!summary.has(name)) {
+            return null;
+        }
+        double error = Objects.nonNull(errorName) && summary.has(errorName) ? summary.get(errorName).getAsDouble() : 0;
+        return new double[]{summary.get(name).getAsDouble(), error};
+    }
+
+
+    private static double round(double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? value : new BigDecimal(value).round(PRECISION).doubleValue();
+    }
+}
@@ -0,0 +1,90 @@
+package com.neo.address.parse;
+
+import com.google.common.collect.ImmutableList;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 基准测试数据
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+
+    /**
+     * 输入组合
+     */
+    @Getter
+    @AllArgsConstructor
+    public enum Mix {
+        /**
+         * 完整的省市区
+         */
+        FULL(ImmutableList.of(
+                "广东省深圳市盐田区东海三街山海四季城F4E，李侯明，13111111111",
+                "浙江省杭州市西湖区文三路100号 张三 13800138000",
+                "江西省九江市湖口县武山镇 测试 15912344321",
+                "北京市朝阳区建国路88号 王五 010-12345678")),
+        /**
+         * 只有区县
+         */
+        DISTRICT_ONLY(ImmutableList.of(
+                "盐田区山海四季城F栋2f，13111111111 太阳鲜鲜",
+                "龙岗区南湾街道尚峰花园4C2231 谢先生 13111111111",
+                "西湖区文三路100号 李四 13800138000",
+                "湖口县武山镇 测试 15912344321")),
+        /**
+         * 姓名在前
+         */
+        NAME_FIRST(ImmutableList.of(
+                "太阳鲜鲜 盐田区山海四季城F栋17A，13111111111",
+                "谢先生，深圳市龙岗区南湾街道尚峰花园4C2231 13111111111",
+                "张三 浙江省杭州市西湖区文三路 13800138000",
+                "周敏 13111111111 广东省深圳市盐田区山海四季城D栋17A")),
+        /**
+         * 带标签、符号、换行等干扰
+         */
+        NOISY(ImmutableList.of(
+                "收货人: 杨燕艳\n手机号码: 131-1111-1111\n所在地区: 广东省深圳市龙岗区龙岗街道\n详细地址: 格水村三巷十号三楼",
+                "【顺丰】收件人：王小二 电话：0755-12345678 邮编：518000 地址：广东省 深圳市 南山区 科技园！！",
+                "深圳市盐田区，大梅沙万科东海岸221栋，周女士13111111111",
+                "联系人手机号码：138 1234 5678；详细地址：上海市浦东新区张江镇#博云路2号@@")),
+        /**
+         * 地区名称有错别字，精确匹配识别不出城市，经模糊匹配纠正
+         */
+        TYPO(ImmutableList.of(
+                "王五 13700137000 九讧市某某路5号",
+                "张三 13800138000 四川省成部市某某路100号",
+                "李四 0755-88888888 深训市科技园1号",
+                "赵六 13900139000 江西省九讧市某某路5号"));
+
+        private final List<String> addresses;
+    }
+
+
+    /**
+     * {@link AddressParser#parseByArea(String)} 的最坏输入：由重名最多的区县名称拼接，每个名称都命中多个节点
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static String worstCaseDistricts(AreaDictionary dictionary, int names) {
+        Map<String, Long> counts = dictionary.getDistricts().stream()
+                .collect(Collectors.groupingBy(AreaNode::getName, Collectors.counting()));
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry::getKey))
+                .limit(names)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.joining("", "", "某某路1号"));
+    }
+}
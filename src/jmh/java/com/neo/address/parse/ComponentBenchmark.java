@@ -0,0 +1,73 @@
+package com.neo.address.parse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 解析各步骤单独的性能：清洗、号码正则、节点匹配及区县逆向解析的最坏情况
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class ComponentBenchmark {
+
+    private AddressParser parser;
+    private String noisy;
+    private String cleaned;
+    private AreaNode district;
+    private String worstCase;
+
+
+    @Setup
+    public void setup() {
+        parser = AddressParse.getParser();
+        noisy = BenchmarkData.Mix.NOISY.getAddresses().get(0);
+        cleaned = parser.cleanAddress(noisy);
+        district = parser.getDictionary().getDistricts().stream()
+                .filter(node -> "龙岗区".equals(node.getName()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        worstCase = BenchmarkData.worstCaseDistricts(parser.getDictionary(), 20);
+    }
+
+
+    @Benchmark
+    public String cleanAddress() {
+        return parser.cleanAddress(noisy);
+    }
+
+
+    @Benchmark
+    public String parseByPattern() {
+        return AddressParser.parseByPattern(AddressParser.PHONE_PATTERN, cleaned);
+    }
+
+
+    @Benchmark
+    public AddressParse.MatchResult match() {
+        return AddressParser.match(district, cleaned);
+    }
+
+
+    @Benchmark
+    public List<ParseResult> parseByAreaWorstCase() {
+        return parser.parseByArea(worstCase);
+    }
+}
@@ -0,0 +1,59 @@
+package com.neo.address.parse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AddressParser#parse(String)} 在不同输入组合下的性能
+ * <p>
+ * fuzzy 对比开启、关闭模糊匹配：精确匹配成功时开启后只多一次是否识别出城市、区县的判断，分配的字节数相同，
+ * 两者的差异应在误差范围内（各模式间方向不一致即为噪声）；TYPO 组合的差值即模糊匹配的开销。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(3)
+public class ParseBenchmark {
+
+    @Param({"FULL", "DISTRICT_ONLY", "NAME_FIRST", "NOISY", "TYPO"})
+    private BenchmarkData.Mix mix;
+
+    @Param({"true", "false"})
+    private boolean fuzzy;
+
+    private AddressParser parser;
+    private List<String> addresses;
+    private int index;
+
+
+    @Setup
+    public void setup() {
+        parser = AddressParse.getParser().withFuzzy(fuzzy);
+        addresses = mix.getAddresses();
+    }
+
+
+    @Benchmark
+    public List<ParseResult> parse() {
+        String address = addresses.get(index);
+        index = index + 1 == addresses.size() ? 0 : index + 1;
+        return parser.parse(address);
+    }
+}
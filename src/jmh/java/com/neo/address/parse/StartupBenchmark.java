@@ -0,0 +1,62 @@
+package com.neo.address.parse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 初始化耗时：每次在新的类加载器中通过 {@link AddressParse#getParser()} 取得默认解析器，包含类加载、字典加载和默认解析器构建
+ * <p>
+ * 字典在第一次取得解析器时才加载，只初始化 {@link AddressParse} 类不会加载字典。
+ * 每个 fork 的第一次测量即冷启动耗时，之后为 JIT 预热后的耗时。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(3)
+public class StartupBenchmark {
+
+    private URL[] classpath;
+
+
+    @Setup
+    public void setup() throws MalformedURLException {
+        String[] entries = System.getProperty("java.class.path").split(File.pathSeparator);
+        classpath = new URL[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            classpath[i] = new File(entries[i]).toURI().toURL();
+        }
+    }
+
+
+    @Benchmark
+    public Object classInitialization() throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(classpath, ClassLoader.getSystemClassLoader().getParent())) {
+            return Class.forName(AddressParse.class.getName(), true, loader).getMethod("getParser").invoke(null);
+        }
+    }
+
+
+    @Benchmark
+    public AreaDictionary dictionaryLoad() {
+        return AreaDictionary.load();
+    }
+}
@@ -0,0 +1,206 @@
+package com.neo.address.parse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 自适应候选顺序：按实际流量中各地区的命中次数调整省份、城市、地区解析策略尝试候选节点的顺序
+ * <p>
+ * 每次解析后，排在第一位的结果所在的区县、城市、省份命中次数加一（{@link AtomicIntegerArray}，无锁）；每记录
+ * {@link AdaptiveOrderOptions#getRepublishInterval()} 次解析，由达到间隔的解析线程按命中次数从高到低重新发布候选顺序，
+ * 次数相同的按序号排列，未命中的节点按序号排在最后。发布的 {@link CandidateOrder} 不可变，每次解析开始时取得当前顺序并在整个解析过程中使用，
+ * 因此同一顺序下解析结果是确定的；顺序不同时，全部候选结果的排列及同一位置命中多个地区时的取舍可能不同。
+ * <p>
+ * 启用缓存时，缓存的结果为首次解析时所用顺序下的结果。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public final class AdaptiveOrder {
+
+    /**
+     * 配置
+     */
+    private final AdaptiveOrderOptions options;
+
+    private final AreaDictionary dictionary;
+
+    private final AreaTable table;
+
+    /**
+     * 参与排序的省市区县节点的序号
+     */
+    private final int[] candidates;
+
+    /**
+     * 各节点的命中次数，下标为序号
+     */
+    private final AtomicIntegerArray hits;
+
+    /**
+     * 已记录的解析次数
+     */
+    private final AtomicLong recorded = new AtomicLong();
+
+    /**
+     * 当前发布的候选顺序，尚未发布时为 null（序号顺序）
+     */
+    private volatile CandidateOrder order;
+
+    /**
+     * 已发布的次数
+     */
+    private volatile long generation;
+
+
+    AdaptiveOrder(AdaptiveOrderOptions options, AreaDictionary dictionary) {
+        this.options = Objects.isNull(options) ? AdaptiveOrderOptions.DEFAULT : options;
+        this.dictionary = dictionary;
+        this.table = dictionary.table();
+        this.hits = new AtomicIntegerArray(table.size());
+
+        int count = 0;
+        int[] candidates = new int[dictionary.getProvinces().size() + dictionary.getCities().size() + dictionary.getDistricts().size()];
+        for (int ordinal = 0; ordinal < table.size() && count < candidates.length; ordinal++) {
+            if (table.level(ordinal) < AreaEnum.TOWN.getCode()) {
+                candidates[count++] = ordinal;
+            }
+        }
+        this.candidates = count == candidates.length ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+
+    /**
+     * 使用新的字典创建，按行政代码保留已记录的命中次数并立即发布
+     */
+    AdaptiveOrder withDictionary(AreaDictionary dictionary) {
+        AdaptiveOrder rebased = new AdaptiveOrder(options, dictionary);
+        for (int ordinal : candidates) {
+            int count = hits.get(ordinal);
+            int target = count > 0 ? rebased.table.indexOf(table.areaCode(ordinal)) : AreaTable.NONE;
+            if (target != AreaTable.NONE && rebased.table.level(target) < AreaEnum.TOWN.getCode()) {
+                rebased.hits.set(target, count);
+            }
+        }
+        rebased.publish(false);
+        return rebased;
+    }
+
+
+    /**
+     * 当前发布的候选顺序，尚未发布时为 null
+     */
+    CandidateOrder current() {
+        return order;
+    }
+
+
+    /**
+     * 记录一次解析：排在第一位的结果所在的区县及其上级命中次数加一，达到发布间隔时重新发布
+     */
+    void record(List<ParseResult> results) {
+        Long areaCode = results.isEmpty() ? null : results.get(0).getAreaCode();
+        int ordinal = Objects.isNull(areaCode) ? AreaTable.NONE : table.indexOf(areaCode);
+        for (int i = ordinal; i != AreaTable.NONE; i = table.parent(i)) {
+            if (table.level(i) < AreaEnum.TOWN.getCode()) {
+                hits.incrementAndGet(i);
+            }
+        }
+        if (recorded.incrementAndGet() % options.republishInterval() == 0) {
+            republish();
+        }
+    }
+
+
+    /**
+     * 立即按当前命中次数重新发布候选顺序，返回顺序是否发生变化；非累计模式下发布后命中次数减半
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public boolean republish() {
+        return publish(!options.isCumulative());
+    }
+
+
+    private synchronized boolean publish(boolean decay) {
+        // (Integer.MAX_VALUE - 命中次数) << 32 | 序号，升序即命中次数降序、序号升序
+        long[] keys = new long[candidates.length];
+        int counted = 0;
+        for (int ordinal : candidates) {
+            int count = decay ? hits.getAndUpdate(ordinal, c -> c >> 1) : hits.get(ordinal);
+            if (count > 0) {
+                keys[counted++] = (long) (Integer.MAX_VALUE - count) << 32 | ordinal;
+            }
+        }
+        Arrays.sort(keys, 0, counted);
+        int[] head = new int[counted];
+        for (int i = 0; i < counted; i++) {
+            head[i] = (int) keys[i];
+        }
+
+        CandidateOrder current = order;
+        if (counted == 0 || (Objects.nonNull(current) && current.startsWith(head, counted))) {
+            return false;
+        }
+        order = CandidateOrder.of(table.size(), head, counted);
+        generation++;
+        return true;
+    }
+
+
+    /**
+     * 当前发布的候选顺序中排在最前面的 k 个节点，即上次发布时命中次数最多的节点；尚未发布时返回空列表
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<AreaNode> getTop(int k) {
+        CandidateOrder current = order;
+        if (Objects.isNull(current)) {
+            return Collections.emptyList();
+        }
+        List<AreaNode> top = new ArrayList<>(Math.min(k, current.counted()));
+        for (int rank = 0; rank < k && rank < current.counted(); rank++) {
+            top.add(dictionary.get(current.ordinal(rank)));
+        }
+        return top;
+    }
+
+
+    /**
+     * 节点当前的命中次数（上次发布减半后的累计值），node 需属于本字典
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public int getHits(AreaNode node) {
+        return hits.get(node.getOrdinal());
+    }
+
+
+    public AdaptiveOrderOptions getOptions() {
+        return options;
+    }
+
+
+    /**
+     * 已记录的解析次数
+     */
+    public long getRecorded() {
+        return recorded.get();
+    }
+
+
+    /**
+     * 已发布的次数，每次候选顺序发生变化时加一
+     */
+    public long getGeneration() {
+        return generation;
+    }
+}
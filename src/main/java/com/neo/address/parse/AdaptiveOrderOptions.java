@@ -0,0 +1,44 @@
+package com.neo.address.parse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 自适应候选顺序配置，见 {@link AdaptiveOrder}
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdaptiveOrderOptions {
+
+    /**
+     * 默认发布间隔：每记录 10000 次解析重新发布一次候选顺序
+     */
+    public static final long DEFAULT_REPUBLISH_INTERVAL = 10_000;
+
+    /**
+     * 默认配置：每 {@link #DEFAULT_REPUBLISH_INTERVAL} 次解析发布一次，发布后命中次数减半
+     */
+    public static final AdaptiveOrderOptions DEFAULT = AdaptiveOrderOptions.builder().build();
+
+    /**
+     * 发布间隔：每记录多少次解析后按命中次数重新发布候选顺序，小于等于 0 时取 {@link #DEFAULT_REPUBLISH_INTERVAL}
+     */
+    private long republishInterval;
+
+    /**
+     * 是否累计全部命中次数；默认每次发布后命中次数减半，使候选顺序跟随近期的流量
+     */
+    private boolean cumulative;
+
+
+    long republishInterval() {
+        return republishInterval > 0 ? republishInterval : DEFAULT_REPUBLISH_INTERVAL;
+    }
+}
@@ -0,0 +1,240 @@
+package com.neo.address.parse;
+
+/**
+ * 解析过程中的地址视图：原地址不变，记录剩余（未被消费）字符在原地址中的位置
+ * <p>
+ * 各解析步骤按视图中的位置查找并消费已识别的区间，代替反复 substring、remove 生成新字符串；
+ * 姓名、详细地址等结果在最后一次性生成。视图本身是 {@link CharSequence}，可直接交给 {@link AreaMatcher} 扫描。
+ * <p>
+ * 实例由 {@link ParseScratch} 按调用深度复用，只在当前线程的单次解析内有效。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class AddressCursor implements CharSequence {
+
+    private String text;
+
+    /**
+     * 视图中第 i 个字符在原地址中的位置，单调递增
+     */
+    private int[] offsets = new int[64];
+
+    private int length;
+
+    /**
+     * 消费次数，用于判断视图是否发生变化
+     */
+    private int modCount;
+
+
+    /**
+     * 以整个地址为视图
+     */
+    AddressCursor reset(String text) {
+        ensureCapacity(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            offsets[i] = i;
+        }
+        this.text = text;
+        this.length = text.length();
+        this.modCount = 0;
+        return this;
+    }
+
+    /**
+     * 以 source 视图的 [from, to) 为视图
+     */
+    AddressCursor reset(AddressCursor source, int from, int to) {
+        ensureCapacity(to - from);
+        System.arraycopy(source.offsets, from, offsets, 0, to - from);
+        this.text = source.text;
+        this.length = to - from;
+        this.modCount = 0;
+        return this;
+    }
+
+    /**
+     * 释放对地址的引用
+     */
+    void clear() {
+        this.text = null;
+        this.length = 0;
+    }
+
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return text.charAt(offsets[index]);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return substring(start, end);
+    }
+
+    int modCount() {
+        return modCount;
+    }
+
+
+    /**
+     * 消费视图中的 [from, to)
+     */
+    void consume(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        System.arraycopy(offsets, to, offsets, from, length - to);
+        length -= to - from;
+        modCount++;
+    }
+
+    /**
+     * 消费视图开头的 count 个字符，超出长度时全部消费，与 StringUtils.substring(address, count) 对应
+     */
+    void consumeHead(int count) {
+        consume(0, Math.min(count, length));
+    }
+
+    /**
+     * 只保留视图末尾的 count 个字符，与 StringUtils.right(address, count) 对应
+     */
+    void keepTail(int count) {
+        consume(0, Math.max(length - count, 0));
+    }
+
+    /**
+     * 消费 [from, to) 内出现的全部 str，返回消费的总长度，与 StringUtils.remove 一致；str 为空或未出现时返回 0
+     */
+    int removeAll(String str, int from, int to) {
+        if (str == null || str.isEmpty()) {
+            return 0;
+        }
+        int index = indexOf(str, from, to);
+        if (index == -1) {
+            return 0;
+        }
+        // 一次遍历压缩位置数组，未出现 str 的部分前移
+        int write = index;
+        int read = index;
+        while (read < to) {
+            if (read + str.length() <= to && regionMatches(read, str)) {
+                read += str.length();
+            } else {
+                offsets[write++] = offsets[read++];
+            }
+        }
+        int removed = to - write;
+        System.arraycopy(offsets, to, offsets, write, length - to);
+        length -= removed;
+        modCount++;
+        return removed;
+    }
+
+    int removeAll(String str) {
+        return removeAll(str, 0, length);
+    }
+
+
+    /**
+     * str 在 [from, to) 内第一次完整出现的位置，未出现返回 -1；与 StringUtils.indexOf 一致，str 为 null 时返回 -1，为空时返回 from
+     */
+    int indexOf(String str, int from, int to) {
+        if (str == null) {
+            return -1;
+        }
+        for (int i = from; i + str.length() <= to; i++) {
+            if (regionMatches(i, str)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean regionMatches(int index, String str) {
+        for (int k = 0; k < str.length(); k++) {
+            if (charAt(index + k) != str.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean contains(String str, int from, int to) {
+        return indexOf(str, from, to) > -1;
+    }
+
+
+    /**
+     * [from, to) 是否全为空白字符，与 StringUtils.isBlank 一致
+     */
+    boolean isBlank(int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * [from, to) 去除首尾控制字符及空格后的字符串，与 StringUtils.trim 一致
+     */
+    String trim(int from, int to) {
+        while (from < to && charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return substring(from, to);
+    }
+
+    String trim() {
+        return trim(0, length);
+    }
+
+
+    /**
+     * [from, to) 对应的字符串，在原地址中连续时直接截取
+     */
+    String substring(int from, int to) {
+        if (from >= to) {
+            return AddressParser.EMPTY;
+        }
+        if (offsets[to - 1] - offsets[from] == to - from - 1) {
+            return text.substring(offsets[from], offsets[to - 1] + 1);
+        }
+        StringBuilder builder = ParseScratch.get().builder();
+        for (int i = from; i < to; i++) {
+            builder.append(charAt(i));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return substring(0, length);
+    }
+
+
+    /**
+     * 位置数组的容量
+     */
+    int capacity() {
+        return offsets.length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (offsets.length < capacity) {
+            offsets = new int[Math.max(capacity, offsets.length << 1)];
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.neo.address.parse;
+
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 地址清洗：不使用正则，在线程内复用的字符缓冲区（{@link ParseScratch}）上完成全部处理，最多产生一个结果字符串
+ * <p>
+ * 处理步骤及结果与原先依次调用 replaceAll 的实现一致：
+ * <ol>
+ *     <li>\r\n、\n、\t 替换为空格，连续多个空格合并为一个</li>
+ *     <li>拼接 3-4-4 格式（先 - 分隔，后空格分隔）的号码</li>
+ *     <li>按配置顺序将去除关键字替换为空格，关键字按字面匹配，靠前的关键字优先</li>
+ *     <li>特殊符号替换为空格</li>
+ * </ol>
+ * 可选地在第一步之前将全角字符转为半角、常见繁体字转为简体（默认关闭，开启后结果会与原实现不同）。
+ * <p>
+ * 实例不可变，可在多线程间共享。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Getter
+public final class AddressNormalizer {
+
+    /**
+     * 特殊符号，与 {@link AddressParser#SPECIAL_SYMBOL_REGEX} 匹配的字符一致
+     */
+    public static final String SPECIAL_SYMBOLS = "!#$&'()*,./:;<=>?@[]^`{|}~"
+            + "—‘’“”…、。【】"
+            + "！（），：；？￥";
+
+    /**
+     * 繁体字与对应的简体字，逐字对应
+     */
+    private static final String TRADITIONAL = "電話號碼聯繫係區縣鄉鎮門樓層棟單園廣東灣臺黃蘇陝貴遼寧龍豐陽華興濟開雲嶺機貨點莊燈橋廠團場蘭齊濱沖隴瀋鐵鳳";
+    private static final String SIMPLIFIED = "电话号码联系系区县乡镇门楼层栋单园广东湾台黄苏陕贵辽宁龙丰阳华兴济开云岭机货点庄灯桥厂团场兰齐滨冲陇沈铁凤";
+
+    private static final boolean[] SYMBOLS = new boolean[Character.MAX_VALUE + 1];
+
+    private static final char[] VARIANTS = new char[Character.MAX_VALUE + 1];
+
+    static {
+        for (int i = 0; i < SPECIAL_SYMBOLS.length(); i++) {
+            SYMBOLS[SPECIAL_SYMBOLS.charAt(i)] = true;
+        }
+
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            VARIANTS[c] = (char) c;
+        }
+        // 全角 ASCII 及全角空格
+        for (char c = '\uFF01'; c <= '\uFF5E'; c++) {
+            VARIANTS[c] = (char) (c - 0xFEE0);
+        }
+        VARIANTS['\u3000'] = ' ';
+        for (int i = 0; i < TRADITIONAL.length(); i++) {
+            VARIANTS[TRADITIONAL.charAt(i)] = SIMPLIFIED.charAt(i);
+        }
+    }
+
+    /**
+     * 去除关键字（只读），空字符串会被忽略
+     */
+    private final List<String> excludeKeys;
+
+    /**
+     * 是否将全角字符转为半角、繁体字转为简体
+     */
+    private final boolean foldVariants;
+
+    /**
+     * 去除关键字匹配器，输出项为关键字下标
+     */
+    @Getter(lombok.AccessLevel.NONE)
+    private final AreaMatcher keywordMatcher;
+
+
+    public AddressNormalizer(List<String> excludeKeys) {
+        this(excludeKeys, false);
+    }
+
+    public AddressNormalizer(List<String> excludeKeys, boolean foldVariants) {
+        this.excludeKeys = ImmutableList.copyOf(excludeKeys);
+        this.foldVariants = foldVariants;
+        this.keywordMatcher = AreaMatcher.of(this.excludeKeys);
+    }
+
+
+    /**
+     * 清洗地址，没有任何改动时返回原字符串
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public String normalize(String address) {
+        if (Objects.isNull(address) || address.isEmpty()) {
+            return address;
+        }
+
+        ParseScratch scratch = ParseScratch.get();
+        char[] buffer = scratch.chars(address.length());
+        boolean changed = false, dash = false, blank = false;
+
+        // 1. 空白字符
+        int length = 0;
+        for (int i = 0; i < address.length(); i++) {
+            char source = address.charAt(i);
+            char c = foldVariants ? VARIANTS[source] : source;
+            if (c == '\r' && i + 1 < address.length() && address.charAt(i + 1) == '\n') {
+                c = ' ';
+                i++;
+            } else if (c == '\n' || c == '\t') {
+                c = ' ';
+            }
+
+            if (c == ' ' && length > 0 && buffer[length - 1] == ' ') {
+                changed = true;
+                continue;
+            }
+            changed |= c != source;
+            dash |= c == '-';
+            blank |= c == ' ';
+            buffer[length++] = c;
+        }
+
+        // 2. 号码拼接
+        if (dash) {
+            length = joinDigits(buffer, length, '-');
+        }
+        if (blank) {
+            length = joinDigits(buffer, length, ' ');
+        }
+        changed |= length != address.length();
+
+        // 3. 去除关键字：依次替换时，靠后的关键字只能命中未被靠前关键字替换的位置，
+        //    同一关键字从左到右不重叠；ends[i] 不为 0 时 [i, ends[i]) 替换为一个空格
+        int[] ends = null;
+        int count = keywordMatcher.scanAll(scratch.charView(length), scratch);
+        if (count > 0) {
+            long[] hits = scratch.raw(count);
+            ends = scratch.ints(length);
+            boolean[] removed = scratch.flags(length);
+            int key = -1, keyEnd = 0;
+            for (int h = 0; h < count; h++) {
+                long hit = hits[h];
+                int k = (int) (hit >>> 32);
+                int start = (int) (hit & Integer.MAX_VALUE);
+                int end = start + excludeKeys.get(k).length();
+                if (k != key) {
+                    key = k;
+                    keyEnd = 0;
+                }
+                if (start < keyEnd || overlaps(removed, start, end)) {
+                    continue;
+                }
+                for (int i = start; i < end; i++) {
+                    removed[i] = true;
+                }
+                ends[start] = end;
+                keyEnd = end;
+                changed = true;
+            }
+        }
+
+        // 4. 特殊符号，同时输出去除关键字后的结果
+        int output = 0;
+        for (int i = 0; i < length; ) {
+            if (Objects.nonNull(ends) && ends[i] > 0) {
+                int end = ends[i];
+                buffer[output++] = ' ';
+                i = end;
+                continue;
+            }
+            char c = buffer[i++];
+            if (SYMBOLS[c]) {
+                c = ' ';
+                changed = true;
+            }
+            buffer[output++] = c;
+        }
+
+        return changed ? new String(buffer, 0, output) : address;
+    }
+
+
+    /**
+     * 按正则 (\d{3})S(\d{4})S(\d{4}) 从左到右不重叠地查找并去掉分隔符 S，原地修改，返回新长度
+     */
+    private static int joinDigits(char[] buffer, int length, char separator) {
+        int output = 0;
+        for (int i = 0; i < length; ) {
+            if (i + 13 <= length && buffer[i + 3] == separator && buffer[i + 8] == separator
+                    && digits(buffer, i, 3) && digits(buffer, i + 4, 4) && digits(buffer, i + 9, 4)) {
+                System.arraycopy(buffer, i, buffer, output, 3);
+                System.arraycopy(buffer, i + 4, buffer, output + 3, 4);
+                System.arraycopy(buffer, i + 9, buffer, output + 7, 4);
+                output += 11;
+                i += 13;
+            } else {
+                buffer[output++] = buffer[i++];
+            }
+        }
+        return output;
+    }
+
+
+    private static boolean overlaps(boolean[] removed, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (removed[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private static boolean digits(char[] buffer, int from, int count) {
+        for (int i = from; i < from + count; i++) {
+            if (buffer[i] < '0' || buffer[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,35 +1,36 @@
 package com.neo.address.parse;
 
-import cn.hutool.core.collection.CollectionUtil;
-import cn.hutool.core.io.FileUtil;
 import cn.hutool.core.lang.Pair;
-import com.google.common.base.Splitter;
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
-import com.google.common.reflect.TypeToken;
-import com.google.gson.Gson;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Matcher;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 
 /**
  * 收货地址智能解析主类
+ * <p>
+ * 静态方法委托给默认的 {@link AddressParser} 实例，需要多份字典或自定义配置时可直接创建 {@link AddressParser}。
+ * <p>
+ * 默认解析器在首次使用时加载地区数据，加载失败抛出 IllegalStateException 且下次使用时重试；
+ * 可在应用启动时调用 {@link #warmUp()} 在后台加载。分片模式（{@link #useShards(AreaShards)} 或系统属性 {@link #SHARDED_PROPERTY}）
+ * 下只常驻省份节点，静态解析方法按地址中出现的地区名称加载所属省份的分片，见 {@link AreaShards}。
  *
  * @author Neo
  * @since 2022/6/24 10:50
@@ -39,312 +40,579 @@ public class AddressParse {
 
     /**
      * 自定义去除关键字，可自行添加
+     * <p>
+     * 默认解析器创建时复制该列表，运行期修改后需通过 {@link #setParser(AddressParser)} 替换默认解析器才会生效
      */
-    public static final List<String> EXCLUDE_KEYS = Lists.newArrayList("详细地址", "收货地址", "收件地址", "地址", "所在地区", "地区",
-            "姓名", "收货人", "收件人", "联系人", "收", "邮编",
-            "联系电话", "联系电話", "电话", "电話", "联系人手机号码", "手机号码", "手机号",
-            "自治区直辖县级行政区划", "省直辖县级行政区划");
+    public static final List<String> EXCLUDE_KEYS = Lists.newArrayList(AddressParser.DEFAULT_EXCLUDE_KEYS);
 
     /**
      * 特殊符号正则
      */
-    public static final String SPECIAL_SYMBOL_REGEX = "[`~!@#$^&*()=|{}':;',\\[\\]\\.<>/?~！@#￥……&*（）——|{}【】‘；：”“’。，、？]";
+    public static final String SPECIAL_SYMBOL_REGEX = AddressParser.SPECIAL_SYMBOL_REGEX;
     /**
      * 手机号正则
      */
-    public static final Pattern MOBILE_PATTERN = Pattern.compile("(86-[1][3-9][0-9]{9})|(86[1][3-9][0-9]{9})|([1][3-9][0-9]{9})");
+    public static final Pattern MOBILE_PATTERN = AddressParser.MOBILE_PATTERN;
     /**
      * 电话号码正则
      */
-    public static final Pattern PHONE_PATTERN = Pattern.compile("(([0-9]{3,4}-)[0-9]{7,8})|([0-9]{12})|([0-9]{11})|([0-9]{10})|([0-9]{9})|([0-9]{8})|([0-9]{7})");
+    public static final Pattern PHONE_PATTERN = AddressParser.PHONE_PATTERN;
     /**
      * 邮编正则
      */
-    public static final Pattern ZIP_CODE_PATTERN = Pattern.compile("([0-9]{6})");
+    public static final Pattern ZIP_CODE_PATTERN = AddressParser.ZIP_CODE_PATTERN;
 
     /**
      * 省市区县数据文件路径（根据实际情况调整）
      */
     public static final String FILE_PATH = "/address-parse/china-area.json";
 
-    public static final String EMPTY = "", BLANK = " ";
+    /**
+     * 构建期由 {@link #FILE_PATH} 编译生成的二进制快照路径，不存在时回退到 JSON 文件
+     */
+    public static final String SNAPSHOT_PATH = "/address-parse/china-area.bin";
 
-    public static List<AreaTree> PROVINCE_LIST, CITY_LIST, AREA_LIST;
+    /**
+     * 包含乡镇、村的扩展数据文件路径，存在时替代 {@link #FILE_PATH}，默认不提供
+     */
+    public static final String EXTENDED_FILE_PATH = "/address-parse/china-area-extended.json";
 
+    /**
+     * 扩展数据的二进制快照路径，可通过 {@link AreaSnapshot#main(String[])} 生成
+     */
+    public static final String EXTENDED_SNAPSHOT_PATH = "/address-parse/china-area-extended.bin";
 
-    static {
-        Stopwatch stopwatch = Stopwatch.createStarted();
-        List<String> lines = FileUtil.readUtf8Lines(AddressParse.class.getResource(FILE_PATH));
-        String file = String.join(EMPTY, lines);
+    /**
+     * 构建期由 {@link #FILE_PATH} 按省份生成的分片目录，分片模式下使用，见 {@link AreaShards}
+     */
+    public static final String SHARDS_PATH = "/address-parse/shards/";
 
-        Gson gson = new Gson();
-        List<AreaTree> areas = gson.fromJson(file, new TypeToken<List<AreaTree>>() {}.getType());
-        Iterator<AreaTree> iterator = areas.iterator();
-        while (iterator.hasNext()) {
-            AreaTree next = iterator.next();
-            if (AreaEnum.CITY.getCode().equals(next.getLevel()) || AreaEnum.DISTRICT.getCode().equals(next.getLevel())) {
-                if (StringUtils.length(next.getName()) <= 2) {
-                    iterator.remove();
-                }
-                if (StringUtils.equals(next.getName(), "市辖区")) {
-                    iterator.remove();
-                }
-            }
-        }
+    /**
+     * 系统属性：为 true 时默认解析器以分片模式初始化，只常驻省份节点，其余按需加载
+     */
+    public static final String SHARDED_PROPERTY = "address-parse.sharded";
+
+    public static final String EMPTY = AddressParser.EMPTY, BLANK = AddressParser.BLANK;
+
+    /**
+     * 加载得到的省、市、区县、乡镇、村节点的只读视图，仅为兼容保留并随重新加载更新，解析引擎使用 {@link AreaDictionary} 中的不可变节点；
+     * 未加载扩展数据时乡镇、村为空列表，分片模式下只包含已加载的节点
+     * <p>
+     * 与早期版本不兼容：不再是可修改的 ArrayList，修改列表或节点时抛出 {@link UnsupportedOperationException}；
+     * 元素在每次读取时创建，需按行政代码而非引用比较；默认解析器首次初始化前为 null。
+     *
+     * @deprecated 使用 {@link #getAreaList(AreaEnum)}，未初始化时会先加载地区数据
+     */
+    @Deprecated
+    public static List<AreaTree> PROVINCE_LIST, CITY_LIST, AREA_LIST, TOWN_LIST, VILLAGE_LIST;
 
-        areas = TreeUtils.buildPath(areas, o -> Objects.equals(o.getParentCode(), 0L));
-        Map<Integer, List<AreaTree>> areaMapping = areas.stream().collect(Collectors.groupingBy(AreaTree::getLevel));
+    /**
+     * 默认解析器，首次使用或 {@link #warmUp()} 时初始化，重新加载时整体替换；解析过程中只读取一次，不会看到新旧字典混用的中间状态
+     */
+    private static final AtomicReference<AddressParser> PARSER = new AtomicReference<>();
 
-        PROVINCE_LIST = areaMapping.get(AreaEnum.PROVINCE.getCode());
-        CITY_LIST = areaMapping.get(AreaEnum.CITY.getCode());
-        AREA_LIST = areaMapping.get(AreaEnum.DISTRICT.getCode());
+    /**
+     * 只串行化初始化和重新加载本身，解析不加锁；同一时刻最多存在新旧两份字典
+     */
+    private static final Lock RELOAD_LOCK = new ReentrantLock();
 
-        log.info("地址解析器初始化耗时：{} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
-    }
+    /**
+     * 分片模式下的地区数据，非分片模式为 null
+     */
+    private static volatile AreaShards SHARDS;
+
+    /**
+     * 进行中或已完成的预热，失败后允许再次预热
+     */
+    private static final AtomicReference<CompletableFuture<AddressParser>> WARM_UP = new AtomicReference<>();
 
 
     /**
-     * 解析主入口
+     * 获取默认解析器，尚未初始化时在当前线程加载地区数据
+     * <p>
+     * 分片模式下返回的解析器只包含已加载的省份，需要识别某个地址时使用 {@link #getParser(String)}。
      *
+     * @throws IllegalStateException 地区数据加载失败，下次调用时重试
      * @author Neo
-     * @since 2021/3/25 14:44
+     * @since 2026/10/16
      */
-    public static List<ParseResult> parse(String address) {
-        if (StringUtils.isBlank(address)) {
-            return Collections.EMPTY_LIST;
-        }
+    public static AddressParser getParser() {
+        AddressParser parser = PARSER.get();
+        return Objects.isNull(parser) ? initialize() : parser;
+    }
 
-        // 地址清洗
-        address = cleanAddress(address);
 
-        // 提取手机号
-        String mobile = parseByPattern(MOBILE_PATTERN, address);
-        address = StringUtils.replace(address, mobile, BLANK);
+    /**
+     * 默认解析器中某一层级节点的只读 {@link AreaTree} 视图，尚未初始化时在当前线程加载地区数据；分片模式下只包含已加载的节点
+     *
+     * @throws IllegalStateException 地区数据加载失败，下次调用时重试
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static List<AreaTree> getAreaList(AreaEnum level) {
+        return getParser().getDictionary().table().trees(level);
+    }
 
-        // 提取电话号码
-        String phone = parseByPattern(PHONE_PATTERN, address);
-        address = StringUtils.replace(address, phone, BLANK);
 
-        // 提取邮编
-        String zipCode = parseByPattern(ZIP_CODE_PATTERN, address);
-        address = StringUtils.replace(address, zipCode, BLANK);
+    /**
+     * 获取可解析该地址的默认解析器：分片模式下先加载地址中出现的地区所属的省份，非分片模式与 {@link #getParser()} 相同
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AddressParser getParser(String address) {
+        AddressParser parser = getParser();
+        AreaShards shards = SHARDS;
+        if (Objects.isNull(shards)) {
+            return parser;
+        }
+        shards.loadFor(address);
+        return parser.getDictionary() == shards.getDictionary() ? parser : publish(shards);
+    }
 
-        // 提取名字
-        Pair<String, String> nameInfo = parseName(EMPTY, address);
-        address = nameInfo.getValue();
 
-        List<ParseResult> results = parseArea(address);
+    /**
+     * 替换默认解析器，同时退出分片模式
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static void setParser(AddressParser parser) {
+        Objects.requireNonNull(parser, "parser");
+        RELOAD_LOCK.lock();
+        try {
+            SHARDS = null;
+            PARSER.set(parser);
+        } finally {
+            RELOAD_LOCK.unlock();
+        }
+    }
 
 
-        for (ParseResult r : results) {
-            r.setMobile(mobile);
-            r.setPhone(phone);
-            r.setZipCode(StringUtils.isBlank(r.getZipCode()) ? zipCode : r.getZipCode());
-            r.setName(StringUtils.isBlank(r.getName()) ? nameInfo.getKey() : r.getName());
+    /**
+     * 以分片模式使用地区数据：默认解析器改用 shards 中已加载的数据，解析时按地址中出现的地区加载所属省份的分片
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AddressParser useShards(AreaShards shards) {
+        Objects.requireNonNull(shards, "shards");
+        RELOAD_LOCK.lock();
+        try {
+            SHARDS = shards;
+            return publish(shards);
+        } finally {
+            RELOAD_LOCK.unlock();
         }
+    }
+
 
-        if (CollectionUtils.isEmpty(results)) {
-            nameInfo = parseName(EMPTY, address);
-            results.add(ParseResult.builder().name(nameInfo.getKey()).address(nameInfo.getValue()).build());
+    /**
+     * 在后台线程初始化默认解析器，分片模式下同时加载全部分片，返回完成时的默认解析器
+     * <p>
+     * 可在应用启动时调用而不阻塞启动过程，通过返回的 future 注册就绪回调；预热期间的解析照常进行，
+     * 未初始化时由解析线程自行加载。重复调用返回同一个 future，失败后再次调用会重新预热。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static CompletableFuture<AddressParser> warmUp() {
+        CompletableFuture<AddressParser> current = WARM_UP.get();
+        if (Objects.nonNull(current) && !current.isCompletedExceptionally()) {
+            return current;
+        }
+        CompletableFuture<AddressParser> future = new CompletableFuture<>();
+        if (!WARM_UP.compareAndSet(current, future)) {
+            return WARM_UP.get();
         }
 
-        return results;
+        Thread thread = new Thread(() -> {
+            try {
+                AddressParser parser = getParser();
+                AreaShards shards = SHARDS;
+                if (Objects.nonNull(shards)) {
+                    Stopwatch stopwatch = Stopwatch.createStarted();
+                    shards.loadAll();
+                    parser = publish(shards);
+                    log.info("地区数据分片预热完成：{}，耗时：{} ms", shards, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+                }
+                future.complete(parser);
+            } catch (Throwable e) {
+                log.error("地址解析器预热失败", e);
+                future.completeExceptionally(e);
+            }
+        }, "address-parse-warm-up");
+        thread.setDaemon(true);
+        thread.start();
+        return future;
     }
 
 
-    public static List<ParseResult> parseArea(String address) {
-        List<ParseResult> results = new ArrayList<>();
-        if (StringUtils.isBlank(address)) {
-            return results;
-        }
+    /**
+     * 默认解析器是否已初始化，且无需再加载数据（非分片模式，或分片已全部加载）
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static boolean isReady() {
+        AreaShards shards = SHARDS;
+        return Objects.nonNull(PARSER.get()) && (Objects.isNull(shards) || shards.isComplete());
+    }
 
-        // 清除两个以上的空格
-        address = address.replaceAll(" {2,}", BLANK);
 
-        // 正向解析
-        results.addAll(parseByProvince(address));
+    /**
+     * 重新加载 classpath 中的默认地区数据，存在扩展数据时加载扩展数据；分片模式下加载完整数据并退出分片模式
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static ReloadResult reload() {
+        try {
+            return reload(SNAPSHOT_PATH, AreaLoader::loadDefault);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        // 通过城市逆向解析
-        results.addAll(parseByCity(address));
 
-        //通过地区逆向解析
-        results.addAll(parseByArea(address));
+    /**
+     * 重新加载文件系统中的地区数据，按内容识别快照或 JSON，扩展名为 .gz 时先按 gzip 解压；分片模式下退出分片模式
+     * <p>
+     * 新字典在旁路构建完成后原子替换默认解析器，进行中的解析继续使用旧字典直至结束；加载失败时保持原字典不变。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static ReloadResult reload(Path path) throws IOException {
+        return reload(path.toString(), () -> AreaLoader.load(path));
+    }
 
 
-        return results;
+    /**
+     * 重新加载数据来源中的地区数据，如 gzip 压缩的 JSON 或自定义来源；分片模式下退出分片模式，其他同 {@link #reload(Path)}
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static ReloadResult reload(AreaSource source) throws IOException {
+        return reload(source.toString(), () -> AreaLoader.load(source));
     }
 
+
     /**
-     * 通过地区逆向解析
+     * 监听地区数据文件，文件变化后自动重新加载，关闭返回的监听器即停止监听
      *
      * @author Neo
-     * @since 2021/3/25 9:29
+     * @since 2026/10/16
      */
-    public static List<ParseResult> parseByArea(String addressBase) {
-        List<ParseResult> results = new ArrayList<>();
-        ParseResult result;
-        String address = addressBase;
-        for (AreaTree area : AREA_LIST) {
-            if (StringUtils.length(area.getName()) < 2) {
-                continue;
-            }
-            MatchResult match = match(area, address);
-            if (!match.isMatch()) {
-                continue;
+    public static AreaDictionaryWatcher watch(Path path) throws IOException {
+        return new AreaDictionaryWatcher(path, file -> {
+            try {
+                reload(file);
+            } catch (IOException e) {
+                log.error("地区数据 {} 重新加载失败，继续使用当前字典", file, e);
             }
+        });
+    }
 
-            result = new ParseResult();
-            result.setProvince(area.getParent().getParent().getName());
-            result.setCity(area.getParent().getName());
-            result.setArea(area.getName());
-            result.setZipCode(area.getZipCode());
-            result.setType(AreaEnum.DISTRICT);
-
-            // 左侧排除省份城市名剩下的内容识别为姓名
-            String leftAddress = StringUtils.left(address, match.getIndex());
-            MatchResult provinceMatch = null, cityMatch = null;
-            if (StringUtils.isNotBlank(leftAddress)) {
-                provinceMatch = match(area.getParent().getParent(), leftAddress);
-                leftAddress = provinceMatch.isMatch() ? StringUtils.remove(leftAddress, provinceMatch.getMatchName()) : leftAddress;
-            }
 
-            if (StringUtils.isNotBlank(leftAddress)) {
-                cityMatch = match(area.getParent(), leftAddress);
-                leftAddress = cityMatch.isMatch() ? StringUtils.remove(leftAddress, cityMatch.getMatchName()) : leftAddress;
+    /**
+     * 首次使用时加载地区数据，系统属性 {@link #SHARDED_PROPERTY} 为 true 时加载 {@link #SHARDS_PATH} 下的分片；
+     * 失败时抛出 IllegalStateException 且不保留状态，下次调用重试
+     */
+    private static AddressParser initialize() {
+        RELOAD_LOCK.lock();
+        try {
+            AddressParser parser = PARSER.get();
+            if (Objects.nonNull(parser)) {
+                return parser;
             }
-
-            if (StringUtils.isNotBlank(leftAddress)) {
-                result.setName(StringUtils.trim(leftAddress));
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            Object event = ParseEvents.beginLoad();
+            boolean sharded = Boolean.getBoolean(SHARDED_PROPERTY);
+            try {
+                if (sharded) {
+                    AreaShards shards = AreaShards.classpath(SHARDS_PATH);
+                    SHARDS = shards;
+                    parser = publish(shards);
+                } else {
+                    parser = publish(AreaLoader.loadDefault());
+                }
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalStateException("地址解析器初始化失败", e);
             }
+            ParseEvents.commitLoad(event, sharded ? SHARDS_PATH : SNAPSHOT_PATH, parser.getDictionary().size(), false);
+            log.info("地址解析器初始化耗时：{} ms", stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            return parser;
+        } finally {
+            RELOAD_LOCK.unlock();
+        }
+    }
 
-            // 出现同省地区匹配错误处理，广东省惠来县惠城镇 如不经处理匹配到 广东省惠州市惠城区
-            if (Objects.nonNull(provinceMatch) && Objects.nonNull(cityMatch)
-                    && StringUtils.isNotBlank(provinceMatch.getMatchName()) && StringUtils.isNotBlank(cityMatch.getMatchName())) {
-                List<ParseResult> tempResult = parseByArea(StringUtils.left(address, match.getIndex()));
-                if (CollectionUtils.isNotEmpty(tempResult)) {
-                    result = ParseResult.assign(result, CollectionUtil.getFirst(tempResult.iterator()));
-                    address = StringUtils.right(address, match.getIndex());
 
+    private static ReloadResult reload(String source, SnapshotSupplier supplier) throws IOException {
+        RELOAD_LOCK.lock();
+        try {
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            Object event = ParseEvents.beginLoad();
+            AddressParser previous = PARSER.get();
+            AddressParser current = publish(AreaDictionary.of(supplier.get()));
+            SHARDS = null;
+            ParseEvents.commitLoad(event, source, current.getDictionary().size(), true);
+
+            ReloadResult result = ReloadResult.builder()
+                    .source(source)
+                    .version(current.getDictionary().getVersion())
+                    .generation(current.getDictionary().getGeneration())
+                    .previousVersion(Objects.isNull(previous) ? null : previous.getDictionary().getVersion())
+                    .size(current.getDictionary().size())
+                    .duration(stopwatch.elapsed(TimeUnit.MILLISECONDS))
+                    .build();
+            log.info("地区数据重新加载完成：{}", result);
+            return result;
+        } finally {
+            RELOAD_LOCK.unlock();
+        }
+    }
 
-                    if (StringUtils.isBlank(result.getArea())) {
-                        address = parseAreaByCity(area.getParent(), result, address);
-                    }
-                }
-            }
 
-            if (StringUtils.isNotBlank(result.getProvince()) && StringUtils.isNotBlank(result.getCity()) && StringUtils.isNotBlank(result.getArea())) {
-                address = StringUtils.substring(address, match.getIndex() + match.getMatchNameLength());
-                result.setDetail(StringUtils.trim(address));
-                results.add(result);
-                break;
+    private static AddressParser publish(AreaSnapshot snapshot) {
+        return publish(AreaDictionary.of(snapshot));
+    }
+
+
+    /**
+     * 发布分片当前的字典，已退出分片模式或已是最新字典时返回当前默认解析器
+     */
+    private static AddressParser publish(AreaShards shards) {
+        RELOAD_LOCK.lock();
+        try {
+            AddressParser current = PARSER.get();
+            if (SHARDS != shards || (Objects.nonNull(current) && current.getDictionary() == shards.getDictionary())) {
+                return current;
             }
+            return publish(shards.getDictionary());
+        } finally {
+            RELOAD_LOCK.unlock();
         }
+    }
+
 
-        return results;
+    private static AddressParser publish(AreaDictionary dictionary) {
+        AddressParser previous = PARSER.get();
+        AddressParser current = Objects.isNull(previous)
+                ? new AddressParser(dictionary, EXCLUDE_KEYS)
+                : previous.withDictionary(dictionary);
+
+        PARSER.set(current);
+        AreaTable table = dictionary.table();
+        PROVINCE_LIST = table.trees(AreaEnum.PROVINCE);
+        CITY_LIST = table.trees(AreaEnum.CITY);
+        AREA_LIST = table.trees(AreaEnum.DISTRICT);
+        TOWN_LIST = table.trees(AreaEnum.TOWN);
+        VILLAGE_LIST = table.trees(AreaEnum.VILLAGE);
+        return current;
     }
 
 
     /**
-     * 通过城市逆向解析
+     * 可解析全部地址的默认解析器，分片模式下预先扫描地址，一次加载出现的地区所属的全部省份
+     */
+    private static AddressParser getParser(Collection<String> addresses) {
+        AddressParser parser = getParser();
+        AreaShards shards = SHARDS;
+        if (Objects.isNull(shards)) {
+            return parser;
+        }
+        shards.loadFor(addresses);
+        return parser.getDictionary() == shards.getDictionary() ? parser : publish(shards);
+    }
+
+
+    /**
+     * 可解析该省份下地址的默认解析器，分片模式下先加载该省份
+     */
+    private static AddressParser getParser(AreaTree province) {
+        AddressParser parser = getParser();
+        AreaShards shards = SHARDS;
+        if (Objects.isNull(shards) || Objects.isNull(province.getAreaCode())) {
+            return parser;
+        }
+        try {
+            shards.load(province.getAreaCode());
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("地区数据分片 {} 加载失败，继续使用当前字典", province.getAreaCode(), e);
+        }
+        return parser.getDictionary() == shards.getDictionary() ? parser : publish(shards);
+    }
+
+
+    /**
+     * 分片模式下加载全部分片后的默认解析器，用于无法预先扫描地址的流式解析
+     */
+    private static AddressParser getCompleteParser() throws IOException {
+        AddressParser parser = getParser();
+        AreaShards shards = SHARDS;
+        if (Objects.isNull(shards)) {
+            return parser;
+        }
+        shards.loadAll();
+        return parser.getDictionary() == shards.getDictionary() ? parser : publish(shards);
+    }
+
+
+    @FunctionalInterface
+    private interface SnapshotSupplier {
+        AreaSnapshot get() throws IOException;
+    }
+
+
+    /**
+     * 解析主入口
      *
      * @author Neo
-     * @since 2021/3/25 9:19
+     * @since 2021/3/25 14:44
      */
-    public static List<ParseResult> parseByCity(String addressBase) {
-        List<ParseResult> results = new ArrayList<>();
-        ParseResult result;
-        String address = addressBase;
-        for (AreaTree city : CITY_LIST) {
-            // 排除重庆市下的 500200:县
-            if (StringUtils.length(city.getName()) < 2) {
-                continue;
-            }
-            MatchResult match = match(city, address);
-            if (!match.isMatch()) {
-                continue;
-            }
+    public static List<ParseResult> parse(String address) {
+        return getParser(address).parse(address);
+    }
 
-            result = new ParseResult();
-            result.setProvince(city.getParent().getName());
-            result.setCity(city.getName());
-            result.setZipCode(city.getZipCode());
-            result.setType(AreaEnum.CITY);
-
-            // 将城市左侧的部分排除省份后剩下的内容识别为姓名
-            String leftAddress = StringUtils.left(address, match.getIndex());
-            if (StringUtils.isNotBlank(leftAddress)) {
-                if (StringUtils.contains(leftAddress, city.getParent().getName())) {
-                    leftAddress = StringUtils.remove(leftAddress, city.getParent().getName());
-                } else {
-                    leftAddress = StringUtils.remove(leftAddress, city.getParent().getShortName());
-                }
-                if (StringUtils.isNotBlank(leftAddress)) {
-                    result.setName(StringUtils.trim(leftAddress));
-                }
-            }
-            address = StringUtils.substring(address, match.getIndex() + (match.isShortMatch()?match.getMatchShortNameLength(): match.getMatchNameLength()));
 
-            address = parseAreaByCity(city, result, address);
+    /**
+     * 解析并只返回置信度最高的一个结果
+     *
+     * @author Neo
+     * @since 2026/10/16
+     * @see AddressParser#parseBest(String)
+     */
+    public static ParseResult parseBest(String address) {
+        return getParser(address).parseBest(address);
+    }
+
 
-            result.setDetail(StringUtils.trim(address));
+    /**
+     * 解析并返回置信度最高的 k 个结果
+     *
+     * @author Neo
+     * @since 2026/10/16
+     * @see AddressParser#parseTop(String, int)
+     */
+    public static List<ParseResult> parseTop(String address, int k) {
+        return getParser(address).parseTop(address, k);
+    }
 
-            if (StringUtils.isNotBlank(result.getProvince()) && StringUtils.isNotBlank(result.getCity())) {
-                results.add(result);
-            }
 
-        }
-        return results;
+    /**
+     * 批量解析，结果与输入顺序一致
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static List<List<ParseResult>> parseAll(Collection<String> addresses) {
+        return getParser(addresses).parseAll(addresses);
     }
 
 
     /**
-     * 解析省份
+     * 批量解析，结果与输入顺序一致
      *
      * @author Neo
-     * @since 2021/3/24 16:55
+     * @since 2026/10/16
      */
-    public static List<ParseResult> parseByProvince(String addressBase) {
-        List<ParseResult> results = new ArrayList<>();
-        ParseResult result;
-        String address = addressBase;
+    public static List<List<ParseResult>> parseAll(Collection<String> addresses, BatchOptions options) {
+        return getParser(addresses).parseAll(addresses, options);
+    }
 
-        for (AreaTree province : PROVINCE_LIST) {
-            result = new ParseResult();
-            MatchResult match = match(province, address);
 
-            if (match.isMatch()) {
-                result.setProvince(province.getName());
-                result.setZipCode(province.getZipCode());
-                result.setType(AreaEnum.PROVINCE);
+    /**
+     * 批量解析，通过回调逐条输出结果
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static void parseAll(Collection<String> addresses, BatchOptions options, BatchCallback callback) {
+        getParser(addresses).parseAll(addresses, options, callback);
+    }
 
-                address = StringUtils.remove(address, match.getMatchName());
-            }
 
+    /**
+     * 异步解析，使用默认配置
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static CompletableFuture<List<ParseResult>> parseAsync(String address) {
+        return getParser(address).parseAsync(address);
+    }
 
-            // 如果省份不是第一位 在省份之前的字段识别为名称
-            if (match.getIndex() > 0) {
-                result.setName(StringUtils.trim(StringUtils.substring(address, 0, match.getIndex())));
-                address = StringUtils.remove(address, result.getName());
-            }
 
-            if (StringUtils.isNotBlank(result.getProvince())) {
-                address = parseCityByProvince(province, result, address);
-            }
+    /**
+     * 异步解析
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static CompletableFuture<List<ParseResult>> parseAsync(String address, AsyncOptions options) {
+        return getParser(address).parseAsync(address, options);
+    }
 
-            if (StringUtils.isNotBlank(result.getProvince())) {
-                address = parseAreaByProvince(province, result, address);
-            }
 
-            if (StringUtils.isNotBlank(result.getZipCode())) {
-                result.setDetail(StringUtils.trim(address));
-            }
+    /**
+     * 批量异步解析，结果与输入顺序一致
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static CompletableFuture<List<List<ParseResult>>> parseAllAsync(Collection<String> addresses, AsyncOptions options) {
+        return getParser(addresses).parseAllAsync(addresses, options);
+    }
 
-            if (StringUtils.isNotBlank(result.getProvince())) {
-                results.add(result);
-            }
-        }
 
-        return results;
+    /**
+     * 流式解析按行分隔的地址文件，分片模式下先加载全部分片
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static StreamProgress parseFile(Path path, StreamOptions options, ParseSink sink) throws IOException {
+        return getCompleteParser().parseFile(path, options, sink);
+    }
+
+
+    public static List<ParseResult> parseArea(String address) {
+        return getParser(address).parseArea(address);
+    }
+
+    /**
+     * 通过地区逆向解析
+     *
+     * @author Neo
+     * @since 2021/3/25 9:29
+     */
+    public static List<ParseResult> parseByArea(String addressBase) {
+        return getParser(addressBase).parseByArea(addressBase);
+    }
+
+
+    /**
+     * 通过城市逆向解析
+     *
+     * @author Neo
+     * @since 2021/3/25 9:19
+     */
+    public static List<ParseResult> parseByCity(String addressBase) {
+        return getParser(addressBase).parseByCity(addressBase);
+    }
+
+
+    /**
+     * 解析省份
+     *
+     * @author Neo
+     * @since 2021/3/24 16:55
+     */
+    public static List<ParseResult> parseByProvince(String addressBase) {
+        return getParser(addressBase).parseByProvince(addressBase);
     }
 
     /**
@@ -354,21 +622,9 @@ public class AddressParse {
      * @since 2021/3/24 16:59
      */
     public static String parseAreaByProvince(AreaTree province, ParseResult result, String address) {
-        for (AreaTree city : province.getChildren()) {
-            for (AreaTree area : city.getChildren()) {
-                MatchResult match = match(area, address);
-                if (!match.isMatch() || match.getIndex() > 5) {
-                    continue;
-                }
-
-                result.setCity(city.getName());
-                result.setArea(area.getName());
-                result.setZipCode(area.getZipCode());
-
-                address = StringUtils.substring(address, match.getIndex() + match.getMatchNameLength());
-            }
-        }
-        return address;
+        AddressParser current = getParser(province);
+        AreaNode node = current.getDictionary().findByAreaCode(province.getAreaCode());
+        return Objects.isNull(node) ? address : current.parseAreaByProvince(node, result, address);
     }
 
 
@@ -379,20 +635,9 @@ public class AddressParse {
      * @since 2021/3/24 16:54
      */
     public static String parseCityByProvince(AreaTree province, ParseResult result, String address) {
-        for (AreaTree city : province.getChildren()) {
-            MatchResult match = match(city, address);
-            if (!match.isMatch()) {
-                continue;
-            }
-
-            result.setCity(city.getName());
-            result.setZipCode(city.getZipCode());
-
-            address = StringUtils.remove(address, match.getMatchName());
-            address = parseAreaByCity(city, result, address);
-        }
-
-        return address;
+        AddressParser current = getParser(province);
+        AreaNode node = current.getDictionary().findByAreaCode(province.getAreaCode());
+        return Objects.isNull(node) ? address : current.parseCityByProvince(node, result, address);
     }
 
 
@@ -403,18 +648,10 @@ public class AddressParse {
      * @since 2021/3/24 16:49
      */
     public static String parseAreaByCity(AreaTree city, ParseResult result, String address) {
-        for (AreaTree area : city.getChildren()) {
-            MatchResult match = match(area, address);
-            if (!match.isMatch()) {
-                continue;
-            }
-
-            result.setArea(match.getMatchName());
-            result.setZipCode(area.getZipCode());
-
-            address = StringUtils.remove(address, match.getMatchName());
-        }
-        return address;
+        // 分片模式下按城市名称加载所属省份
+        AddressParser current = getParser(city.getName());
+        AreaNode node = current.getDictionary().findByAreaCode(city.getAreaCode());
+        return Objects.isNull(node) ? address : current.parseAreaByCity(node, result, address);
     }
 
 
@@ -425,22 +662,7 @@ public class AddressParse {
      * @since 2021/3/24 15:44
      */
     public static String cleanAddress(String address) {
-        address = address.replaceAll("\\r\\n", BLANK)
-                .replaceAll("\\n", BLANK)
-                .replaceAll("\\t", BLANK)
-                .replaceAll(" {2,}", BLANK)
-                .replaceAll("(\\d{3})-(\\d{4})-(\\d{4})", "$1$2$3")
-                .replaceAll("(\\d{3}) (\\d{4}) (\\d{4})", "$1$2$3")
-        ;
-
-
-        for (String search : EXCLUDE_KEYS) {
-            address = address.replaceAll(search, BLANK);
-        }
-
-        address = address.replaceAll(SPECIAL_SYMBOL_REGEX, BLANK);
-
-        return address;
+        return getParser().cleanAddress(address);
     }
 
 
@@ -451,11 +673,7 @@ public class AddressParse {
      * @since 2021/3/24 15:45
      */
     public static String parseByPattern(Pattern pattern, String address) {
-        if (Objects.isNull(pattern) || StringUtils.isBlank(address)) {
-            return EMPTY;
-        }
-        Matcher matcher = pattern.matcher(address);
-        return matcher.find() ? matcher.group(0) : EMPTY;
+        return AddressParser.parseByPattern(pattern, address);
     }
 
 
@@ -466,26 +684,7 @@ public class AddressParse {
      * @since 2021/3/24 15:45
      */
     public static Pair<String, String> parseName(String name, String address) {
-        if (StringUtils.isNotBlank(name)) {
-            return new Pair<>(name, address);
-        }
-
-
-        List<String> items = Splitter.on(BLANK).trimResults().omitEmptyStrings().splitToList(address);
-        if (CollectionUtils.size(items) < 2) {
-            return new Pair<>(name, address);
-        }
-        String parseName = items.get(0);
-        for (String item : items) {
-            if (length(parseName) > length(item)) {
-                parseName = item;
-            }
-        }
-
-        String finalParseName = parseName;
-        address = items.stream().filter(i -> !StringUtils.equals(i, finalParseName)).collect(Collectors.joining(BLANK));
-
-        return new Pair<>(parseName, address);
+        return AddressParser.parseName(name, address);
     }
 
     /**
@@ -496,15 +695,7 @@ public class AddressParse {
      * @since 2021/3/24 15:40
      */
     public static int length(String str) {
-        int result = 0;
-        if (Objects.isNull(str) || EMPTY.equals(str)) {
-            return result;
-        }
-
-        for (char c : str.toCharArray()) {
-            result += c >= 0x0391 && c <= 0xFFE5 ? 2 : c <= 0x00FF ? 1 : 0;
-        }
-        return result;
+        return AddressParser.length(str);
     }
 
 
@@ -515,18 +706,7 @@ public class AddressParse {
      * @since 2021/3/24 15:56
      */
     public static MatchResult match(AreaTree area, String address) {
-        int index = StringUtils.indexOf(address, area.getName());
-        boolean matchShort = false;
-
-        if (index == -1) {
-            index = StringUtils.indexOf(address, area.getShortName());
-            matchShort = index > -1;
-        }
-        String matchName = index > -1 ? area.getName() : EMPTY;
-        if (matchShort){
-            return new MatchResult(matchShort, matchName,area.getShortName(), index);
-        }
-        return new MatchResult(matchShort, matchName, index);
+        return AddressParser.match(area.getName(), area.getShortName(), address);
     }
 
 
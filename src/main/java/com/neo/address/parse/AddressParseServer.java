@@ -0,0 +1,383 @@
+package com.neo.address.parse;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 服务模式：基于 JDK 内置的 HTTP 服务器对外提供解析接口，多个应用共享一份字典，不引入额外依赖
+ * <p>
+ * 接口：
+ * <ul>
+ *     <li>POST /parse：请求体为一条地址（UTF-8 文本），也可使用 GET /parse?address=；参数 top=k 时返回按置信度排序的前 k 个结果，
+ *     响应为结果的 JSON 数组；请求体超过 {@link ServerOptions#getMaxBodySize()} 时返回 413</li>
+ *     <li>POST /parse/batch：请求、响应均为按行分隔的 JSON（NDJSON），每行输入为地址字符串或 {"id": ..., "address": "..."}，
+ *     每行输出为 {"index": n, "id": ..., "results": [...]}，格式错误的行输出 {"index": n, "error": "格式错误：..."}，
+ *     解析过程中出错的行输出 {"index": n, "error": "解析失败：..."} 并计入错误数；
+ *     边读边解析边输出，内存占用与请求大小无关</li>
+ *     <li>GET /metrics：请求数、拒绝数、排队数、请求耗时及 {@link ParseMetrics} 的解析指标</li>
+ * </ul>
+ * HTTP 服务器的分发线程只负责将请求提交到有界的工作线程池，工作线程和排队都已满时直接返回 503，不在服务端无限堆积。
+ * 解析使用 {@link AddressParse#getParser(String)}，重新加载字典或加载分片后自动使用新的解析器。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Slf4j
+public class AddressParseServer {
+
+    private static final Gson GSON = new Gson();
+
+    private static final String JSON = "application/json; charset=utf-8", NDJSON = "application/x-ndjson; charset=utf-8";
+
+    /**
+     * JDK HTTP 服务器默认不设置 TCP_NODELAY，响应头与响应体分开发送时会因延迟确认等待约 40 ms；
+     * 该属性为 JVM 全局设置，在首次创建服务器时读取。仅独立运行（{@link #main(String[])}）且未显式配置时默认开启，
+     * 嵌入到应用中使用时不做修改，需要时以 -Dsun.net.httpserver.nodelay=true 启动
+     */
+    static final String NODELAY = "sun.net.httpserver.nodelay";
+
+    private final HttpServer server;
+
+    private final int maxBodySize;
+
+    private final ThreadPoolExecutor workers;
+
+    private final ParseMetrics metrics = new ParseMetrics();
+
+    /**
+     * 默认解析器及附加了指标采集的解析器，默认解析器被替换后重新创建
+     */
+    private final AtomicReference<AddressParser[]> parsers = new AtomicReference<>(new AddressParser[2]);
+
+    private final ParseMetrics.Histogram latency = new ParseMetrics.Histogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder addresses = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+
+    private AddressParseServer(ServerOptions options) throws IOException {
+        InetSocketAddress address = StringUtils.isBlank(options.getHost())
+                ? new InetSocketAddress(options.getPort()) : new InetSocketAddress(options.getHost(), options.getPort());
+        this.server = HttpServer.create(address, Math.max(options.getBacklog(), 0));
+        this.maxBodySize = options.maxBodySize();
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(options.workers(), options.workers(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(options.queueCapacity()), r -> new Thread(r, "address-parse-worker-" + sequence.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        server.createContext("/parse", exchange -> submit(exchange, this::parse));
+        server.createContext("/parse/batch", exchange -> submit(exchange, this::batch));
+        server.createContext("/metrics", this::metrics);
+        // 分发线程直接执行上面的处理器，处理器只提交任务，不阻塞
+        server.setExecutor(null);
+    }
+
+
+    /**
+     * 启动服务
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AddressParseServer start(ServerOptions options) throws IOException {
+        AddressParseServer server = new AddressParseServer(options);
+        server.server.start();
+        log.info("地址解析服务已启动：{}，工作线程：{}，排队上限：{}", server.server.getAddress(), options.workers(), options.queueCapacity());
+        return server;
+    }
+
+
+    /**
+     * 停止服务，最多等待 delaySeconds 秒让处理中的请求完成
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(delaySeconds, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * 实际监听的端口
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+
+    /**
+     * 命令行启动：[端口] [工作线程数] [排队上限]
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static void main(String[] args) throws IOException {
+        if (Objects.isNull(System.getProperty(NODELAY))) {
+            System.setProperty(NODELAY, Boolean.TRUE.toString());
+        }
+        ServerOptions options = ServerOptions.builder()
+                .port(args.length > 0 ? Integer.parseInt(args[0]) : ServerOptions.DEFAULT_PORT)
+                .workers(args.length > 1 ? Integer.parseInt(args[1]) : 0)
+                .queueCapacity(args.length > 2 ? Integer.parseInt(args[2]) : 0)
+                .build();
+        AddressParseServer server = start(options);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(5), "address-parse-shutdown"));
+    }
+
+
+    /**
+     * 提交到工作线程池，已满时返回 503
+     */
+    private void submit(HttpExchange exchange, Handler handler) throws IOException {
+        long start = System.nanoTime();
+        requests.increment();
+        try {
+            workers.execute(() -> handle(exchange, handler, start));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            exchange.getResponseHeaders().set("Retry-After", "1");
+            respond(exchange, 503, error("服务繁忙，请稍后重试"));
+        }
+    }
+
+
+    private void handle(HttpExchange exchange, Handler handler, long start) {
+        try {
+            handler.handle(exchange);
+        } catch (IllegalArgumentException e) {
+            respondQuietly(exchange, 400, error(e.getMessage()));
+        } catch (Exception e) {
+            errors.increment();
+            log.warn("请求处理失败：{}", exchange.getRequestURI(), e);
+            respondQuietly(exchange, 500, error(e.getMessage()));
+        } finally {
+            exchange.close();
+            latency.record(System.nanoTime() - start);
+        }
+    }
+
+
+    private void parse(HttpExchange exchange) throws IOException {
+        String address;
+        if ("GET".equals(exchange.getRequestMethod())) {
+            address = StringUtils.defaultString(query(exchange, "address"));
+        } else if ("POST".equals(exchange.getRequestMethod())) {
+            address = read(exchange, maxBodySize);
+            if (Objects.isNull(address)) {
+                respond(exchange, 413, error("请求体超过 " + maxBodySize + " 字节"));
+                return;
+            }
+        } else {
+            respond(exchange, 405, error("不支持的请求方法：" + exchange.getRequestMethod()));
+            return;
+        }
+        String top = query(exchange, "top");
+        AddressParser parser = parser(address);
+        List<ParseResult> results = Objects.isNull(top) ? parser.parse(address) : parser.parseTop(address, Integer.parseInt(top));
+        addresses.increment();
+        respond(exchange, 200, GSON.toJson(results));
+    }
+
+
+    private void batch(HttpExchange exchange) throws IOException {
+        if (!"POST".equals(exchange.getRequestMethod())) {
+            respond(exchange, 405, error("不支持的请求方法：" + exchange.getRequestMethod()));
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", NDJSON);
+        // 长度为 0 表示分块传输，边解析边输出
+        exchange.sendResponseHeaders(200, 0);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8));
+        int index = 0;
+        for (String line; (line = reader.readLine()) != null; ) {
+            if (StringUtils.isBlank(line)) {
+                continue;
+            }
+            JsonObject output = new JsonObject();
+            output.addProperty("index", index++);
+            String address = null;
+            boolean decoded = false;
+            try {
+                address = decode(JsonParser.parseString(line), output);
+                decoded = true;
+            } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+                output.addProperty("error", "格式错误：" + e.getMessage());
+            }
+            if (decoded) {
+                try {
+                    output.add("results", GSON.toJsonTree(parser(address).parse(address)));
+                    addresses.increment();
+                } catch (RuntimeException e) {
+                    errors.increment();
+                    log.warn("地址解析失败：{}", address, e);
+                    output.addProperty("error", "解析失败：" + e.getMessage());
+                }
+            }
+            writer.write(output.toString());
+            writer.write('\n');
+            // 已读入的输入处理完后再刷新，批量提交时合并写出，逐行交互时及时返回
+            if (!reader.ready()) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+
+    /**
+     * 取出一行输入中的地址，对象形式时将 id 写入 output；格式不正确时 Gson 抛出 {@link IllegalStateException}
+     * 或 {@link UnsupportedOperationException}
+     */
+    private static String decode(JsonElement input, JsonObject output) {
+        if (!input.isJsonObject()) {
+            return input.getAsString();
+        }
+        JsonObject object = input.getAsJsonObject();
+        if (object.has("id")) {
+            output.add("id", object.get("id"));
+        }
+        return object.has("address") && !object.get("address").isJsonNull() ? object.get("address").getAsString() : null;
+    }
+
+
+    private void metrics(HttpExchange exchange) throws IOException {
+        JsonObject body = new JsonObject();
+        body.addProperty("requests", requests.sum());
+        body.addProperty("addresses", addresses.sum());
+        body.addProperty("rejected", rejected.sum());
+        body.addProperty("errors", errors.sum());
+        body.addProperty("active", workers.getActiveCount());
+        body.addProperty("queued", workers.getQueue().size());
+        body.add("latency", GSON.toJsonTree(latency.snapshot()));
+        body.add("parse", GSON.toJsonTree(metrics.snapshot()));
+        respond(exchange, 200, body.toString());
+        exchange.close();
+    }
+
+
+    /**
+     * 附加了指标采集、可解析该地址的默认解析器
+     */
+    private AddressParser parser(String address) {
+        AddressParser parser = AddressParse.getParser(address);
+        AddressParser[] current = parsers.get();
+        if (current[0] == parser) {
+            return current[1];
+        }
+        AddressParser[] updated = {parser, parser.withListener(metrics)};
+        parsers.compareAndSet(current, updated);
+        return updated[1];
+    }
+
+
+    /**
+     * 读取请求体，超过 limit 字节时不再读取并返回 null
+     */
+    private static String read(HttpExchange exchange, int limit) throws IOException {
+        String length = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (StringUtils.isNumeric(length) && Long.parseLong(length) > limit) {
+            return null;
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        InputStream in = exchange.getRequestBody();
+        byte[] buffer = new byte[4096];
+        for (int n; (n = in.read(buffer)) != -1; ) {
+            if (body.size() + n > limit) {
+                return null;
+            }
+            body.write(buffer, 0, n);
+        }
+        return new String(body.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+
+    private static String query(HttpExchange exchange, String name) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (StringUtils.isBlank(query)) {
+            return null;
+        }
+        for (String pair : StringUtils.split(query, '&')) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && name.equals(pair.substring(0, separator))) {
+                return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8.name());
+            }
+        }
+        return null;
+    }
+
+
+    private static String error(String message) {
+        JsonObject body = new JsonObject();
+        body.addProperty("error", message);
+        return body.toString();
+    }
+
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+
+    /**
+     * 响应头可能已经发送（如批量接口输出过程中出错），此时只能关闭连接
+     */
+    private static void respondQuietly(HttpExchange exchange, int status, String body) {
+        try {
+            respond(exchange, status, body);
+        } catch (IOException | RuntimeException e) {
+            log.debug("响应失败：{}", exchange.getRequestURI(), e);
+        }
+    }
+
+
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+}
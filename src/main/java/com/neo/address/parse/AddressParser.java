@@ -0,0 +1,1543 @@
+package com.neo.address.parse;
+
+import cn.hutool.core.collection.CollectionUtil;
+import cn.hutool.core.lang.Pair;
+import com.google.common.base.CharMatcher;
+import com.google.common.collect.ImmutableList;
+import com.neo.address.parse.AddressParse.MatchResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * 收货地址解析引擎
+ * <p>
+ * 由不可变的 {@link AreaDictionary} 构建，除可选的缓存、自适应候选顺序的计数外不持有任何可变状态，任意多个线程可无锁并发调用 {@link #parse(String)}。
+ * 同一 JVM 中可以同时存在多个使用不同字典的实例；{@link AddressParse} 的静态方法委托给默认实例。
+ * <p>
+ * 匹配、清洗等中间状态保存在线程内复用的 {@link ParseScratch} 中；省市区县解析在 {@link AddressCursor} 上按位置消费已识别的部分，
+ * 姓名、详细地址在得到结果时才生成字符串，常规路径上只分配结果对象。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Slf4j
+@Getter
+public final class AddressParser {
+
+    /**
+     * 默认去除关键字
+     */
+    public static final List<String> DEFAULT_EXCLUDE_KEYS = ImmutableList.of("详细地址", "收货地址", "收件地址", "地址", "所在地区", "地区",
+            "姓名", "收货人", "收件人", "联系人", "收", "邮编",
+            "联系电话", "联系电話", "电话", "电話", "联系人手机号码", "手机号码", "手机号",
+            "自治区直辖县级行政区划", "省直辖县级行政区划");
+
+    /**
+     * 特殊符号正则，地址清洗使用与之等价的查找表 {@link AddressNormalizer#SPECIAL_SYMBOLS}
+     */
+    public static final String SPECIAL_SYMBOL_REGEX = "[`~!@#$^&*()=|{}':;',\\[\\]\\.<>/?~！@#￥……&*（）——|{}【】‘；：”“’。，、？]";
+    /**
+     * 手机号正则
+     */
+    public static final Pattern MOBILE_PATTERN = Pattern.compile("(86-[1][3-9][0-9]{9})|(86[1][3-9][0-9]{9})|([1][3-9][0-9]{9})");
+    /**
+     * 电话号码正则
+     */
+    public static final Pattern PHONE_PATTERN = Pattern.compile("(([0-9]{3,4}-)[0-9]{7,8})|([0-9]{12})|([0-9]{11})|([0-9]{10})|([0-9]{9})|([0-9]{8})|([0-9]{7})");
+    /**
+     * 邮编正则
+     */
+    public static final Pattern ZIP_CODE_PATTERN = Pattern.compile("([0-9]{6})");
+
+    public static final String EMPTY = "", BLANK = " ";
+
+    /**
+     * 排序模式下，置信度达到该值的候选结果视为已确认：省市区县完整一致且没有遗漏的地区名称
+     */
+    private static final double CONFIRMED_CONFIDENCE = 0.9;
+
+    /**
+     * 模糊匹配时，既没有已识别的省份、也没有相符的区号、邮编佐证的地区名称的最少字数，即只差一个字时相似度不低于 0.8
+     */
+    private static final int FUZZY_UNCONFIRMED_LENGTH = 5;
+
+    private static final ParseStage[] RANKED_STAGES = {ParseStage.PARSE_BY_PROVINCE, ParseStage.PARSE_BY_CITY, ParseStage.PARSE_BY_AREA};
+
+    /**
+     * 地区字典
+     */
+    private final AreaDictionary dictionary;
+
+    /**
+     * 地址清洗
+     */
+    private final AddressNormalizer normalizer;
+
+    /**
+     * 解析结果缓存，未启用时为 null
+     */
+    private final ParseCache cache;
+
+    /**
+     * 解析过程监听，未设置时为 {@link ParseListener#NOOP}
+     */
+    private final ParseListener listener;
+
+    /**
+     * 精确匹配未识别出城市、区县时是否进行模糊匹配，默认关闭
+     */
+    private final boolean fuzzy;
+
+    /**
+     * 自适应候选顺序，未启用时为 null
+     */
+    private final AdaptiveOrder adaptiveOrder;
+
+
+    public AddressParser(AreaDictionary dictionary) {
+        this(dictionary, DEFAULT_EXCLUDE_KEYS);
+    }
+
+    public AddressParser(AreaDictionary dictionary, List<String> excludeKeys) {
+        this(dictionary, new AddressNormalizer(excludeKeys));
+    }
+
+    public AddressParser(AreaDictionary dictionary, AddressNormalizer normalizer) {
+        this(dictionary, normalizer, null, ParseListener.NOOP, false, null);
+    }
+
+    private AddressParser(AreaDictionary dictionary, AddressNormalizer normalizer, ParseCacheOptions cacheOptions, ParseListener listener,
+                          boolean fuzzy, AdaptiveOrder adaptiveOrder) {
+        this.dictionary = Objects.requireNonNull(dictionary, "dictionary");
+        this.normalizer = Objects.requireNonNull(normalizer, "normalizer");
+        this.cache = Objects.isNull(cacheOptions) ? null : new ParseCache(cacheOptions);
+        this.listener = Objects.isNull(listener) ? ParseListener.NOOP : listener;
+        this.fuzzy = fuzzy;
+        this.adaptiveOrder = adaptiveOrder;
+    }
+
+
+    /**
+     * 使用新的字典创建解析器，其余配置保持不变；启用了缓存时新解析器使用新的空缓存，启用了自适应候选顺序时按行政代码保留命中次数
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AddressParser withDictionary(AreaDictionary dictionary) {
+        return new AddressParser(dictionary, normalizer, cacheOptions(), listener, fuzzy,
+                Objects.isNull(adaptiveOrder) ? null : adaptiveOrder.withDictionary(dictionary));
+    }
+
+
+    /**
+     * 创建启用结果缓存的解析器，options 为空时关闭缓存
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AddressParser withCache(ParseCacheOptions options) {
+        return new AddressParser(dictionary, normalizer, options, listener, fuzzy, adaptiveOrder);
+    }
+
+
+    /**
+     * 创建使用指定监听的解析器，listener 为空时不监听
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AddressParser withListener(ParseListener listener) {
+        return new AddressParser(dictionary, normalizer, cacheOptions(), listener, fuzzy, adaptiveOrder);
+    }
+
+
+    /**
+     * 创建开启或关闭模糊匹配的解析器（默认关闭），见 {@link AreaDictionary#fuzzyMatch(CharSequence)}
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AddressParser withFuzzy(boolean enabled) {
+        return new AddressParser(dictionary, normalizer, cacheOptions(), listener, enabled, adaptiveOrder);
+    }
+
+
+    /**
+     * 创建启用自适应候选顺序的解析器，options 为空时关闭，见 {@link AdaptiveOrder}；
+     * 新解析器从序号顺序开始重新计数，通过其余 with 方法创建的解析器与原解析器共用计数和发布的顺序
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AddressParser withAdaptiveOrder(AdaptiveOrderOptions options) {
+        return new AddressParser(dictionary, normalizer, cacheOptions(), listener, fuzzy,
+                Objects.isNull(options) ? null : new AdaptiveOrder(options, dictionary));
+    }
+
+
+    private ParseCacheOptions cacheOptions() {
+        return Objects.isNull(cache) ? null : cache.getOptions();
+    }
+
+
+    /**
+     * 去除关键字（只读）
+     */
+    public List<String> getExcludeKeys() {
+        return normalizer.getExcludeKeys();
+    }
+
+
+    /**
+     * 解析主入口
+     *
+     * @author Neo
+     * @since 2021/3/25 14:44
+     */
+    public List<ParseResult> parse(String address) {
+        return parse(address, 0);
+    }
+
+
+    /**
+     * 解析并只返回置信度最高的一个结果，地址为空时返回 null
+     * <p>
+     * 依次执行省份、城市、地区三种策略，得到完整的省市区县时不再执行后续策略；相同地区的候选结果合并为一个。
+     * 未识别出任何地区时返回置信度为 0 的结果。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public ParseResult parseBest(String address) {
+        List<ParseResult> results = parse(address, 1);
+        return results.isEmpty() ? null : results.get(0);
+    }
+
+
+    /**
+     * 解析并返回置信度最高的 k 个结果，按置信度从高到低排序，规则与 {@link #parseBest(String)} 一致
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<ParseResult> parseTop(String address, int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k 必须大于 0：" + k);
+        }
+        return parse(address, k);
+    }
+
+
+    /**
+     * 解析，limit 为 0 时返回全部候选结果，否则返回置信度最高的 limit 个结果
+     */
+    private List<ParseResult> parse(String address, int limit) {
+        boolean timed = listener != ParseListener.NOOP;
+        long start = timed ? System.nanoTime() : 0;
+        Object event = ParseEvents.beginParse();
+        if (StringUtils.isBlank(address)) {
+            if (timed) {
+                listener.onOutcome(null, 0);
+            }
+            ParseEvents.commitParse(event, StringUtils.length(address), null, 0);
+            return Collections.EMPTY_LIST;
+        }
+
+        // 地址清洗
+        int inputLength = address.length();
+        Object stage = ParseEvents.beginStage();
+        address = cleanAddress(address);
+        ParseEvents.commitStage(stage, ParseStage.CLEAN, inputLength, 0);
+        if (timed) {
+            listener.onStage(ParseStage.CLEAN, System.nanoTime() - start);
+        }
+
+        // 整个解析过程使用开始时发布的候选顺序
+        ParseScratch scratch = ParseScratch.get();
+        CandidateOrder previous = scratch.order(Objects.isNull(adaptiveOrder) ? null : adaptiveOrder.current());
+        List<ParseResult> results;
+        try {
+            results = Objects.isNull(cache) ? null : cache.get(address, limit);
+            if (Objects.isNull(results)) {
+                results = parseCleaned(address, limit);
+                if (Objects.nonNull(cache)) {
+                    cache.put(address, limit, results);
+                }
+            }
+        } finally {
+            scratch.order(previous);
+        }
+        scratch.trim();
+        if (Objects.nonNull(adaptiveOrder)) {
+            adaptiveOrder.record(results);
+        }
+
+        AreaEnum winner = results.isEmpty() ? null : results.get(0).getType();
+        ParseEvents.commitParse(event, inputLength, winner, results.size());
+        if (timed) {
+            listener.onOutcome(winner, results.size());
+            listener.onStage(ParseStage.TOTAL, System.nanoTime() - start);
+        }
+        return results;
+    }
+
+
+    /**
+     * 解析清洗后的地址
+     */
+    private List<ParseResult> parseCleaned(String address, int limit) {
+        boolean timed = listener != ParseListener.NOOP;
+        long start = timed ? System.nanoTime() : 0;
+        Object stage = ParseEvents.beginStage();
+
+        // 提取手机号、电话号码、邮编
+        NumberExtraction numbers = NumberExtraction.extract(address);
+        int inputLength = address.length();
+        address = numbers.strip(address);
+        String mobile = numbers.getMobile();
+        String phone = numbers.getPhone();
+        String zipCode = numbers.getZipCode();
+        stage = ParseEvents.nextStage(stage, ParseStage.EXTRACT_NUMBERS, inputLength, 0);
+        if (timed) {
+            long now = System.nanoTime();
+            listener.onStage(ParseStage.EXTRACT_NUMBERS, now - start);
+            start = now;
+        }
+
+        // 提取名字
+        Pair<String, String> nameInfo = parseName(EMPTY, address);
+        ParseEvents.commitStage(stage, ParseStage.PARSE_NAME, address.length(), 0);
+        address = nameInfo.getValue();
+        if (timed) {
+            listener.onStage(ParseStage.PARSE_NAME, System.nanoTime() - start);
+        }
+
+        // 区号、邮编对应的地区，用于选择重名的区县、筛选候选结果
+        RegionHint hint = RegionHint.of(dictionary, phone, zipCode);
+
+        List<ParseResult> results = limit == 0 ? parseArea(address, hint) : parseRanked(address, limit, hint);
+
+        // 未识别出城市、区县时尝试纠正只差一个字的地区名称，精确匹配成功时不执行
+        if (fuzzy && !hasCity(results)) {
+            start = timed ? System.nanoTime() : 0;
+            stage = ParseEvents.beginStage();
+            List<ParseResult> corrected = parseFuzzy(address, limit, hint, results);
+            ParseEvents.commitStage(stage, ParseStage.FUZZY, address.length(), corrected.size());
+            results = corrected.isEmpty() ? results : corrected;
+            if (timed) {
+                listener.onStage(ParseStage.FUZZY, System.nanoTime() - start);
+            }
+        }
+
+        for (ParseResult r : results) {
+            r.setMobile(mobile);
+            r.setPhone(phone);
+            r.setZipCode(StringUtils.isBlank(r.getZipCode()) ? zipCode : r.getZipCode());
+            r.setName(StringUtils.isBlank(r.getName()) ? nameInfo.getKey() : r.getName());
+        }
+
+        if (CollectionUtils.isEmpty(results)) {
+            nameInfo = parseName(EMPTY, address);
+            results.add(ParseResult.builder().name(nameInfo.getKey()).address(nameInfo.getValue())
+                    .confidence(limit == 0 ? null : 0D).build());
+        }
+
+        return results;
+    }
+
+
+    /**
+     * 批量解析，使用默认配置
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<List<ParseResult>> parseAll(Collection<String> addresses) {
+        return parseAll(addresses, BatchOptions.DEFAULT);
+    }
+
+
+    /**
+     * 批量解析，结果与输入顺序一致；单条解析失败时对应结果为空列表，不影响其余地址
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<List<ParseResult>> parseAll(Collection<String> addresses, BatchOptions options) {
+        List<ParseResult>[] results = new List[addresses.size()];
+        parseAll(addresses, options, (index, address, result) -> results[index] = result);
+        return Arrays.asList(results);
+    }
+
+
+    /**
+     * 批量解析，通过回调逐条输出结果，不在内存中保留全部结果
+     * <p>
+     * 输入按 chunkSize 分块，每个分块作为一个任务在一个线程内顺序解析，方法在全部分块完成后返回。
+     * 回调抛出的异常会终止整个批次。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public void parseAll(Collection<String> addresses, BatchOptions options, BatchCallback callback) {
+        List<String> list = addresses instanceof List && addresses instanceof RandomAccess
+                ? (List<String>) addresses : new ArrayList<>(addresses);
+        int chunkSize = options.chunkSize();
+        ExecutorService executor = options.getExecutor();
+        if (Objects.isNull(executor) && (options.parallelism() == 1 || list.size() <= chunkSize)) {
+            parseChunk(list, 0, list.size(), callback);
+            return;
+        }
+
+        boolean temporary = Objects.isNull(executor);
+        executor = temporary ? new ForkJoinPool(options.parallelism()) : executor;
+        List<Future<?>> futures = new ArrayList<>(list.size() / chunkSize + 1);
+        try {
+            for (int from = 0; from < list.size(); from += chunkSize) {
+                int start = from, end = Math.min(from + chunkSize, list.size());
+                futures.add(executor.submit(() -> parseChunk(list, start, end, callback)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("批量解析被中断", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("批量解析失败", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+            if (temporary) {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+
+    /**
+     * 异步解析，使用默认配置
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public CompletableFuture<List<ParseResult>> parseAsync(String address) {
+        return parseAsync(address, AsyncOptions.DEFAULT);
+    }
+
+
+    /**
+     * 异步解析：在 options 指定的线程池中执行 {@link #parse(String)}，解析失败或线程池拒绝时 future 以对应异常结束
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public CompletableFuture<List<ParseResult>> parseAsync(String address, AsyncOptions options) {
+        CompletableFuture<List<ParseResult>> future = new CompletableFuture<>();
+        try {
+            options.executor().execute(() -> {
+                // 已超时或已取消
+                if (future.isDone()) {
+                    return;
+                }
+                try {
+                    future.complete(parse(address));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return ParseExecutors.withTimeout(future, options.getTimeout());
+    }
+
+
+    /**
+     * 批量异步解析：输入分块后在 options 指定的线程池中执行，同时执行的分块数不超过 maxConcurrency，结果与输入顺序一致；
+     * 单条解析失败时对应结果为空列表，不影响其余地址
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public CompletableFuture<List<List<ParseResult>>> parseAllAsync(Collection<String> addresses, AsyncOptions options) {
+        List<String> list = addresses instanceof List && addresses instanceof RandomAccess
+                ? (List<String>) addresses : new ArrayList<>(addresses);
+        return new AsyncBatch(this, list, options).start(options);
+    }
+
+
+    /**
+     * 流式解析按行分隔的地址文件，逐行按顺序输出到 sink，内存占用与文件大小无关
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public StreamProgress parseFile(Path path, StreamOptions options, ParseSink sink) throws IOException {
+        StreamProgress progress = new StreamProgress();
+        parseFile(path, options, sink, progress);
+        return progress;
+    }
+
+
+    /**
+     * 流式解析按行分隔的地址文件，可在其他线程中通过 progress 观察进度
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public void parseFile(Path path, StreamOptions options, ParseSink sink, StreamProgress progress) throws IOException {
+        new StreamPipeline(this, options, sink, progress).run(path);
+    }
+
+
+    void parseChunk(List<String> addresses, int start, int end, BatchCallback callback) {
+        for (int i = start; i < end; i++) {
+            String address = addresses.get(i);
+            List<ParseResult> results;
+            try {
+                results = parse(address);
+            } catch (RuntimeException e) {
+                log.warn("第 {} 条地址解析失败：{}", i, address, e);
+                callback.error(i, address, e);
+                results = Collections.EMPTY_LIST;
+            }
+            callback.accept(i, address, results);
+        }
+    }
+
+
+    public List<ParseResult> parseArea(String address) {
+        return parseArea(address, RegionHint.NONE);
+    }
+
+
+    private List<ParseResult> parseArea(String address, RegionHint hint) {
+        List<ParseResult> results = new ArrayList<>();
+        if (StringUtils.isBlank(address)) {
+            return results;
+        }
+
+        // 清除两个以上的空格
+        address = collapseBlanks(address);
+
+        if (listener == ParseListener.NOOP && !ParseEvents.isStageEnabled()) {
+            // 正向解析
+            parseByProvince(address, false, results);
+
+            // 通过城市逆向解析
+            parseByCity(address, false, results);
+
+            //通过地区逆向解析
+            parseByArea(address, hint, results);
+
+            // 乡镇、村级解析
+            parseTown(address, results);
+
+            return results;
+        }
+
+        long start = System.nanoTime();
+        Object stage = ParseEvents.beginStage();
+        parseByProvince(address, false, results);
+        start = record(ParseStage.PARSE_BY_PROVINCE, start, results.size());
+        stage = ParseEvents.nextStage(stage, ParseStage.PARSE_BY_PROVINCE, address.length(), results.size());
+
+        int before = results.size();
+        parseByCity(address, false, results);
+        start = record(ParseStage.PARSE_BY_CITY, start, results.size() - before);
+        stage = ParseEvents.nextStage(stage, ParseStage.PARSE_BY_CITY, address.length(), results.size() - before);
+
+        before = results.size();
+        parseByArea(address, hint, results);
+        start = record(ParseStage.PARSE_BY_AREA, start, results.size() - before);
+        stage = ParseEvents.nextStage(stage, ParseStage.PARSE_BY_AREA, address.length(), results.size() - before);
+
+        parseTown(address, results);
+        listener.onStage(ParseStage.PARSE_TOWN, System.nanoTime() - start);
+        ParseEvents.commitStage(stage, ParseStage.PARSE_TOWN, address.length(), 0);
+
+        return results;
+    }
+
+
+    /**
+     * 排序模式的地区解析：依次执行三种策略，已得到确认的省市区县时跳过后续策略；候选结果按地区去重、按置信度排序后返回前 limit 个。
+     * 有候选结果与区号、邮编相符时，排除不相符的候选结果
+     */
+    private List<ParseResult> parseRanked(String address, int limit, RegionHint hint) {
+        List<ParseResult> results = new ArrayList<>();
+        if (StringUtils.isBlank(address)) {
+            return results;
+        }
+
+        // 清除两个以上的空格
+        address = collapseBlanks(address);
+
+        boolean timed = listener != ParseListener.NOOP;
+        long start = timed ? System.nanoTime() : 0;
+        Object event = ParseEvents.beginStage();
+        boolean confirmed = false;
+        for (ParseStage stage : RANKED_STAGES) {
+            int before = results.size();
+            if (stage == ParseStage.PARSE_BY_PROVINCE) {
+                parseByProvince(address, true, results);
+            } else if (stage == ParseStage.PARSE_BY_CITY) {
+                parseByCity(address, true, results);
+            } else {
+                parseByArea(address, hint, results);
+            }
+            if (timed) {
+                start = record(stage, start, results.size() - before);
+            }
+            event = ParseEvents.nextStage(event, stage, address.length(), results.size() - before);
+            for (int i = before; i < results.size(); i++) {
+                ParseResult candidate = results.get(i);
+                candidate.setConfidence(score(candidate));
+                confirmed |= candidate.getConfidence() >= CONFIRMED_CONFIDENCE;
+            }
+            if (confirmed) {
+                break;
+            }
+        }
+
+        parseTown(address, results);
+        if (timed) {
+            listener.onStage(ParseStage.PARSE_TOWN, System.nanoTime() - start);
+        }
+        ParseEvents.commitStage(event, ParseStage.PARSE_TOWN, address.length(), 0);
+        return rank(filter(results, hint), limit);
+    }
+
+
+    /**
+     * 模糊匹配：将地址中与地区名称只差一个字的片段替换为该名称后重新解析，保留定位到该地区的结果并设置相似度，
+     * 排序模式下置信度乘以相似度。只纠正为可信且唯一的地区（见 {@link #confirm(List, List, RegionHint)}），否则保留精确匹配的结果
+     */
+    private List<ParseResult> parseFuzzy(String address, int limit, RegionHint hint, List<ParseResult> exact) {
+        FuzzyMatch match = confirm(dictionary.fuzzyMatch(address), exact, hint);
+        if (Objects.isNull(match)) {
+            return Collections.emptyList();
+        }
+        List<ParseResult> results = new ArrayList<>();
+        String corrected = match.correct(address);
+        for (ParseResult candidate : limit == 0 ? parseArea(corrected, hint) : parseRanked(corrected, limit, hint)) {
+            // 只保留定位到纠正的地区（而非其他同名地区）的结果
+            if (!isAncestor(match.getArea(), dictionary.locate(candidate.getProvince(), candidate.getCity(), candidate.getArea()))) {
+                continue;
+            }
+            candidate.setSimilarity(match.getSimilarity());
+            if (Objects.nonNull(candidate.getConfidence())) {
+                candidate.setConfidence(Math.round(candidate.getConfidence() * match.getSimilarity() * 100) / 100.0);
+            }
+            results.add(candidate);
+        }
+        return results;
+    }
+
+
+    /**
+     * 选出可信的模糊匹配，没有或无法区分时返回 null：精确匹配识别出省份时只接受该省份下的地区；未识别出省份时只接受与区号、邮编相符的地区，
+     * 没有相符的区号、邮编时只接受不少于 {@link #FUZZY_UNCONFIRMED_LENGTH} 个字的名称。剩余多个时按区号、邮编选择，仍有多个时放弃
+     */
+    private FuzzyMatch confirm(List<FuzzyMatch> matches, List<ParseResult> exact, RegionHint hint) {
+        List<AreaNode> provinces = new ArrayList<>(1);
+        for (ParseResult result : exact) {
+            AreaNode province = StringUtils.isBlank(result.getProvince()) ? null : dictionary.locate(result.getProvince(), null, null);
+            if (Objects.nonNull(province) && !provinces.contains(province)) {
+                provinces.add(province);
+            }
+        }
+
+        List<FuzzyMatch> confirmed = new ArrayList<>(matches.size());
+        for (FuzzyMatch match : matches) {
+            AreaNode area = match.getArea();
+            boolean accepted = provinces.isEmpty()
+                    ? hint.matches(area) || area.getName().length() >= FUZZY_UNCONFIRMED_LENGTH
+                    : provinces.stream().anyMatch(province -> isAncestor(province, area));
+            if (accepted) {
+                confirmed.add(match);
+            }
+        }
+        if (confirmed.size() > 1 && !hint.isEmpty()) {
+            confirmed.removeIf(match -> !hint.matches(match.getArea()));
+        }
+        return confirmed.size() == 1 ? confirmed.get(0) : null;
+    }
+
+
+    private static boolean isAncestor(AreaNode ancestor, AreaNode node) {
+        for (; Objects.nonNull(node); node = node.getParent()) {
+            if (node.equals(ancestor)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private static boolean hasCity(List<ParseResult> results) {
+        for (ParseResult result : results) {
+            if (StringUtils.isNotBlank(result.getCity()) || StringUtils.isNotBlank(result.getArea())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 有候选结果与区号、邮编相符时只保留相符的候选结果，否则原样返回
+     */
+    private List<ParseResult> filter(List<ParseResult> candidates, RegionHint hint) {
+        if (hint.isEmpty() || candidates.size() < 2) {
+            return candidates;
+        }
+        List<ParseResult> matched = new ArrayList<>(candidates.size());
+        for (ParseResult candidate : candidates) {
+            if (hint.matches(dictionary.locate(candidate.getProvince(), candidate.getCity(), candidate.getArea()))) {
+                matched.add(candidate);
+            }
+        }
+        return matched.isEmpty() ? candidates : matched;
+    }
+
+
+    /**
+     * 候选结果的置信度：省市区县中与字典层级关系一致的级数分别计 0.25、0.5、0.75，
+     * 姓名中不含地区名称（即没有把更靠前的地区遗漏在姓名中）加 0.25
+     */
+    private double score(ParseResult result) {
+        int depth = 0;
+        for (AreaNode node = dictionary.locate(result.getProvince(), result.getCity(), result.getArea());
+             Objects.nonNull(node); node = node.getParent()) {
+            String name = node.is(AreaEnum.PROVINCE) ? result.getProvince()
+                    : node.is(AreaEnum.CITY) ? result.getCity() : result.getArea();
+            depth += StringUtils.equals(name, node.getName()) ? 1 : 0;
+        }
+        double score = depth * 0.25;
+        if (depth > 0 && (StringUtils.isBlank(result.getName()) || !dictionary.getMatcher().matchesAny(result.getName()))) {
+            score += 0.25;
+        }
+        return score;
+    }
+
+
+    /**
+     * 按省市区县、乡镇、村合并相同的候选结果，保留置信度最高的一个，每多一个相同的候选结果置信度加 0.05；
+     * 识别出乡镇的结果加 0.05。按置信度从高到低排序（相同时保持策略顺序），返回前 limit 个
+     */
+    private static List<ParseResult> rank(List<ParseResult> candidates, int limit) {
+        Map<String, ParseResult> best = new LinkedHashMap<>();
+        Map<String, Integer> votes = new HashMap<>();
+        for (ParseResult candidate : candidates) {
+            if (StringUtils.isNotBlank(candidate.getTown())) {
+                candidate.setConfidence(candidate.getConfidence() + 0.05);
+            }
+            String key = StringUtils.joinWith("|", candidate.getProvince(), candidate.getCity(), candidate.getArea(),
+                    candidate.getTown(), candidate.getVillage());
+            best.merge(key, candidate, (a, b) -> b.getConfidence() > a.getConfidence() ? b : a);
+            votes.merge(key, 1, Integer::sum);
+        }
+
+        List<ParseResult> results = new ArrayList<>(best.size());
+        best.forEach((key, result) -> {
+            double confidence = Math.min(1, result.getConfidence() + 0.05 * (votes.get(key) - 1));
+            result.setConfidence(Math.round(confidence * 100) / 100.0);
+            results.add(result);
+        });
+        results.sort(Comparator.comparing(ParseResult::getConfidence).reversed());
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+    }
+
+
+    /**
+     * 连续两个以上的空格替换为一个，与 replaceAll(" {2,}", " ") 一致，没有连续空格时返回原字符串
+     */
+    private static String collapseBlanks(String address) {
+        int index = address.indexOf("  ");
+        if (index == -1) {
+            return address;
+        }
+        StringBuilder builder = ParseScratch.get().builder().append(address, 0, index + 1);
+        for (int i = index + 1; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (c != ' ' || address.charAt(i - 1) != ' ') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+
+    /**
+     * 乡镇、村级解析：为每个结果定位最末级地区的行政代码；字典包含乡镇数据时，继续在地址中查找所属区县的乡镇及其下的村，
+     * 找到时详细地址改为最后一个匹配位置之后的内容。省市区县都未识别出时，通过乡镇名称逆向解析。
+     */
+    private void parseTown(String address, List<ParseResult> results) {
+        if (results.isEmpty()) {
+            if (dictionary.hasTowns()) {
+                results.addAll(parseByTown(address));
+            }
+            return;
+        }
+
+        for (ParseResult result : results) {
+            AreaNode area = dictionary.locate(result.getProvince(), result.getCity(), result.getArea());
+            if (Objects.isNull(area)) {
+                continue;
+            }
+            if (dictionary.hasTowns() && (area.is(AreaEnum.DISTRICT) || area.is(AreaEnum.CITY))) {
+                ChildMatch town = matchChild(area, AreaEnum.TOWN, address, 0);
+                if (Objects.nonNull(town)) {
+                    area = parseVillage(town, address, result);
+                }
+            }
+            result.setAreaCode(area.getAreaCode());
+        }
+    }
+
+
+    /**
+     * 通过乡镇逆向解析，只在字典包含乡镇数据时有结果
+     * <p>
+     * 与 {@link #parseByArea(String)} 一致，取序号最小的命中乡镇；乡镇重名较多，单凭乡镇名称解析的结果可能不唯一。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<ParseResult> parseByTown(String address) {
+        List<ParseResult> results = new ArrayList<>();
+        AreaMatcher townMatcher = dictionary.getTownMatcher();
+        if (Objects.isNull(townMatcher)) {
+            return results;
+        }
+
+        ParseScratch scratch = ParseScratch.get();
+        AreaHits hits = townMatcher.scan(address, scratch.acquire());
+        try {
+            for (int i = 0; i < hits.size(); i++) {
+                AreaNode town = dictionary.get(hits.ordinal(i));
+                int index = hits.index(i);
+                int length = matchLength(hits, i, town);
+                if (length < 2) {
+                    continue;
+                }
+
+                ParseResult result = new ParseResult();
+                for (AreaNode parent = town.getParent(); Objects.nonNull(parent); parent = parent.getParent()) {
+                    if (parent.is(AreaEnum.PROVINCE)) {
+                        result.setProvince(parent.getName());
+                    } else if (parent.is(AreaEnum.CITY)) {
+                        result.setCity(parent.getName());
+                    } else if (parent.is(AreaEnum.DISTRICT)) {
+                        result.setArea(parent.getName());
+                    }
+                    if (StringUtils.isBlank(result.getZipCode())) {
+                        result.setZipCode(parent.getZipCode());
+                    }
+                }
+                result.setType(AreaEnum.TOWN);
+
+                // 左侧内容识别为姓名
+                String leftAddress = StringUtils.left(address, index);
+                if (StringUtils.isNotBlank(leftAddress)) {
+                    result.setName(StringUtils.trim(leftAddress));
+                }
+
+                AreaNode area = parseVillage(new ChildMatch(town, index + length), address, result);
+                result.setAreaCode(area.getAreaCode());
+                results.add(result);
+                break;
+            }
+            return results;
+        } finally {
+            scratch.release();
+        }
+    }
+
+
+    /**
+     * 设置已匹配的乡镇，并在其后查找所属的村，返回最末级节点
+     */
+    private AreaNode parseVillage(ChildMatch town, String address, ParseResult result) {
+        result.setTown(town.node.getName());
+        ChildMatch village = matchChild(town.node, AreaEnum.VILLAGE, address, town.end);
+        if (Objects.isNull(village)) {
+            result.setDetail(StringUtils.trim(address.substring(town.end)));
+            return town.node;
+        }
+        result.setVillage(village.node.getName());
+        result.setDetail(StringUtils.trim(address.substring(village.end)));
+        return village.node;
+    }
+
+
+    /**
+     * 从 from 开始查找 parent 下指定层级的子节点，取位置最靠前的一个（位置相同时取较长的名称）；简称少于两个字时不参与匹配。
+     * 直接读取字典存储，只为找到的节点创建 {@link AreaNode}
+     */
+    private ChildMatch matchChild(AreaNode parent, AreaEnum level, String address, int from) {
+        AreaTable table = dictionary.table();
+        int[] children = table.children();
+        int found = AreaTable.NONE, foundIndex = -1, foundLength = 0;
+        for (int c = table.childrenFrom(parent.getOrdinal()); c < table.childrenTo(parent.getOrdinal()); c++) {
+            int child = children[c];
+            if (table.level(child) != level.getCode()) {
+                continue;
+            }
+            String name = table.name(child);
+            int index = StringUtils.indexOf(address, name, from);
+            if (index == -1 && StringUtils.length(table.shortName(child)) >= 2) {
+                name = table.shortName(child);
+                index = address.indexOf(name, from);
+            }
+            if (index == -1) {
+                continue;
+            }
+            if (found == AreaTable.NONE || index < foundIndex || (index == foundIndex && name.length() > foundLength)) {
+                found = child;
+                foundIndex = index;
+                foundLength = name.length();
+            }
+        }
+        return found == AreaTable.NONE ? null : new ChildMatch(dictionary.get(found), foundIndex + foundLength);
+    }
+
+
+    /**
+     * 记录解析策略的耗时及候选数量，返回当前时间
+     */
+    private long record(ParseStage stage, long start, int candidates) {
+        long now = System.nanoTime();
+        listener.onStage(stage, now - start);
+        listener.onCandidates(stage, candidates);
+        return now;
+    }
+
+    /**
+     * 通过地区逆向解析
+     *
+     * @author Neo
+     * @since 2021/3/25 9:29
+     */
+    public List<ParseResult> parseByArea(String addressBase) {
+        List<ParseResult> results = new ArrayList<>();
+        parseByArea(addressBase, RegionHint.NONE, results);
+        return results;
+    }
+
+
+    private void parseByArea(String addressBase, RegionHint hint, List<ParseResult> results) {
+        ParseScratch scratch = ParseScratch.get();
+        try {
+            parseByArea(scratch.acquireCursor().reset(addressBase), hint, results);
+        } finally {
+            scratch.releaseCursor();
+        }
+    }
+
+
+    /**
+     * 通过地区逆向解析，结果追加到 results；同一位置命中多个区县时，优先与区号、邮编相符的区县
+     */
+    private void parseByArea(AddressCursor address, RegionHint hint, List<ParseResult> results) {
+        ParseResult result;
+        ParseScratch scratch = ParseScratch.get();
+        AreaHits hits = scan(scratch, address, scratch.acquire());
+        AddressCursor left = scratch.acquireCursor();
+        try {
+            for (int i = 0; i < hits.size(); i++) {
+                AreaNode area = dictionary.get(hits.ordinal(i));
+                if (!area.is(AreaEnum.DISTRICT) || StringUtils.length(area.getName()) < 2) {
+                    continue;
+                }
+                int index = hits.index(i);
+                if (!hint.isEmpty() && !hint.matches(area) && hasMatchedAlternative(hits, i, hint)) {
+                    continue;
+                }
+                int scanned = address.modCount();
+                AreaNode city = area.getParent(), province = city.getParent();
+
+                result = new ParseResult();
+                result.setProvince(province.getName());
+                result.setCity(city.getName());
+                result.setArea(area.getName());
+                result.setZipCode(area.getZipCode());
+                result.setType(AreaEnum.DISTRICT);
+
+                // 左侧排除省份城市名剩下的内容识别为姓名
+                left.reset(address, 0, index);
+                boolean provinceMatched = false, cityMatched = false;
+                if (!left.isBlank(0, left.length())) {
+                    provinceMatched = matches(province, left);
+                    if (provinceMatched) {
+                        left.removeAll(province.getName());
+                    }
+                }
+
+                if (!left.isBlank(0, left.length())) {
+                    cityMatched = matches(city, left);
+                    if (cityMatched) {
+                        left.removeAll(city.getName());
+                    }
+                }
+
+                if (!left.isBlank(0, left.length())) {
+                    result.setName(left.trim());
+                }
+
+                // 出现同省地区匹配错误处理，广东省惠来县惠城镇 如不经处理匹配到 广东省惠州市惠城区
+                if (provinceMatched && cityMatched) {
+                    List<ParseResult> tempResult = new ArrayList<>(1);
+                    parseByArea(left.reset(address, 0, index), hint, tempResult);
+                    if (CollectionUtils.isNotEmpty(tempResult)) {
+                        result = ParseResult.assign(result, tempResult.get(0));
+                        address.keepTail(index);
+
+
+                        if (StringUtils.isBlank(result.getArea())) {
+                            parseAreaByCity(city, result, address);
+                        }
+                    }
+                }
+
+                if (StringUtils.isNotBlank(result.getProvince()) && StringUtils.isNotBlank(result.getCity()) && StringUtils.isNotBlank(result.getArea())) {
+                    address.consumeHead(index + area.getName().length());
+                    result.setDetail(address.trim());
+                    results.add(result);
+                    break;
+                }
+
+                // 地址发生变化后重新扫描，从当前节点之后继续
+                if (address.modCount() != scanned) {
+                    int ordinal = hits.ordinal(i);
+                    hits = scan(scratch, address, hits);
+                    i = hits.indexAfter(ordinal) - 1;
+                }
+            }
+        } finally {
+            scratch.releaseCursor();
+            scratch.release();
+        }
+    }
+
+
+    /**
+     * 扫描省市区县名称，命中按当前解析的候选顺序排列，见 {@link ParseScratch#order()}
+     */
+    private AreaHits scan(ParseScratch scratch, AddressCursor address, AreaHits hits) {
+        return dictionary.getMatcher().scan(address, hits, scratch.order());
+    }
+
+
+    /**
+     * 与第 i 个命中同一位置的命中中，是否有与区号、邮编相符的区县（如同名的区县、以简称命中的区县）
+     */
+    private boolean hasMatchedAlternative(AreaHits hits, int i, RegionHint hint) {
+        for (int j = 0; j < hits.size(); j++) {
+            if (j == i || hits.index(j) != hits.index(i)) {
+                continue;
+            }
+            AreaNode alternative = dictionary.get(hits.ordinal(j));
+            if (alternative.is(AreaEnum.DISTRICT) && StringUtils.length(alternative.getName()) >= 2 && hint.matches(alternative)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 通过城市逆向解析
+     *
+     * @author Neo
+     * @since 2021/3/25 9:19
+     */
+    public List<ParseResult> parseByCity(String addressBase) {
+        List<ParseResult> results = new ArrayList<>();
+        parseByCity(addressBase, false, results);
+        return results;
+    }
+
+
+    /**
+     * 通过城市逆向解析，结果追加到 results；untilComplete 为 true 时得到完整的省市区县后不再继续
+     */
+    private void parseByCity(String addressBase, boolean untilComplete, List<ParseResult> results) {
+        ParseResult result;
+        ParseScratch scratch = ParseScratch.get();
+        AddressCursor address = scratch.acquireCursor().reset(addressBase);
+        AreaHits hits = scan(scratch, address, scratch.acquire());
+        try {
+            for (int i = 0; i < hits.size(); i++) {
+                AreaNode city = dictionary.get(hits.ordinal(i));
+                // 排除重庆市下的 500200:县
+                if (!city.is(AreaEnum.CITY) || StringUtils.length(city.getName()) < 2) {
+                    continue;
+                }
+                int index = hits.index(i);
+
+                result = new ParseResult();
+                result.setProvince(city.getParent().getName());
+                result.setCity(city.getName());
+                result.setZipCode(city.getZipCode());
+                result.setType(AreaEnum.CITY);
+
+                // 将城市左侧的部分排除省份后剩下的内容识别为姓名
+                if (!address.isBlank(0, index)) {
+                    if (address.contains(city.getParent().getName(), 0, index)) {
+                        index -= address.removeAll(city.getParent().getName(), 0, index);
+                    } else {
+                        index -= address.removeAll(city.getParent().getShortName(), 0, index);
+                    }
+                    if (!address.isBlank(0, index)) {
+                        result.setName(address.trim(0, index));
+                    }
+                }
+                address.consumeHead(index + matchLength(hits, i, city));
+
+                parseAreaByCity(city, result, address);
+
+                result.setDetail(address.trim());
+
+                if (StringUtils.isNotBlank(result.getProvince()) && StringUtils.isNotBlank(result.getCity())) {
+                    results.add(result);
+                    if (untilComplete && complete(result)) {
+                        break;
+                    }
+                }
+
+                int ordinal = hits.ordinal(i);
+                hits = scan(scratch, address, hits);
+                i = hits.indexAfter(ordinal) - 1;
+            }
+        } finally {
+            scratch.release();
+            scratch.releaseCursor();
+        }
+    }
+
+
+    /**
+     * 解析省份
+     *
+     * @author Neo
+     * @since 2021/3/24 16:55
+     */
+    public List<ParseResult> parseByProvince(String addressBase) {
+        List<ParseResult> results = new ArrayList<>();
+        parseByProvince(addressBase, false, results);
+        return results;
+    }
+
+
+    /**
+     * 解析省份，结果追加到 results；untilComplete 为 true 时得到完整的省市区县后不再继续
+     */
+    private void parseByProvince(String addressBase, boolean untilComplete, List<ParseResult> results) {
+        ParseResult result;
+        ParseScratch scratch = ParseScratch.get();
+        AddressCursor address = scratch.acquireCursor().reset(addressBase);
+        AreaHits hits = scan(scratch, address, scratch.acquire());
+        try {
+            for (int i = 0; i < hits.size(); i++) {
+                AreaNode province = dictionary.get(hits.ordinal(i));
+                if (!province.is(AreaEnum.PROVINCE)) {
+                    continue;
+                }
+                result = new ParseResult();
+                int index = hits.index(i);
+
+                result.setProvince(province.getName());
+                result.setZipCode(province.getZipCode());
+                result.setType(AreaEnum.PROVINCE);
+
+                address.removeAll(province.getName());
+
+
+                // 如果省份不是第一位 在省份之前的字段识别为名称
+                if (index > 0) {
+                    result.setName(address.trim(0, Math.min(index, address.length())));
+                    address.removeAll(result.getName());
+                }
+
+                if (StringUtils.isNotBlank(result.getProvince())) {
+                    parseCityByProvince(province, result, address);
+                }
+
+                if (StringUtils.isNotBlank(result.getProvince())) {
+                    parseAreaByProvince(province, result, address);
+                }
+
+                if (StringUtils.isNotBlank(result.getZipCode())) {
+                    result.setDetail(address.trim());
+                }
+
+                if (StringUtils.isNotBlank(result.getProvince())) {
+                    results.add(result);
+                    if (untilComplete && complete(result)) {
+                        break;
+                    }
+                }
+
+                int ordinal = hits.ordinal(i);
+                hits = scan(scratch, address, hits);
+                i = hits.indexAfter(ordinal) - 1;
+            }
+        } finally {
+            scratch.release();
+            scratch.releaseCursor();
+        }
+    }
+
+    private static boolean complete(ParseResult result) {
+        return StringUtils.isNotBlank(result.getProvince()) && StringUtils.isNotBlank(result.getCity())
+                && StringUtils.isNotBlank(result.getArea());
+    }
+
+    /**
+     * 解析地区通过省份
+     *
+     * @author Neo
+     * @since 2021/3/24 16:59
+     */
+    public String parseAreaByProvince(AreaNode province, ParseResult result, String address) {
+        ParseScratch scratch = ParseScratch.get();
+        try {
+            AddressCursor cursor = scratch.acquireCursor().reset(address);
+            parseAreaByProvince(province, result, cursor);
+            return cursor.toString();
+        } finally {
+            scratch.releaseCursor();
+        }
+    }
+
+
+    private void parseAreaByProvince(AreaNode province, ParseResult result, AddressCursor address) {
+        ParseScratch scratch = ParseScratch.get();
+        AreaHits hits = scan(scratch, address, scratch.acquire());
+        try {
+            for (int i = 0; i < hits.size(); i++) {
+                AreaNode area = dictionary.get(hits.ordinal(i));
+                AreaNode city = area.getParent();
+                if (Objects.isNull(city) || city.getParent() != province) {
+                    continue;
+                }
+                int index = hits.index(i);
+                if (index > 5) {
+                    continue;
+                }
+
+                result.setCity(city.getName());
+                result.setArea(area.getName());
+                result.setZipCode(area.getZipCode());
+
+                address.consumeHead(index + area.getName().length());
+
+                int ordinal = hits.ordinal(i);
+                hits = scan(scratch, address, hits);
+                i = hits.indexAfter(ordinal) - 1;
+            }
+        } finally {
+            scratch.release();
+        }
+    }
+
+
+    /**
+     * 解析城市通过省份
+     *
+     * @author Neo
+     * @since 2021/3/24 16:54
+     */
+    public String parseCityByProvince(AreaNode province, ParseResult result, String address) {
+        ParseScratch scratch = ParseScratch.get();
+        try {
+            AddressCursor cursor = scratch.acquireCursor().reset(address);
+            parseCityByProvince(province, result, cursor);
+            return cursor.toString();
+        } finally {
+            scratch.releaseCursor();
+        }
+    }
+
+
+    private void parseCityByProvince(AreaNode province, ParseResult result, AddressCursor address) {
+        ParseScratch scratch = ParseScratch.get();
+        AreaHits hits = scan(scratch, address, scratch.acquire());
+        try {
+            for (int i = 0; i < hits.size(); i++) {
+                AreaNode city = dictionary.get(hits.ordinal(i));
+                if (city.getParent() != province) {
+                    continue;
+                }
+                result.setCity(city.getName());
+                result.setZipCode(city.getZipCode());
+
+                address.removeAll(city.getName());
+                parseAreaByCity(city, result, address);
+
+                int ordinal = hits.ordinal(i);
+                hits = scan(scratch, address, hits);
+                i = hits.indexAfter(ordinal) - 1;
+            }
+        } finally {
+            scratch.release();
+        }
+    }
+
+
+    /**
+     * 提取地区通过城市
+     *
+     * @author Neo
+     * @since 2021/3/24 16:49
+     */
+    public String parseAreaByCity(AreaNode city, ParseResult result, String address) {
+        ParseScratch scratch = ParseScratch.get();
+        try {
+            AddressCursor cursor = scratch.acquireCursor().reset(address);
+            parseAreaByCity(city, result, cursor);
+            return cursor.toString();
+        } finally {
+            scratch.releaseCursor();
+        }
+    }
+
+
+    private void parseAreaByCity(AreaNode city, ParseResult result, AddressCursor address) {
+        ParseScratch scratch = ParseScratch.get();
+        AreaHits hits = scan(scratch, address, scratch.acquire());
+        try {
+            for (int i = 0; i < hits.size(); i++) {
+                AreaNode area = dictionary.get(hits.ordinal(i));
+                if (area.getParent() != city) {
+                    continue;
+                }
+                result.setArea(area.getName());
+                result.setZipCode(area.getZipCode());
+
+                address.removeAll(area.getName());
+
+                int ordinal = hits.ordinal(i);
+                hits = scan(scratch, address, hits);
+                i = hits.indexAfter(ordinal) - 1;
+            }
+        } finally {
+            scratch.release();
+        }
+    }
+
+
+    /**
+     * 1. 地址清洗
+     *
+     * @author Neo
+     * @since 2021/3/24 15:44
+     */
+    public String cleanAddress(String address) {
+        return normalizer.normalize(address);
+    }
+
+
+    /**
+     * 通过正则解析数据
+     *
+     * @author Neo
+     * @since 2021/3/24 15:45
+     */
+    public static String parseByPattern(Pattern pattern, String address) {
+        if (Objects.isNull(pattern) || StringUtils.isBlank(address)) {
+            return EMPTY;
+        }
+        Matcher matcher = pattern.matcher(address);
+        return matcher.find() ? matcher.group(0) : EMPTY;
+    }
+
+
+    /**
+     * 解析收货人姓名
+     *
+     * @author Neo
+     * @since 2021/3/24 15:45
+     */
+    public static Pair<String, String> parseName(String name, String address) {
+        if (StringUtils.isNotBlank(name)) {
+            return new Pair<>(name, address);
+        }
+
+
+        // 按空格切分并去除首尾空白，忽略空项；取长度最短的一项作为姓名，其余项用空格拼接为地址
+        int count = 0, nameStart = 0, nameEnd = 0, nameLength = 0;
+        for (int from = 0; from <= address.length(); ) {
+            int to = nextBlank(address, from);
+            int start = trimStart(address, from, to), end = trimEnd(address, start, to);
+            if (start < end) {
+                int itemLength = length(address, start, end);
+                if (count == 0 || nameLength > itemLength) {
+                    nameStart = start;
+                    nameEnd = end;
+                    nameLength = itemLength;
+                }
+                count++;
+            }
+            from = to + 1;
+        }
+        if (count < 2) {
+            return new Pair<>(name, address);
+        }
+
+        String parseName = address.substring(nameStart, nameEnd);
+        StringBuilder builder = ParseScratch.get().builder();
+        for (int from = 0; from <= address.length(); ) {
+            int to = nextBlank(address, from);
+            int start = trimStart(address, from, to), end = trimEnd(address, start, to);
+            if (start < end && !(end - start == parseName.length() && address.startsWith(parseName, start))) {
+                if (builder.length() > 0) {
+                    builder.append(BLANK);
+                }
+                builder.append(address, start, end);
+            }
+            from = to + 1;
+        }
+        address = builder.toString();
+
+        return new Pair<>(parseName, address);
+    }
+
+    private static int nextBlank(String address, int from) {
+        int index = address.indexOf(' ', from);
+        return index == -1 ? address.length() : index;
+    }
+
+    private static int trimStart(String address, int start, int end) {
+        while (start < end && CharMatcher.whitespace().matches(address.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(String address, int start, int end) {
+        while (end > start && CharMatcher.whitespace().matches(address.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * 统计字符串长度
+     * 汉字算两位，英文一位
+     *
+     * @author Neo
+     * @since 2021/3/24 15:40
+     */
+    public static int length(String str) {
+        int result = 0;
+        if (Objects.isNull(str) || EMPTY.equals(str)) {
+            return result;
+        }
+
+        return length(str, 0, str.length());
+    }
+
+
+    /**
+     * 统计 [start, end) 区间的长度，规则同 {@link #length(String)}
+     */
+    private static int length(CharSequence str, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = str.charAt(i);
+            result += c >= 0x0391 && c <= 0xFFE5 ? 2 : c <= 0x00FF ? 1 : 0;
+        }
+        return result;
+    }
+
+
+    /**
+     * 第 i 个命中节点匹配部分的长度：名称出现时为名称长度，否则为简称长度
+     */
+    private static int matchLength(AreaHits hits, int i, AreaNode area) {
+        return hits.isShortName(i) ? area.getShortName().length() : area.getName().length();
+    }
+
+
+    /**
+     * 地址中是否出现地区的名称或简称，与 {@link #match(AreaNode, String)} 的 isMatch() 一致
+     */
+    private static boolean matches(AreaNode area, AddressCursor address) {
+        return address.contains(area.getName(), 0, address.length()) || address.contains(area.getShortName(), 0, address.length());
+    }
+
+
+    /**
+     * 地区节点匹配
+     *
+     * @author Neo
+     * @since 2021/3/24 15:56
+     */
+    public static MatchResult match(AreaNode area, String address) {
+        return match(area.getName(), area.getShortName(), address);
+    }
+
+
+    /**
+     * 地区节点匹配
+     *
+     * @author Neo
+     * @since 2021/3/24 15:56
+     */
+    static MatchResult match(String name, String shortName, String address) {
+        int index = StringUtils.indexOf(address, name);
+        boolean matchShort = false;
+
+        if (index == -1) {
+            index = StringUtils.indexOf(address, shortName);
+            matchShort = index > -1;
+        }
+        String matchName = index > -1 ? name : EMPTY;
+        if (matchShort) {
+            return new MatchResult(matchShort, matchName, shortName, index);
+        }
+        return new MatchResult(matchShort, matchName, index);
+    }
+
+
+    /**
+     * 乡镇、村的匹配结果
+     */
+    @AllArgsConstructor
+    private static final class ChildMatch {
+        private final AreaNode node;
+        /**
+         * 匹配名称之后的位置
+         */
+        private final int end;
+    }
+}
@@ -0,0 +1,456 @@
+package com.neo.address.parse;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * 不可变的地区字典：节点、按层级划分的列表以及名称匹配自动机
+ * <p>
+ * 默认数据只包含省市区县，加载扩展数据后还包含乡镇、村两级；乡镇单独编译一个自动机，村不编译，
+ * 解析时只在已确定乡镇的子节点中查找。
+ * <p>
+ * 节点数据保存在按列组织的 {@link AreaTable} 中，{@link AreaNode} 及各列表均为其上的只读视图。
+ * 邮编、区号在构建时建立哈希索引，行政代码按 {@link AreaTable#indexOf(long)} 二分查找。
+ * 所有结构在构造函数内完成并通过 final 字段发布，构建完成后不再修改，可被任意多个线程无锁共享。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Getter
+public final class AreaDictionary {
+
+    private static final AtomicLong GENERATOR = new AtomicLong();
+
+    /**
+     * 省级节点使用的占位邮编，不建立索引
+     */
+    static final String PLACEHOLDER_ZIP_CODE = "000000";
+
+    /**
+     * 邮区的位数：邮编前 3 位
+     */
+    static final int POSTAL_ZONE_LENGTH = 3;
+
+    /**
+     * 数据版本：节点内容的摘要，内容相同的字典版本相同
+     */
+    private final String version;
+
+    /**
+     * 代次：当前 JVM 中构建的第几个字典，用于区分同一版本的多次加载
+     */
+    private final long generation;
+
+    /**
+     * 全部节点（树的先序遍历顺序）
+     */
+    private final List<AreaNode> areas;
+
+    /**
+     * 省、市、区县列表
+     */
+    private final List<AreaNode> provinces, cities, districts;
+
+    /**
+     * 乡镇、村列表，未加载扩展数据时为空
+     */
+    private final List<AreaNode> towns, villages;
+
+    /**
+     * 省市区县名称匹配自动机，命中序号与 {@link #areas} 下标一致
+     */
+    private final AreaMatcher matcher;
+
+    /**
+     * 乡镇名称匹配自动机，命中序号与 {@link #areas} 下标一致，没有乡镇数据时为 null
+     */
+    private final AreaMatcher townMatcher;
+
+    /**
+     * 节点数据的紧凑存储
+     */
+    @Getter(lombok.AccessLevel.NONE)
+    private final AreaTable table;
+
+    /**
+     * 预先创建的村以上节点，村级节点为 null，访问时创建
+     */
+    @Getter(lombok.AccessLevel.NONE)
+    private final AreaNode[] nodes;
+
+    /**
+     * 邮编、邮区（邮编前 3 位）、区号到节点序号的索引，序号按先序遍历顺序
+     */
+    @Getter(lombok.AccessLevel.NONE)
+    private final Map<String, int[]> zipCodeIndex, postalZoneIndex, cityCodeIndex;
+
+    /**
+     * 模糊匹配索引，只在精确匹配失败时用到，首次使用时构建
+     */
+    @Getter(lombok.AccessLevel.NONE)
+    private volatile AreaFuzzyIndex fuzzyIndex;
+
+
+    private AreaDictionary(AreaTable table, AreaMatcher matcher) {
+        this.table = table;
+        this.nodes = new AreaNode[table.size()];
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (int i = 0; i < table.size(); i++) {
+            if (table.level(i) != AreaEnum.VILLAGE.getCode()) {
+                nodes[i] = new AreaNode(this, table, i);
+            }
+            hash(hasher, table, i);
+        }
+
+        this.version = hasher.hash().toString().substring(0, 16);
+        this.generation = GENERATOR.incrementAndGet();
+
+        this.areas = new NodeList(null, 0, table.size());
+        this.provinces = nodes(AreaEnum.PROVINCE);
+        this.cities = nodes(AreaEnum.CITY);
+        this.districts = nodes(AreaEnum.DISTRICT);
+        this.towns = nodes(AreaEnum.TOWN);
+        this.villages = nodes(AreaEnum.VILLAGE);
+        this.matcher = matcher;
+        this.townMatcher = this.towns.isEmpty() ? null : AreaMatcher.build(table, AreaEnum.TOWN);
+
+        this.zipCodeIndex = index(table, i -> zipCode(table, i));
+        this.postalZoneIndex = index(table, i -> {
+            String zipCode = zipCode(table, i);
+            return Objects.isNull(zipCode) ? null : zipCode.substring(0, POSTAL_ZONE_LENGTH);
+        });
+        this.cityCodeIndex = index(table, i -> StringUtils.trimToNull(table.cityCode(i)));
+    }
+
+
+    /**
+     * 通过加载结果构建字典
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaDictionary of(AreaSnapshot snapshot) {
+        return new AreaDictionary(snapshot.getTable(), snapshot.getMatcher());
+    }
+
+
+    /**
+     * 通过已构建父子关系的先序遍历节点列表构建字典
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaDictionary of(List<AreaTree> areas) {
+        return of(AreaSnapshot.of(areas));
+    }
+
+
+    /**
+     * 加载默认的地区数据，classpath 中存在扩展数据时加载扩展数据
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaDictionary load() {
+        return of(AreaLoader.loadDefault());
+    }
+
+
+    /**
+     * 加载文件系统中的地区数据，按内容识别快照或 JSON，扩展名为 .gz 时先按 gzip 解压
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaDictionary load(Path path) throws IOException {
+        return of(AreaLoader.load(path));
+    }
+
+
+    /**
+     * 加载数据来源中的地区数据，见 {@link AreaLoader#load(AreaSource)}
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaDictionary load(AreaSource source) throws IOException {
+        return of(AreaLoader.load(source));
+    }
+
+
+    /**
+     * 通过序号获取节点
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AreaNode get(int ordinal) {
+        AreaNode node = nodes[ordinal];
+        return Objects.isNull(node) ? new AreaNode(this, table, ordinal) : node;
+    }
+
+
+    /**
+     * 通过行政代码获取节点，不存在时返回 null
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AreaNode findByAreaCode(Long areaCode) {
+        int ordinal = Objects.isNull(areaCode) ? AreaTable.NONE : table.indexOf(areaCode);
+        return ordinal == AreaTable.NONE ? null : get(ordinal);
+    }
+
+
+    /**
+     * 通过邮编获取节点，按先序遍历顺序，不存在时返回空列表
+     * <p>
+     * 邮编通常精确到区县，同一城市的区县可能共用城市的邮编；省级节点的占位邮编 {@value #PLACEHOLDER_ZIP_CODE} 及村级节点不建立索引。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<AreaNode> findByZipCode(String zipCode) {
+        return lookup(zipCodeIndex, zipCode);
+    }
+
+
+    /**
+     * 通过电话区号（如 0755）获取节点，包括使用该区号的城市及其下的区县，按先序遍历顺序，不存在时返回空列表
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<AreaNode> findByCityCode(String cityCode) {
+        return lookup(cityCodeIndex, cityCode);
+    }
+
+
+    /**
+     * 通过邮区（邮编前 {@value #POSTAL_ZONE_LENGTH} 位）获取节点，不存在时返回空列表
+     */
+    List<AreaNode> findByPostalZone(String zone) {
+        return lookup(postalZoneIndex, zone);
+    }
+
+
+    /**
+     * 模糊匹配：查找文本中与省、市、区县名称只差一个字的片段，返回最长（相似度最高）、最靠前的片段匹配到的地区，按先序遍历顺序；
+     * 没有或无法区分时返回空列表
+     * <p>
+     * 名称的最后一个字（省、市、区、县等）需一致，两个字的名称不参与；索引在首次调用时构建。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<FuzzyMatch> fuzzyMatch(CharSequence text) {
+        if (Objects.isNull(text)) {
+            return Collections.emptyList();
+        }
+        AreaFuzzyIndex index = fuzzyIndex;
+        if (Objects.isNull(index)) {
+            synchronized (this) {
+                index = fuzzyIndex;
+                if (Objects.isNull(index)) {
+                    fuzzyIndex = index = new AreaFuzzyIndex(this, table);
+                }
+            }
+        }
+        return index.find(text);
+    }
+
+
+    /**
+     * 通过省、市、区县名称逐级定位节点，返回能定位到的最末级节点，都定位不到时返回 null
+     * <p>
+     * 上级名称为空时，在对应层级的全部节点中按名称查找。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AreaNode locate(String province, String city, String district) {
+        AreaNode node = null;
+        if (StringUtils.isNotBlank(province)) {
+            node = find(provinces, province);
+        }
+        if (StringUtils.isNotBlank(city)) {
+            AreaNode found = find(Objects.isNull(node) ? cities : node.getChildren(), city);
+            node = Objects.isNull(found) ? node : found;
+        }
+        if (StringUtils.isNotBlank(district)) {
+            AreaNode found = null;
+            if (Objects.isNull(node)) {
+                found = find(districts, district);
+            } else if (node.is(AreaEnum.PROVINCE)) {
+                for (int i = 0; i < node.getChildren().size() && Objects.isNull(found); i++) {
+                    found = find(node.getChildren().get(i).getChildren(), district);
+                }
+            } else {
+                found = find(node.getChildren(), district);
+            }
+            node = Objects.isNull(found) ? node : found;
+        }
+        return node;
+    }
+
+
+    /**
+     * 节点数据的紧凑存储，供解析时直接读取
+     */
+    AreaTable table() {
+        return table;
+    }
+
+
+    /**
+     * 是否包含乡镇数据
+     */
+    public boolean hasTowns() {
+        return !towns.isEmpty();
+    }
+
+
+    /**
+     * 节点总数
+     */
+    public int size() {
+        return table.size();
+    }
+
+
+    /**
+     * 估算的堆占用（字节）：节点存储、字符串池、预先创建的节点对象及自动机
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public long footprint() {
+        long bytes = table.footprint() + 16 + 4L * nodes.length;
+        for (AreaNode node : nodes) {
+            // 节点对象 24 字节 + 子节点视图 16 字节
+            bytes += Objects.isNull(node) ? 0 : 40;
+        }
+        bytes += footprint(zipCodeIndex) + footprint(postalZoneIndex) + footprint(cityCodeIndex);
+        bytes += matcher.footprint();
+        return Objects.isNull(townMatcher) ? bytes : bytes + townMatcher.footprint();
+    }
+
+
+    private List<AreaNode> nodes(AreaEnum level) {
+        int[] ordinals = table.ordinals(level);
+        return new NodeList(ordinals, 0, ordinals.length);
+    }
+
+
+    private List<AreaNode> lookup(Map<String, int[]> index, String code) {
+        int[] ordinals = Objects.isNull(code) ? null : index.get(code);
+        return Objects.isNull(ordinals) ? Collections.emptyList() : new NodeList(ordinals, 0, ordinals.length);
+    }
+
+
+    /**
+     * 按 key 对村以上的节点建立索引，key 为 null 的节点不建立索引；村级节点数量大且与所属乡镇的代码相同，不建立索引
+     */
+    private static Map<String, int[]> index(AreaTable table, IntFunction<String> key) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < table.size(); i++) {
+            String k = table.level(i) == AreaEnum.VILLAGE.getCode() ? null : key.apply(i);
+            if (Objects.nonNull(k)) {
+                counts.merge(k, 1, Integer::sum);
+            }
+        }
+        Map<String, int[]> index = new HashMap<>(counts.size() * 4 / 3 + 1);
+        counts.forEach((k, count) -> index.put(k, new int[count]));
+        for (int i = 0; i < table.size(); i++) {
+            String k = table.level(i) == AreaEnum.VILLAGE.getCode() ? null : key.apply(i);
+            if (Objects.nonNull(k)) {
+                int[] ordinals = index.get(k);
+                int n = counts.merge(k, -1, Integer::sum);
+                ordinals[ordinals.length - n - 1] = i;
+            }
+        }
+        return index;
+    }
+
+
+    private static String zipCode(AreaTable table, int i) {
+        String zipCode = table.zipCode(i);
+        return StringUtils.length(zipCode) < POSTAL_ZONE_LENGTH || PLACEHOLDER_ZIP_CODE.equals(zipCode) ? null : zipCode;
+    }
+
+
+    /**
+     * 索引占用：哈希表数组、每个条目约 32 字节的 HashMap.Node 及序号数组，不计键字符串
+     */
+    private static long footprint(Map<String, int[]> index) {
+        long bytes = 48 + 4L * Integer.highestOneBit(Math.max(index.size(), 1) * 2);
+        for (int[] ordinals : index.values()) {
+            bytes += 32 + ((16 + 4L * ordinals.length + 7) & ~7L);
+        }
+        return bytes;
+    }
+
+
+    private static void hash(Hasher hasher, AreaTable table, int i) {
+        hasher.putInt(table.level(i))
+                .putLong(table.areaCode(i))
+                .putLong(table.parentCode(i))
+                .putString(Objects.toString(table.name(i), AddressParser.EMPTY), StandardCharsets.UTF_8)
+                .putString(Objects.toString(table.shortName(i), AddressParser.EMPTY), StandardCharsets.UTF_8)
+                .putString(Objects.toString(table.zipCode(i), AddressParser.EMPTY), StandardCharsets.UTF_8)
+                .putString(Objects.toString(table.cityCode(i), AddressParser.EMPTY), StandardCharsets.UTF_8);
+    }
+
+
+    private static AreaNode find(List<AreaNode> nodes, String name) {
+        for (int i = 0; i < nodes.size(); i++) {
+            if (StringUtils.equals(nodes.get(i).getName(), name)) {
+                return nodes.get(i);
+            }
+        }
+        return null;
+    }
+
+
+    /**
+     * 节点下标列表的视图，ordinals 为 null 时表示 [from, to) 的连续下标
+     */
+    private final class NodeList extends AbstractList<AreaNode> implements RandomAccess {
+        private final int[] ordinals;
+        private final int from, to;
+
+        NodeList(int[] ordinals, int from, int to) {
+            this.ordinals = ordinals;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public AreaNode get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+            }
+            return AreaDictionary.this.get(Objects.isNull(ordinals) ? from + index : ordinals[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.neo.address.parse;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 地区数据文件监听器
+ * <p>
+ * 在后台守护线程中监听文件的创建和修改，变化平息 debounce 毫秒后回调一次，避免文件写入过程中被重复加载。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Slf4j
+public class AreaDictionaryWatcher implements Closeable {
+
+    /**
+     * 默认防抖时间（毫秒）
+     */
+    public static final long DEFAULT_DEBOUNCE = 500;
+
+    private final Path file;
+    private final Consumer<Path> onChange;
+    private final long debounce;
+    private final WatchService watchService;
+    private final Thread thread;
+
+
+    public AreaDictionaryWatcher(Path file, Consumer<Path> onChange) throws IOException {
+        this(file, onChange, DEFAULT_DEBOUNCE);
+    }
+
+    public AreaDictionaryWatcher(Path file, Consumer<Path> onChange, long debounce) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.onChange = Objects.requireNonNull(onChange, "onChange");
+        this.debounce = debounce;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        this.thread = new Thread(this::run, "area-dictionary-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!drain(watchService.take())) {
+                    continue;
+                }
+                // 等待文件写入完成：debounce 时间内没有新的变化才回调
+                WatchKey key;
+                while (Objects.nonNull(key = watchService.poll(debounce, TimeUnit.MILLISECONDS))) {
+                    drain(key);
+                }
+                try {
+                    onChange.accept(file);
+                } catch (Exception e) {
+                    log.error("地区数据文件 {} 变化处理失败", file, e);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * 消费事件，返回是否包含监听文件的变化
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            Object context = event.context();
+            if (StandardWatchEventKinds.OVERFLOW == event.kind()
+                    || (context instanceof Path && file.getFileName().equals(context))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+    }
+}
@@ -0,0 +1,300 @@
+package com.neo.address.parse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 省市区县名称的模糊匹配索引：查找地址中与名称只差一个字（替换）的片段
+ * <p>
+ * 每个名称以“某一位替换为通配符”的形式登记 n - 1 个键（最后一位为省、市、区、县等后缀，要求与名称一致，
+ * 避免“南京路”之类的道路名被当作地区），查询时地址片段按同样方式生成键，命中后再逐字校验。
+ * 只检查以名称后缀字结尾、全部为汉字、不与精确匹配命中的名称重叠且长度与某个名称相同的片段，
+ * 查找次数与地址长度成正比，不随字典规模增长。
+ * <p>
+ * 键为 64 位哈希，保存在开放寻址表中，相同键的节点以链表相连；构建完成后只读，可在多线程间共享。
+ * 两个字的名称替换一个字后只剩一个字，没有区分度，不登记。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class AreaFuzzyIndex {
+
+    /**
+     * 登记的最短名称长度
+     */
+    static final int MIN_LENGTH = 3;
+
+    /**
+     * 同一片段匹配到的地区超过该数量时视为无法区分，不返回结果
+     */
+    static final int MAX_CANDIDATES = 8;
+
+    /**
+     * 数据中的占位名称，与“市中区”“市南区”等只差一个字，不作为模糊匹配的片段
+     */
+    private static final String PLACEHOLDER = "市辖区";
+
+    private static final AreaEnum[] LEVELS = {AreaEnum.PROVINCE, AreaEnum.CITY, AreaEnum.DISTRICT};
+
+    private final AreaDictionary dictionary;
+
+    private final AreaTable table;
+
+    /**
+     * 开放寻址表：槽位中的键及该键第一个条目的下标，空槽为 -1
+     */
+    private final long[] slotKeys;
+    private final int[] slotHeads;
+
+    /**
+     * 条目：节点序号、通配位置、同键的下一个条目（-1 结束）
+     */
+    private final int[] entryOrdinals;
+    private final int[] entryWildcards;
+    private final int[] entryNext;
+
+    /**
+     * 名称最后一个字的集合
+     */
+    private final BitSet suffixes = new BitSet(Character.MAX_VALUE + 1);
+
+    /**
+     * 出现过的名称长度，升序
+     */
+    private final int[] lengths;
+
+
+    AreaFuzzyIndex(AreaDictionary dictionary, AreaTable table) {
+        this.dictionary = dictionary;
+        this.table = table;
+
+        int entries = 0;
+        TreeSet<Integer> lengthSet = new TreeSet<>();
+        for (AreaEnum level : LEVELS) {
+            for (int ordinal : table.ordinals(level)) {
+                String name = table.name(ordinal);
+                if (indexable(name)) {
+                    entries += name.length() - 1;
+                    lengthSet.add(name.length());
+                    suffixes.set(name.charAt(name.length() - 1));
+                }
+            }
+        }
+        this.lengths = lengthSet.stream().mapToInt(Integer::intValue).toArray();
+
+        int capacity = Integer.highestOneBit(Math.max(entries, 1) * 2 - 1) << 1;
+        this.slotKeys = new long[capacity];
+        this.slotHeads = new int[capacity];
+        Arrays.fill(slotHeads, -1);
+        this.entryOrdinals = new int[entries];
+        this.entryWildcards = new int[entries];
+        this.entryNext = new int[entries];
+
+        int entry = 0;
+        for (AreaEnum level : LEVELS) {
+            for (int ordinal : table.ordinals(level)) {
+                String name = table.name(ordinal);
+                if (!indexable(name)) {
+                    continue;
+                }
+                for (int wildcard = 0; wildcard < name.length() - 1; wildcard++) {
+                    long key = hash(name, 0, name.length(), wildcard);
+                    int slot = slot(key);
+                    slotKeys[slot] = key;
+                    entryOrdinals[entry] = ordinal;
+                    entryWildcards[entry] = wildcard;
+                    entryNext[entry] = slotHeads[slot];
+                    slotHeads[slot] = entry++;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * 查找与名称只差一个字的片段：取相似度最高（名称最长）、位置最靠前的片段，返回该片段匹配到的全部地区（按先序遍历顺序）；
+     * 没有或地区超过 {@link #MAX_CANDIDATES} 个时返回空列表
+     */
+    List<FuzzyMatch> find(CharSequence text) {
+        int bestIndex = -1, bestLength = 0, count = 0;
+        int[] found = new int[MAX_CANDIDATES + 1];
+        int[] window = new int[MAX_CANDIDATES + 1];
+
+        // ideographs 为以 end 结尾、未被精确匹配覆盖的连续汉字数量
+        boolean[] covered = coverage(text);
+        int ideographs = 0;
+        for (int end = 0; end < text.length(); end++) {
+            char c = text.charAt(end);
+            ideographs = Character.isIdeographic(c) && !covered[end] ? ideographs + 1 : 0;
+            if (ideographs < MIN_LENGTH || !suffixes.get(c)) {
+                continue;
+            }
+            // 从长到短，只接受比已找到的更长的片段，长度相同时保留更靠前的
+            for (int k = lengths.length - 1; k >= 0 && lengths[k] > bestLength; k--) {
+                int size = lengths[k];
+                if (size > ideographs) {
+                    continue;
+                }
+                int matched = lookup(text, end - size + 1, size, window);
+                if (matched > 0) {
+                    int[] swap = found;
+                    found = window;
+                    window = swap;
+                    bestIndex = end - size + 1;
+                    bestLength = size;
+                    count = matched;
+                    break;
+                }
+            }
+        }
+
+        if (bestLength == 0 || count > MAX_CANDIDATES) {
+            return Collections.emptyList();
+        }
+        Arrays.sort(found, 0, count);
+        List<FuzzyMatch> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            matches.add(FuzzyMatch.builder()
+                    .area(dictionary.get(found[i]))
+                    .index(bestIndex)
+                    .length(bestLength)
+                    .distance(1)
+                    .similarity(1 - 1D / bestLength)
+                    .build());
+        }
+        return matches;
+    }
+
+
+    /**
+     * 精确匹配命中的名称、简称（第一次出现）覆盖的位置，这些字已有明确的地区，不再参与模糊匹配
+     */
+    private boolean[] coverage(CharSequence text) {
+        boolean[] covered = new boolean[text.length()];
+        AreaHits hits = dictionary.getMatcher().scan(text);
+        for (int i = 0; i < hits.size(); i++) {
+            int ordinal = hits.ordinal(i);
+            cover(covered, hits.nameIndex(i), table.name(ordinal));
+            cover(covered, hits.shortNameIndex(i), table.shortName(ordinal));
+        }
+        return covered;
+    }
+
+    private static void cover(boolean[] covered, int index, String name) {
+        if (index > -1 && name != null) {
+            Arrays.fill(covered, index, Math.min(index + name.length(), covered.length), true);
+        }
+    }
+
+
+    /**
+     * 片段 [from, from + size) 只差一个字的地区序号写入 out，返回数量；超过 {@link #MAX_CANDIDATES} 时提前结束
+     */
+    private int lookup(CharSequence text, int from, int size, int[] out) {
+        if (isPlaceholder(text, from, size)) {
+            return 0;
+        }
+        int count = 0;
+        for (int wildcard = 0; wildcard < size - 1; wildcard++) {
+            int slot = slot(hash(text, from, size, wildcard));
+            for (int entry = slotHeads[slot]; entry != -1; entry = entryNext[entry]) {
+                if (entryWildcards[entry] != wildcard) {
+                    continue;
+                }
+                int ordinal = entryOrdinals[entry];
+                int differences = differences(table.name(ordinal), text, from);
+                if (differences == 0) {
+                    // 片段本身就是地区名称，已由精确匹配处理
+                    return 0;
+                }
+                if (differences > 1) {
+                    continue;
+                }
+                if (!contains(out, count, ordinal)) {
+                    if (count > MAX_CANDIDATES - 1) {
+                        return MAX_CANDIDATES + 1;
+                    }
+                    out[count++] = ordinal;
+                }
+            }
+        }
+        return count;
+    }
+
+
+    /**
+     * 名称与等长片段不同的字数
+     */
+    private static int differences(String name, CharSequence text, int from) {
+        int differences = 0;
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != text.charAt(from + i)) {
+                differences++;
+            }
+        }
+        return differences;
+    }
+
+
+    /**
+     * 片段是否为加载时排除的占位名称，见 {@link AreaLoader#isExcluded(AreaTree)}
+     */
+    private static boolean isPlaceholder(CharSequence text, int from, int size) {
+        if (size != PLACEHOLDER.length()) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (text.charAt(from + i) != PLACEHOLDER.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 键所在的槽位：线性探测到该键或空槽，空槽的链表为空
+     */
+    private int slot(long key) {
+        int mask = slotKeys.length - 1;
+        int slot = (int) (key ^ (key >>> 32)) & mask;
+        while (slotHeads[slot] != -1 && slotKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+
+    private static boolean indexable(String name) {
+        return name != null && name.length() >= MIN_LENGTH;
+    }
+
+
+    /**
+     * 片段的键：wildcard 处的字视为通配符，长度不同的片段键不同
+     */
+    private static long hash(CharSequence text, int from, int size, int wildcard) {
+        long h = 0xcbf29ce484222325L ^ size;
+        for (int i = 0; i < size; i++) {
+            h = (h ^ (i == wildcard ? 0 : text.charAt(from + i))) * 0x100000001b3L;
+        }
+        // 混合高低位，使低位分布均匀
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        return h ^ (h >>> 33);
+    }
+}
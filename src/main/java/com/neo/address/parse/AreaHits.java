@@ -0,0 +1,158 @@
+package com.neo.address.parse;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 地区命中结果
+ * <p>
+ * 由 {@link AreaMatcher#scan(CharSequence)} 产生，按节点序号升序排列（启用自适应候选顺序时按 {@link CandidateOrder} 的排位升序），
+ * 每个节点记录名称和简称第一次出现的位置（未出现为 -1）。节点序号与 {@link AreaDictionary#getAreas()} 的下标一致。
+ * <p>
+ * 解析过程中使用 {@link ParseScratch} 中按调用深度复用的实例，重新扫描时原地覆盖，不应在扫描方法之外持有。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AreaHits {
+
+    public static final AreaHits EMPTY = new AreaHits(new int[0], new int[0], new int[0], 0);
+
+    private int[] ordinals;
+    private int[] nameIndexes;
+    private int[] shortNameIndexes;
+    private int size;
+
+    /**
+     * 命中的排列顺序，null 为序号顺序
+     */
+    private CandidateOrder order;
+
+
+    AreaHits() {
+        this(new int[16], new int[16], new int[16], 0);
+    }
+
+    private AreaHits(int[] ordinals, int[] nameIndexes, int[] shortNameIndexes, int size) {
+        this.ordinals = ordinals;
+        this.nameIndexes = nameIndexes;
+        this.shortNameIndexes = shortNameIndexes;
+        this.size = size;
+    }
+
+
+    /**
+     * 通过已排序的原始命中记录 (序号 << 1 | 是否简称) << 31 | 位置 构建
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaHits of(long[] raw, int count) {
+        return new AreaHits(new int[count], new int[count], new int[count], 0).fill(raw, count, null);
+    }
+
+
+    /**
+     * 用原始命中记录覆盖当前内容，容量不足时扩容；order 不为 null 时记录中为排位，按 order 还原为序号
+     */
+    AreaHits fill(long[] raw, int count, CandidateOrder order) {
+        if (ordinals.length < count) {
+            ordinals = new int[count];
+            nameIndexes = new int[count];
+            shortNameIndexes = new int[count];
+        }
+        size = 0;
+        this.order = order;
+
+        for (int i = 0; i < count; i++) {
+            int output = (int) (raw[i] >>> 31);
+            int ordinal = Objects.isNull(order) ? output >>> 1 : order.ordinal(output >>> 1);
+            int index = (int) (raw[i] & Integer.MAX_VALUE);
+
+            if (size == 0 || ordinals[size - 1] != ordinal) {
+                ordinals[size] = ordinal;
+                nameIndexes[size] = -1;
+                shortNameIndexes[size] = -1;
+                size++;
+            }
+
+            int last = size - 1;
+            if ((output & 1) == 0) {
+                nameIndexes[last] = nameIndexes[last] == -1 ? index : nameIndexes[last];
+            } else {
+                shortNameIndexes[last] = shortNameIndexes[last] == -1 ? index : shortNameIndexes[last];
+            }
+        }
+        return this;
+    }
+
+
+    /**
+     * 命中节点数量
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 第 i 个命中节点的序号
+     */
+    public int ordinal(int i) {
+        return ordinals[i];
+    }
+
+    /**
+     * 第 i 个命中节点名称第一次出现的位置
+     */
+    public int nameIndex(int i) {
+        return nameIndexes[i];
+    }
+
+    /**
+     * 第 i 个命中节点简称第一次出现的位置
+     */
+    public int shortNameIndex(int i) {
+        return shortNameIndexes[i];
+    }
+
+    /**
+     * 第 i 个命中节点第一次出现的位置：名称出现时取名称的位置，否则取简称的位置
+     */
+    public int index(int i) {
+        return nameIndexes[i] > -1 ? nameIndexes[i] : shortNameIndexes[i];
+    }
+
+    /**
+     * 第 i 个命中节点是否只命中了简称
+     */
+    public boolean isShortName(int i) {
+        return nameIndexes[i] == -1;
+    }
+
+    /**
+     * 排列顺序中 ordinal 之后的第一个命中下标，不存在时返回 size()
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public int indexAfter(int ordinal) {
+        if (Objects.isNull(order)) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+        int rank = order.rank(ordinal), low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.rank(ordinals[mid]) <= rank) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,97 @@
+package com.neo.address.parse;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 流式读取 JSON 格式的地区数据：逐条读取数组中的节点，按 {@link AreaLoader#isExcluded(AreaTree)} 过滤后交给调用方，
+ * 不把整个文件读入内存，也不保留已处理的节点
+ * <p>
+ * 字段与 {@link AreaTree} 相同，未知字段及 parent、children 等嵌套字段忽略；数值字段也接受字符串形式的数字。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class AreaJsonReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private AreaJsonReader() {
+    }
+
+
+    /**
+     * 读取 in 中的节点，返回读取的节点数量（含被过滤的节点）；不关闭 in
+     */
+    static int read(InputStream in, Consumer<AreaTree> consumer) throws IOException {
+        JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE));
+        reader.setLenient(true);
+        if (reader.peek() == JsonToken.END_DOCUMENT) {
+            return 0;
+        }
+
+        int count = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            AreaTree area = readArea(reader);
+            count++;
+            if (!AreaLoader.isExcluded(area)) {
+                consumer.accept(area);
+            }
+        }
+        reader.endArray();
+        return count;
+    }
+
+
+    private static AreaTree readArea(JsonReader reader) throws IOException {
+        AreaTree area = new AreaTree();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (field) {
+                case "level":
+                    area.setLevel(reader.nextInt());
+                    break;
+                case "parentCode":
+                    area.setParentCode(reader.nextLong());
+                    break;
+                case "areaCode":
+                    area.setAreaCode(reader.nextLong());
+                    break;
+                case "zipCode":
+                    area.setZipCode(reader.nextString());
+                    break;
+                case "cityCode":
+                    area.setCityCode(reader.nextString());
+                    break;
+                case "name":
+                    area.setName(reader.nextString());
+                    break;
+                case "shortName":
+                    area.setShortName(reader.nextString());
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+        return area;
+    }
+}
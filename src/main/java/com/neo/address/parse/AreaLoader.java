@@ -0,0 +1,160 @@
+package com.neo.address.parse;
+
+import com.google.common.base.Stopwatch;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 省市区县数据加载
+ * <p>
+ * 优先加载构建期生成的二进制快照，快照不存在或不可用时回退到 JSON 文件。
+ * 扩展数据与默认数据格式相同，另包含层级为 3（乡镇）、4（村）的节点。
+ * <p>
+ * 数据来源见 {@link AreaSource}，可以是 classpath、文件系统或 gzip 压缩的数据。JSON 数据流式读取，
+ * 逐条过滤后直接写入按列存储的 {@link AreaTable}，不把整个文件读入内存，也不创建逐个节点的对象，
+ * 加载期间的内存占用与最终字典相当。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Slf4j
+public class AreaLoader {
+
+    /**
+     * 二进制快照文件扩展名
+     */
+    public static final String SNAPSHOT_EXTENSION = ".bin";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private AreaLoader() {
+    }
+
+
+    /**
+     * 加载地区数据，返回已构建父子关系的节点列表（树的先序遍历顺序）及名称匹配自动机
+     *
+     * @param jsonPath     JSON 数据文件的 classpath 路径
+     * @param snapshotPath 二进制快照的 classpath 路径
+     * @throws IllegalStateException 快照不存在或无法读取，且 JSON 数据文件也不存在时
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaSnapshot load(String jsonPath, String snapshotPath) {
+        URL snapshot = AreaLoader.class.getResource(snapshotPath);
+        if (Objects.nonNull(snapshot)) {
+            try {
+                return AreaSnapshot.read(snapshot);
+            } catch (Exception e) {
+                log.warn("地区数据快照 {} 加载失败，回退到 {}", snapshotPath, jsonPath, e);
+            }
+        }
+        if (Objects.isNull(AreaLoader.class.getResource(jsonPath))) {
+            throw new IllegalStateException("地区数据不存在或不可用：" + snapshotPath + "、" + jsonPath);
+        }
+        try {
+            return load(AreaSource.classpath(jsonPath));
+        } catch (IOException e) {
+            throw new UncheckedIOException("地区数据 " + jsonPath + " 加载失败", e);
+        }
+    }
+
+
+    /**
+     * 加载默认的地区数据：classpath 中存在包含乡镇、村的扩展数据时优先加载扩展数据，否则加载省市区县数据
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaSnapshot loadDefault() {
+        if (Objects.nonNull(AreaLoader.class.getResource(AddressParse.EXTENDED_SNAPSHOT_PATH))
+                || Objects.nonNull(AreaLoader.class.getResource(AddressParse.EXTENDED_FILE_PATH))) {
+            return load(AddressParse.EXTENDED_FILE_PATH, AddressParse.EXTENDED_SNAPSHOT_PATH);
+        }
+        return load(AddressParse.FILE_PATH, AddressParse.SNAPSHOT_PATH);
+    }
+
+
+    /**
+     * 加载文件系统中的地区数据，按内容识别快照或 JSON，扩展名为 .gz 时先按 gzip 解压
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaSnapshot load(Path path) throws IOException {
+        if (!Files.isRegularFile(path)) {
+            throw new IOException("地区数据文件不存在：" + path);
+        }
+        return load(AreaSource.path(path));
+    }
+
+
+    /**
+     * 加载数据来源中的地区数据：以快照魔数开头时按快照读取，否则按 JSON 流式读取
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaSnapshot load(AreaSource source) throws IOException {
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        try (InputStream in = new BufferedInputStream(source.open(), BUFFER_SIZE)) {
+            if (AreaSnapshot.isSnapshot(in)) {
+                return AreaSnapshot.read(in);
+            }
+            AreaTable.Builder builder = AreaTable.builder();
+            int count = AreaJsonReader.read(in, builder::add);
+            AreaSnapshot snapshot = AreaSnapshot.of(builder.build());
+            log.info("地区数据 {} 读取完成：{} 条记录，{} 个节点，耗时：{} ms",
+                    source, count, snapshot.getTable().size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            return snapshot;
+        }
+    }
+
+
+    /**
+     * 加载 JSON 格式的地区数据，过滤后构建父子关系，返回可修改的 {@link AreaTree} 节点（先序遍历顺序）；
+     * 只用于需要节点对象的场景，构建字典应使用 {@link #load(AreaSource)}
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static List<AreaTree> loadJson(URL url) {
+        if (Objects.isNull(url)) {
+            return Collections.EMPTY_LIST;
+        }
+        List<AreaTree> areas = new ArrayList<>();
+        try (InputStream in = AreaSource.url(url).open()) {
+            AreaJsonReader.read(in, areas::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("地区数据 " + url + " 加载失败", e);
+        }
+        return TreeUtils.buildPath(areas, o -> Objects.equals(o.getParentCode(), 0L));
+    }
+
+
+    /**
+     * 是否排除该节点：名称过短的市、区县，以及“市辖区”
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static boolean isExcluded(AreaTree area) {
+        if (AreaEnum.CITY.getCode().equals(area.getLevel()) || AreaEnum.DISTRICT.getCode().equals(area.getLevel())) {
+            return StringUtils.length(area.getName()) <= 2 || StringUtils.equals(area.getName(), "市辖区");
+        }
+        return false;
+    }
+}
@@ -0,0 +1,500 @@
+package com.neo.address.parse;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+
+/**
+ * 地区名称多模式匹配器（Aho-Corasick 自动机）
+ * <p>
+ * 加载时将所有地区节点的名称和简称编译为一个自动机，解析时对地址只扫描一遍即可得到全部命中的地区及其位置，
+ * 替代逐个节点调用 {@link StringUtils#indexOf(CharSequence, CharSequence)} 的方式。
+ * 乡镇及以下的节点数量大、重名多，不编入省市区县的自动机，乡镇单独编译，村只在所属乡镇的子节点中查找。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AreaMatcher {
+
+    private static final int ROOT = 0;
+
+    /**
+     * 状态转移表：开放寻址哈希，key 为 (状态 << 16 | 字符)
+     */
+    private final long[] transitionKeys;
+    private final int[] transitionValues;
+    private final int transitionMask;
+
+    /**
+     * 失败指针
+     */
+    private final int[] fail;
+    /**
+     * 输出指针：沿失败指针最近的一个有输出的状态
+     */
+    private final int[] outputLink;
+    /**
+     * 每个状态自身的输出区间 [outputStart[s], outputStart[s + 1])
+     */
+    private final int[] outputStart;
+    /**
+     * 输出项：(序号 << 1 | 是否简称)
+     */
+    private final int[] outputs;
+    /**
+     * 输出项对应的模式长度
+     */
+    private final int[] outputLengths;
+
+
+    private AreaMatcher(Trie trie) {
+        int capacity = capacity(trie.transitionCount);
+        this.transitionKeys = new long[capacity];
+        this.transitionValues = new int[capacity];
+        this.transitionMask = capacity - 1;
+        Arrays.fill(this.transitionKeys, -1L);
+
+        int stateCount = trie.children.size();
+        for (int state = 0; state < stateCount; state++) {
+            Trie.Node node = trie.children.get(state);
+            for (int i = 0; i < node.size; i++) {
+                putTransition(state, node.chars[i], node.targets[i]);
+            }
+        }
+
+        this.fail = new int[stateCount];
+        this.outputLink = new int[stateCount];
+        this.outputStart = new int[stateCount + 1];
+
+        int outputCount = 0;
+        for (int state = 0; state < stateCount; state++) {
+            this.outputStart[state] = outputCount;
+            outputCount += trie.outputs.get(state).size();
+        }
+        this.outputStart[stateCount] = outputCount;
+        this.outputs = new int[outputCount];
+        this.outputLengths = new int[outputCount];
+        for (int state = 0, k = 0; state < stateCount; state++) {
+            for (int[] output : trie.outputs.get(state)) {
+                this.outputs[k] = output[0];
+                this.outputLengths[k] = output[1];
+                k++;
+            }
+        }
+
+        buildFailure(trie);
+    }
+
+
+    private AreaMatcher(long[] keys, int[] values, int[] fail, int[] outputLink,
+                        int[] outputStart, int[] outputs, int[] outputLengths) {
+        int capacity = capacity(keys.length);
+        this.transitionKeys = new long[capacity];
+        this.transitionValues = new int[capacity];
+        this.transitionMask = capacity - 1;
+        Arrays.fill(this.transitionKeys, -1L);
+        for (int i = 0; i < keys.length; i++) {
+            putTransition((int) (keys[i] >>> 16), (char) keys[i], values[i]);
+        }
+
+        this.fail = fail;
+        this.outputLink = outputLink;
+        this.outputStart = outputStart;
+        this.outputs = outputs;
+        this.outputLengths = outputLengths;
+    }
+
+
+    /**
+     * 通过地区列表构建省市区县匹配器，节点序号即其在列表中的位置
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaMatcher build(List<AreaTree> areas) {
+        return build(AreaTable.of(areas));
+    }
+
+
+    /**
+     * 通过节点存储构建省市区县匹配器
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaMatcher build(AreaTable table) {
+        return build(table, level -> level < AreaEnum.TOWN.getCode());
+    }
+
+
+    /**
+     * 通过节点存储中指定层级的节点构建匹配器
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaMatcher build(AreaTable table, AreaEnum level) {
+        return build(table, l -> l == level.getCode());
+    }
+
+
+    private static AreaMatcher build(AreaTable table, IntPredicate levelFilter) {
+        Trie trie = new Trie();
+        for (int ordinal = 0; ordinal < table.size(); ordinal++) {
+            if (!levelFilter.test(table.level(ordinal))) {
+                continue;
+            }
+            trie.add(table.name(ordinal), ordinal << 1);
+            trie.add(table.shortName(ordinal), ordinal << 1 | 1);
+        }
+        return new AreaMatcher(trie);
+    }
+
+
+    /**
+     * 通过关键字列表构建匹配器，命中记录的输出项为 (关键字下标 << 1)
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaMatcher of(List<String> keywords) {
+        Trie trie = new Trie();
+        for (int i = 0; i < keywords.size(); i++) {
+            trie.add(keywords.get(i), i << 1);
+        }
+        return new AreaMatcher(trie);
+    }
+
+
+    /**
+     * 扫描地址，返回所有命中的地区序号，按序号升序排列
+     * <p>
+     * 每个节点只保留名称和简称各自第一次出现的位置，与 {@link AddressParser#match(AreaNode, String)} 的语义一致。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AreaHits scan(CharSequence text) {
+        ParseScratch scratch = ParseScratch.get();
+        int count = scanAll(text, scratch);
+        return count == 0 ? AreaHits.EMPTY : AreaHits.of(scratch.raw(count), count);
+    }
+
+
+    /**
+     * 文本中是否出现任一名称或简称，找到第一个即返回
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public boolean matchesAny(CharSequence text) {
+        int state = ROOT;
+        for (int i = 0; i < StringUtils.length(text); i++) {
+            state = next(state, text.charAt(i));
+            if (hasOutput(state) || outputLink[state] != ROOT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 扫描地址，结果覆盖写入 hits 并返回，用于解析过程中复用 {@link ParseScratch} 中的实例
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    AreaHits scan(CharSequence text, AreaHits hits) {
+        return scan(text, hits, null);
+    }
+
+
+    /**
+     * 扫描地址，命中按 order 的排位升序排列，order 为 null 时按序号升序；结果覆盖写入 hits 并返回
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    AreaHits scan(CharSequence text, AreaHits hits, CandidateOrder order) {
+        ParseScratch scratch = ParseScratch.get();
+        int count = scanAll(text, scratch, order);
+        return hits.fill(scratch.raw(count), count, order);
+    }
+
+
+    /**
+     * 扫描文本，全部命中记录 (输出项 << 31 | 位置) 按 (输出项, 位置) 升序写入 {@link ParseScratch#raw(int)}，返回记录数；
+     * 缓冲区在下一次扫描前有效
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    int scanAll(CharSequence text, ParseScratch scratch) {
+        return scanAll(text, scratch, null);
+    }
+
+
+    /**
+     * 同 {@link #scanAll(CharSequence, ParseScratch)}，order 不为 null 时输出项中的序号替换为排位
+     */
+    private int scanAll(CharSequence text, ParseScratch scratch, CandidateOrder order) {
+        if (StringUtils.isEmpty(text)) {
+            return 0;
+        }
+
+        long[] raw = scratch.raw(16);
+        int[] ranks = Objects.isNull(order) ? null : order.ranks();
+        int count = 0;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+
+            int out = hasOutput(state) ? state : outputLink[state];
+            while (out != ROOT) {
+                for (int k = outputStart[out]; k < outputStart[out + 1]; k++) {
+                    if (count == raw.length) {
+                        raw = scratch.raw(count + 1);
+                    }
+                    int output = Objects.isNull(ranks) ? outputs[k] : ranks[outputs[k] >>> 1] << 1 | outputs[k] & 1;
+                    raw[count++] = (long) output << 31 | (i - outputLengths[k] + 1);
+                }
+                out = outputLink[out];
+            }
+        }
+
+        // 按 (序号或排位, 是否简称, 位置) 排序后，同一节点的第一条记录即为最左侧的出现位置
+        Arrays.sort(raw, 0, count);
+        return count;
+    }
+
+
+    /**
+     * 写出自动机，供 {@link AreaSnapshot} 使用
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    void write(DataOutputStream out) throws IOException {
+        int transitionCount = 0;
+        for (long key : transitionKeys) {
+            transitionCount += key == -1L ? 0 : 1;
+        }
+        out.writeInt(transitionCount);
+        for (int i = 0; i < transitionKeys.length; i++) {
+            if (transitionKeys[i] != -1L) {
+                out.writeLong(transitionKeys[i]);
+                out.writeInt(transitionValues[i]);
+            }
+        }
+
+        out.writeInt(fail.length);
+        writeInts(out, fail);
+        writeInts(out, outputLink);
+        writeInts(out, outputStart);
+        writeInts(out, outputs);
+        writeInts(out, outputLengths);
+    }
+
+
+    /**
+     * 读取 {@link #write(DataOutputStream)} 写出的自动机
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaMatcher read(ByteBuffer buffer) {
+        int transitionCount = buffer.getInt();
+        long[] keys = new long[transitionCount];
+        int[] values = new int[transitionCount];
+        for (int i = 0; i < transitionCount; i++) {
+            keys[i] = buffer.getLong();
+            values[i] = buffer.getInt();
+        }
+
+        int stateCount = buffer.getInt();
+        int[] fail = readInts(buffer, stateCount);
+        int[] outputLink = readInts(buffer, stateCount);
+        int[] outputStart = readInts(buffer, stateCount + 1);
+        int outputCount = outputStart[stateCount];
+        int[] outputs = readInts(buffer, outputCount);
+        int[] outputLengths = readInts(buffer, outputCount);
+        return new AreaMatcher(keys, values, fail, outputLink, outputStart, outputs, outputLengths);
+    }
+
+
+    /**
+     * 估算的堆占用（字节）
+     */
+    long footprint() {
+        return 16 + 8L * transitionKeys.length + 16 + 4L * transitionValues.length
+                + 5 * 16 + 4L * (fail.length + outputLink.length + outputStart.length + outputs.length + outputLengths.length);
+    }
+
+
+    private boolean hasOutput(int state) {
+        return outputStart[state] < outputStart[state + 1];
+    }
+
+
+    private int next(int state, char c) {
+        int target;
+        while ((target = getTransition(state, c)) < 0 && state != ROOT) {
+            state = fail[state];
+        }
+        return target < 0 ? ROOT : target;
+    }
+
+
+    private void buildFailure(Trie trie) {
+        int[] queue = new int[trie.children.size()];
+        int head = 0, tail = 0;
+
+        Trie.Node root = trie.children.get(ROOT);
+        for (int i = 0; i < root.size; i++) {
+            int child = root.targets[i];
+            fail[child] = ROOT;
+            outputLink[child] = ROOT;
+            queue[tail++] = child;
+        }
+
+        while (head < tail) {
+            int state = queue[head++];
+            Trie.Node node = trie.children.get(state);
+            for (int i = 0; i < node.size; i++) {
+                char c = node.chars[i];
+                int child = node.targets[i];
+
+                int f = fail[state];
+                int target;
+                while ((target = getTransition(f, c)) < 0 && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[child] = target < 0 ? ROOT : target;
+                outputLink[child] = hasOutput(fail[child]) ? fail[child] : outputLink[fail[child]];
+                queue[tail++] = child;
+            }
+        }
+    }
+
+
+    private void putTransition(int state, char c, int target) {
+        long key = (long) state << 16 | c;
+        int slot = hash(key) & transitionMask;
+        while (transitionKeys[slot] != -1L) {
+            slot = (slot + 1) & transitionMask;
+        }
+        transitionKeys[slot] = key;
+        transitionValues[slot] = target;
+    }
+
+
+    private int getTransition(int state, char c) {
+        long key = (long) state << 16 | c;
+        int slot = hash(key) & transitionMask;
+        long k;
+        while ((k = transitionKeys[slot]) != -1L) {
+            if (k == key) {
+                return transitionValues[slot];
+            }
+            slot = (slot + 1) & transitionMask;
+        }
+        return -1;
+    }
+
+
+    private static int capacity(int transitionCount) {
+        return Integer.highestOneBit(Math.max(transitionCount, 1) * 2 - 1) << 1;
+    }
+
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+
+    private static int[] readInts(ByteBuffer buffer, int length) {
+        int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + (length << 2));
+        return values;
+    }
+
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+
+    /**
+     * 构建期使用的字典树，构建完成后压缩进数组
+     */
+    private static class Trie {
+        private final List<Node> children = new ArrayList<>();
+        private final List<List<int[]>> outputs = new ArrayList<>();
+        private int transitionCount;
+
+        Trie() {
+            newState();
+        }
+
+        void add(String pattern, int output) {
+            if (StringUtils.isEmpty(pattern)) {
+                return;
+            }
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Node node = children.get(state);
+                int target = node.get(pattern.charAt(i));
+                if (target < 0) {
+                    target = newState();
+                    node.put(pattern.charAt(i), target);
+                    transitionCount++;
+                }
+                state = target;
+            }
+            outputs.get(state).add(new int[]{output, pattern.length()});
+        }
+
+        private int newState() {
+            children.add(new Node());
+            outputs.add(new ArrayList<>(1));
+            return children.size() - 1;
+        }
+
+        private static class Node {
+            private char[] chars = new char[2];
+            private int[] targets = new int[2];
+            private int size;
+
+            int get(char c) {
+                for (int i = 0; i < size; i++) {
+                    if (chars[i] == c) {
+                        return targets[i];
+                    }
+                }
+                return -1;
+            }
+
+            void put(char c, int target) {
+                if (size == chars.length) {
+                    chars = Arrays.copyOf(chars, size << 1);
+                    targets = Arrays.copyOf(targets, size << 1);
+                }
+                chars[size] = c;
+                targets[size] = target;
+                size++;
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.neo.address.parse;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 不可变的地区节点，由 {@link AreaDictionary} 构建并持有，可在多线程间安全共享
+ * <p>
+ * 节点只持有所属字典和序号，属性从字典的紧凑存储中读取。村以上的节点由字典预先创建并复用，
+ * 可以按引用比较；村级节点在访问时创建，应使用 {@link #equals(Object)} 比较。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public final class AreaNode {
+
+    private final AreaDictionary dictionary;
+
+    private final AreaTable table;
+
+    /**
+     * 序号，即节点在字典中的位置（树的先序遍历顺序）
+     */
+    private final int ordinal;
+
+    /**
+     * 子节点（只读）
+     */
+    private final List<AreaNode> children;
+
+
+    AreaNode(AreaDictionary dictionary, AreaTable table, int ordinal) {
+        this.dictionary = dictionary;
+        this.table = table;
+        this.ordinal = ordinal;
+        this.children = new Children();
+    }
+
+
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * 层级
+     */
+    public int getLevel() {
+        return table.level(ordinal);
+    }
+
+    /**
+     * 父级行政代码
+     */
+    public long getParentCode() {
+        return table.parentCode(ordinal);
+    }
+
+    /**
+     * 行政代码
+     */
+    public long getAreaCode() {
+        return table.areaCode(ordinal);
+    }
+
+    /**
+     * 邮政编码
+     */
+    public String getZipCode() {
+        return table.zipCode(ordinal);
+    }
+
+    /**
+     * 区号
+     */
+    public String getCityCode() {
+        return table.cityCode(ordinal);
+    }
+
+    /**
+     * 名称
+     */
+    public String getName() {
+        return table.name(ordinal);
+    }
+
+    /**
+     * 简称
+     */
+    public String getShortName() {
+        return table.shortName(ordinal);
+    }
+
+    /**
+     * 父节点
+     */
+    public AreaNode getParent() {
+        int parent = table.parent(ordinal);
+        return parent == AreaTable.NONE ? null : dictionary.get(parent);
+    }
+
+    /**
+     * 子节点（只读）
+     */
+    public List<AreaNode> getChildren() {
+        return children;
+    }
+
+
+    /**
+     * 是否为指定层级
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public boolean is(AreaEnum type) {
+        return type.getCode() == table.level(ordinal);
+    }
+
+
+    /**
+     * 转换为可修改的 {@link AreaTree}，不包含父子关系
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AreaTree toAreaTree() {
+        return AreaTree.builder()
+                .level(getLevel())
+                .parentCode(getParentCode())
+                .areaCode(getAreaCode())
+                .zipCode(getZipCode())
+                .cityCode(getCityCode())
+                .name(getName())
+                .shortName(getShortName())
+                .build();
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AreaNode)) {
+            return false;
+        }
+        AreaNode other = (AreaNode) o;
+        return dictionary == other.dictionary && ordinal == other.ordinal;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(dictionary) * 31 + ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return "AreaNode(ordinal=" + ordinal + ", level=" + getLevel() + ", parentCode=" + getParentCode()
+                + ", areaCode=" + getAreaCode() + ", zipCode=" + getZipCode() + ", cityCode=" + getCityCode()
+                + ", name=" + getName() + ", shortName=" + getShortName() + ")";
+    }
+
+
+    /**
+     * 子节点视图
+     */
+    private final class Children extends AbstractList<AreaNode> implements RandomAccess {
+        @Override
+        public AreaNode get(int index) {
+            int from = table.childrenFrom(ordinal);
+            if (index < 0 || from + index >= table.childrenTo(ordinal)) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+            }
+            return dictionary.get(table.children()[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return table.childrenTo(ordinal) - table.childrenFrom(ordinal);
+        }
+    }
+}
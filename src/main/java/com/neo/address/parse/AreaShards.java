@@ -0,0 +1,408 @@
+package com.neo.address.parse;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.io.ByteStreams;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按省份分片的地区数据：全部省份常驻，各省份的市、区县等下级节点在首次用到时加载
+ * <p>
+ * 分片由构建期按 {@link #write(AreaSnapshot, Path)} 生成：{@link #PROVINCES_FILE} 只包含省份节点，
+ * 每个省份的子树单独写成以省份行政代码命名的文件（如 110000000000.bin），均只包含节点，格式与 {@link AreaSnapshot} 的节点部分相同，
+ * 不含魔数、版本和名称匹配自动机（加载后按已加载的节点重新构建）；
+ * {@link #INDEX_FILE} 为完整数据的省市区县名称匹配自动机及各节点所属的省份，常驻内存，用于确定地址需要哪些省份。
+ * <p>
+ * 当前已加载的数据组成一个完整的 {@link AreaDictionary}：已加载省份为整棵子树，未加载省份只有省份节点本身，
+ * 因此省份名称在任何时候都能识别；加载分片后按先序遍历顺序重新拼接并替换字典，全部加载后与完整数据的字典内容一致。
+ * 每次加载只重建一次字典：一条或一批地址需要的省份一起加载。
+ * 字典通过 volatile 字段发布，读取无锁；加载串行执行。
+ * <p>
+ * 通过 {@link #loadFor(String)} 按地址中出现的任一层级的地区名称加载所属省份，地址中只有市或区县名称时同样可以识别；
+ * 重名的地区会加载所有同名地区所属的省份，以保证与完整数据的解析结果一致。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Slf4j
+public final class AreaShards {
+
+    /**
+     * 省份分片的文件名
+     */
+    public static final String PROVINCES_FILE = "provinces" + AreaLoader.SNAPSHOT_EXTENSION;
+
+    /**
+     * 名称索引的文件名
+     * <p>
+     * 格式（大端）：int 节点数量，随后每个节点为 int 所属省份的序号；之后为完整数据的名称匹配自动机，见 {@link AreaMatcher}
+     */
+    public static final String INDEX_FILE = "index" + AreaLoader.SNAPSHOT_EXTENSION;
+
+    private final String location;
+
+    private final ShardSource source;
+
+    /**
+     * 只包含省份节点的表，下标即省份序号
+     */
+    private final AreaTable provinces;
+
+    /**
+     * 各省份未加载下级节点时的单节点表
+     */
+    private final AreaTable[] roots;
+
+    /**
+     * 完整数据的省市区县名称匹配器，命中的序号为完整数据中的节点序号
+     */
+    private final AreaMatcher index;
+
+    /**
+     * 完整数据中各节点所属省份的序号
+     */
+    private final int[] provinceOf;
+
+    /**
+     * 已加载的省份子树，未加载时为 null，修改时持有 this 锁；表不可变，未加锁读取只用于跳过已加载的省份
+     */
+    private final AreaTable[] shards;
+
+    /**
+     * 按地址自动加载失败的省份，不再自动重试，可通过 {@link #load(long)} 重试
+     */
+    private final boolean[] failed;
+
+    private volatile int loaded;
+
+    private volatile AreaDictionary dictionary;
+
+
+    private AreaShards(String location, ShardSource source) throws IOException {
+        this.location = location;
+        this.source = source;
+        this.provinces = AreaTable.read(read(PROVINCES_FILE));
+        this.roots = new AreaTable[provinces.size()];
+        for (int i = 0; i < roots.length; i++) {
+            if (provinces.parent(i) != AreaTable.NONE) {
+                throw new IOException("省份分片中包含非省份节点：" + provinces.name(i));
+            }
+            roots[i] = provinces.slice(i, i + 1);
+        }
+        ByteBuffer buffer = read(INDEX_FILE);
+        this.provinceOf = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(provinceOf);
+        buffer.position(buffer.position() + provinceOf.length * Integer.BYTES);
+        this.index = AreaMatcher.read(buffer);
+        for (int province : provinceOf) {
+            if (province < 0 || province >= roots.length) {
+                throw new IOException("名称索引与省份分片不一致：" + location);
+            }
+        }
+        this.shards = new AreaTable[roots.length];
+        this.failed = new boolean[roots.length];
+        rebuild();
+    }
+
+
+    /**
+     * 读取 classpath 中 prefix 目录下的分片，如 "/address-parse/shards/"
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaShards classpath(String prefix) throws IOException {
+        String directory = prefix.endsWith("/") ? prefix : prefix + "/";
+        return new AreaShards(directory, name -> {
+            InputStream in = AreaShards.class.getResourceAsStream(directory + name);
+            if (Objects.isNull(in)) {
+                throw new NoSuchFileException(directory + name);
+            }
+            return in;
+        });
+    }
+
+
+    /**
+     * 读取文件系统中 directory 目录下的分片
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaShards directory(Path directory) throws IOException {
+        return new AreaShards(directory.toString(), name -> Files.newInputStream(directory.resolve(name)));
+    }
+
+
+    /**
+     * 将快照按省份写成分片及名称索引，返回省份数量；快照中的每个根节点视为一个省份
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static int write(AreaSnapshot snapshot, Path directory) throws IOException {
+        AreaTable table = snapshot.getTable();
+        List<Integer> starts = new ArrayList<>();
+        for (int i = 0; i < table.size(); i++) {
+            if (table.parent(i) == AreaTable.NONE) {
+                starts.add(i);
+            }
+        }
+
+        Files.createDirectories(directory);
+        List<AreaTable> provinces = new ArrayList<>(starts.size());
+        int[] provinceOf = new int[table.size()];
+        for (int k = 0; k < starts.size(); k++) {
+            int from = starts.get(k);
+            int to = k + 1 < starts.size() ? starts.get(k + 1) : table.size();
+            provinces.add(table.slice(from, from + 1));
+            Arrays.fill(provinceOf, from, to, k);
+            writeFile(table.slice(from, to), directory.resolve(fileName(table.areaCode(from))));
+        }
+        writeFile(AreaTable.concat(provinces), directory.resolve(PROVINCES_FILE));
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(directory.resolve(INDEX_FILE))))) {
+            out.writeInt(provinceOf.length);
+            for (int province : provinceOf) {
+                out.writeInt(province);
+            }
+            snapshot.getMatcher().write(out);
+        }
+        return starts.size();
+    }
+
+
+    /**
+     * 当前已加载数据组成的字典
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public AreaDictionary getDictionary() {
+        return dictionary;
+    }
+
+
+    /**
+     * 省份数量
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public int size() {
+        return roots.length;
+    }
+
+
+    /**
+     * 已加载下级节点的省份数量
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public int getLoadedCount() {
+        return loaded;
+    }
+
+
+    /**
+     * 全部省份是否均已加载
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public boolean isComplete() {
+        return loaded == roots.length;
+    }
+
+
+    /**
+     * 省份的下级节点是否已加载，不存在该省份时返回 false
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public synchronized boolean isLoaded(long provinceCode) {
+        int index = provinces.indexOf(provinceCode);
+        return index != AreaTable.NONE && Objects.nonNull(shards[index]);
+    }
+
+
+    /**
+     * 加载省份的下级节点，返回字典是否发生变化；已加载时直接返回 false
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public synchronized boolean load(long provinceCode) throws IOException {
+        int index = provinces.indexOf(provinceCode);
+        if (index == AreaTable.NONE) {
+            throw new IllegalArgumentException("不存在该省份：" + provinceCode);
+        }
+        if (!loadShard(index)) {
+            return false;
+        }
+        rebuild();
+        return true;
+    }
+
+
+    /**
+     * 加载全部省份的下级节点，返回字典是否发生变化；全部加载后只重建一次字典
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public synchronized boolean loadAll() throws IOException {
+        boolean changed = false;
+        for (int i = 0; i < roots.length; i++) {
+            changed |= loadShard(i);
+        }
+        if (changed) {
+            rebuild();
+        }
+        return changed;
+    }
+
+
+    /**
+     * 加载地址中出现的省市区县名称所属省份的下级节点，返回字典是否发生变化；同时需要多个省份时只重建一次字典
+     * <p>
+     * 加载失败时记录日志并继续使用当前字典（省份仍可识别），该省份不再自动重试。
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public boolean loadFor(String address) {
+        return loadFor(Collections.singletonList(address));
+    }
+
+
+    /**
+     * 加载全部地址中出现的省市区县名称所属省份的下级节点，返回字典是否发生变化；无论需要多少个省份都只重建一次字典
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public boolean loadFor(Iterable<String> addresses) {
+        if (isComplete()) {
+            return false;
+        }
+        BitSet pending = new BitSet(roots.length);
+        for (String address : addresses) {
+            if (Objects.isNull(address)) {
+                continue;
+            }
+            AreaHits hits = index.scan(address);
+            for (int i = 0; i < hits.size(); i++) {
+                int province = provinceOf[hits.ordinal(i)];
+                if (Objects.isNull(shards[province])) {
+                    pending.set(province);
+                }
+            }
+        }
+        return !pending.isEmpty() && loadQuietly(pending);
+    }
+
+
+    private synchronized boolean loadQuietly(BitSet indexes) {
+        boolean changed = false;
+        for (int index = indexes.nextSetBit(0); index >= 0; index = indexes.nextSetBit(index + 1)) {
+            if (failed[index]) {
+                continue;
+            }
+            try {
+                changed |= loadShard(index);
+            } catch (IOException | RuntimeException e) {
+                failed[index] = true;
+                log.error("地区数据分片 {} 加载失败，继续使用当前字典", fileName(provinces.areaCode(index)), e);
+            }
+        }
+        if (changed) {
+            rebuild();
+        }
+        return changed;
+    }
+
+
+    /**
+     * 读取省份分片，调用方持有 this 锁并在之后重建字典
+     */
+    private boolean loadShard(int index) throws IOException {
+        if (Objects.nonNull(shards[index])) {
+            return false;
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Object event = ParseEvents.beginLoad();
+        long areaCode = provinces.areaCode(index);
+        AreaTable shard = AreaTable.read(read(fileName(areaCode)));
+        if (shard.size() == 0 || shard.areaCode(0) != areaCode || shard.parent(0) != AreaTable.NONE) {
+            throw new IOException("地区数据分片与省份不一致：" + fileName(areaCode));
+        }
+        shards[index] = shard;
+        failed[index] = false;
+        loaded++;
+        ParseEvents.commitLoad(event, fileName(areaCode), shard.size(), false);
+        log.info("地区数据分片 {} 加载完成：{} 个节点，耗时：{} ms",
+                provinces.name(index), shard.size(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+        return true;
+    }
+
+
+    /**
+     * 按省份顺序拼接已加载的子树和未加载省份的单节点，结果与完整数据的先序遍历顺序一致
+     */
+    private void rebuild() {
+        List<AreaTable> tables = new ArrayList<>(roots.length);
+        for (int i = 0; i < roots.length; i++) {
+            tables.add(Objects.isNull(shards[i]) ? roots[i] : shards[i]);
+        }
+        this.dictionary = AreaDictionary.of(AreaSnapshot.of(AreaTable.concat(tables)));
+    }
+
+
+    private ByteBuffer read(String name) throws IOException {
+        try (InputStream in = source.open(name)) {
+            return ByteBuffer.wrap(ByteStreams.toByteArray(in));
+        }
+    }
+
+
+    private static void writeFile(AreaTable table, Path path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            table.write(out);
+        }
+    }
+
+
+    private static String fileName(long areaCode) {
+        return areaCode + AreaLoader.SNAPSHOT_EXTENSION;
+    }
+
+
+    @Override
+    public String toString() {
+        return "AreaShards(" + location + ", " + getLoadedCount() + "/" + size() + ")";
+    }
+
+
+    @FunctionalInterface
+    private interface ShardSource {
+        InputStream open(String name) throws IOException;
+    }
+}
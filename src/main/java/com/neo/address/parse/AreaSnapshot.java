@@ -0,0 +1,205 @@
+package com.neo.address.parse;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.io.ByteStreams;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 地区数据二进制快照
+ * <p>
+ * 构建期将 JSON 数据过滤并构建好父子关系后写成紧凑的二进制格式，运行时一次读入即可直接还原为 {@link AreaTable}，
+ * 省去 JSON 解析、反射映射和树构建的开销，也不会创建逐个节点的对象。
+ * <p>
+ * 格式（大端）：
+ * <pre>
+ * int    魔数 + int 版本
+ * int    字符串数量，随后每个字符串为 int 字节长度 + UTF-8 字节
+ * int    节点数量，随后每个节点为
+ *        byte 层级、long 行政代码、long 父级行政代码、int 父节点下标（根节点为 -1）、
+ *        int 名称、简称、邮编、区号在字符串表中的下标（null 为 -1）
+ * ...    名称匹配自动机，见 {@link AreaMatcher}
+ * </pre>
+ * 节点按树的先序遍历顺序存储，与 {@link TreeUtils#buildPath} 的输出一致。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Slf4j
+@Getter
+public class AreaSnapshot {
+
+    private static final int MAGIC = 0x41505331;
+
+    private static final int VERSION = 1;
+
+    /**
+     * 节点存储
+     */
+    @Getter(lombok.AccessLevel.PACKAGE)
+    private final AreaTable table;
+
+    /**
+     * 名称匹配自动机
+     */
+    private final AreaMatcher matcher;
+
+
+    private AreaSnapshot(AreaTable table, AreaMatcher matcher) {
+        this.table = table;
+        this.matcher = matcher;
+    }
+
+
+    /**
+     * 通过节点列表构建，areas 需为已构建父子关系的先序遍历列表
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaSnapshot of(List<AreaTree> areas) {
+        return of(AreaTable.of(areas));
+    }
+
+
+    static AreaSnapshot of(AreaTable table) {
+        return new AreaSnapshot(table, AreaMatcher.build(table));
+    }
+
+
+    /**
+     * 节点的只读 {@link AreaTree} 视图列表（先序遍历顺序），元素在访问时创建
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<AreaTree> getAreas() {
+        return table.trees();
+    }
+
+
+    /**
+     * 指定层级节点的只读 {@link AreaTree} 视图列表，元素在访问时创建
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public List<AreaTree> getAreas(AreaEnum level) {
+        return table.trees(level);
+    }
+
+
+    /**
+     * 构建期入口：将 JSON 数据文件编译为二进制快照，指定分片目录时同时按省份写出分片，见 {@link AreaShards#write(AreaSnapshot, Path)}
+     *
+     * @param args [0] JSON 数据文件路径（.gz 结尾时按 gzip 解压），[1] 快照输出路径，[2] 可选，分片输出目录
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("usage: AreaSnapshot <json file> <snapshot file> [shard directory]");
+        }
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        File target = new File(args[1]);
+
+        AreaSnapshot snapshot = AreaLoader.load(AreaSource.path(Paths.get(args[0])));
+        Files.createDirectories(target.getAbsoluteFile().getParentFile().toPath());
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target.toPath()))) {
+            snapshot.write(out);
+        }
+        log.info("地区数据快照生成完成：{} 个节点，{} bytes，耗时：{} ms",
+                snapshot.getTable().size(), target.length(), stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+        if (args.length > 2) {
+            int shards = AreaShards.write(snapshot, Paths.get(args[2]));
+            log.info("地区数据分片生成完成：{} 个省份，目录：{}", shards, args[2]);
+        }
+    }
+
+
+    /**
+     * 写出快照
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public void write(OutputStream output) throws IOException {
+        DataOutputStream out = new DataOutputStream(output);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        table.write(out);
+        matcher.write(out);
+        out.flush();
+    }
+
+
+    /**
+     * 输入流是否以快照的魔数开头，in 需支持 mark，读取后重置到原位置
+     */
+    static boolean isSnapshot(InputStream in) throws IOException {
+        in.mark(Integer.BYTES);
+        try {
+            int magic = 0;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                int b = in.read();
+                if (b < 0) {
+                    return false;
+                }
+                magic = magic << 8 | b;
+            }
+            return magic == MAGIC;
+        } finally {
+            in.reset();
+        }
+    }
+
+
+    /**
+     * 读取快照
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaSnapshot read(URL url) throws IOException {
+        try (InputStream in = url.openStream()) {
+            return read(in);
+        }
+    }
+
+
+    /**
+     * 读取快照
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static AreaSnapshot read(InputStream input) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(ByteStreams.toByteArray(input));
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("不是地区数据快照文件");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("不支持的快照版本：" + version);
+        }
+
+        AreaTable table = AreaTable.read(buffer);
+        AreaMatcher matcher = AreaMatcher.read(buffer);
+        return new AreaSnapshot(table, matcher);
+    }
+}
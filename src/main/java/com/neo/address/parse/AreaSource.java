@@ -0,0 +1,136 @@
+package com.neo.address.parse;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 地区数据来源：每次调用 {@link #open()} 返回一个新的输入流，由调用方关闭
+ * <p>
+ * 内容可以是 JSON 数据（格式与 china-area.json 相同）或 {@link AreaSnapshot} 快照，加载时按内容识别，见 {@link AreaLoader#load(AreaSource)}。
+ * 自定义来源（如对象存储、数据库）实现该接口即可。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@FunctionalInterface
+public interface AreaSource {
+
+    /**
+     * gzip 压缩文件的扩展名
+     */
+    String GZIP_EXTENSION = ".gz";
+
+
+    /**
+     * 打开数据流
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    InputStream open() throws IOException;
+
+
+    /**
+     * classpath 中的数据，如 "/address-parse/china-area.json"，以 .gz 结尾时按 gzip 解压
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaSource classpath(String path) {
+        AreaSource source = new AreaSource() {
+            @Override
+            public InputStream open() throws IOException {
+                InputStream in = AreaSource.class.getResourceAsStream(path);
+                if (Objects.isNull(in)) {
+                    throw new NoSuchFileException(path);
+                }
+                return in;
+            }
+
+            @Override
+            public String toString() {
+                return "classpath:" + path;
+            }
+        };
+        return StringUtils.endsWithIgnoreCase(path, GZIP_EXTENSION) ? gzip(source) : source;
+    }
+
+
+    /**
+     * 文件系统中的数据，以 .gz 结尾时按 gzip 解压
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaSource path(Path path) {
+        AreaSource source = new AreaSource() {
+            @Override
+            public InputStream open() throws IOException {
+                return Files.newInputStream(path);
+            }
+
+            @Override
+            public String toString() {
+                return path.toString();
+            }
+        };
+        return StringUtils.endsWithIgnoreCase(String.valueOf(path.getFileName()), GZIP_EXTENSION) ? gzip(source) : source;
+    }
+
+
+    /**
+     * URL 指向的数据，以 .gz 结尾时按 gzip 解压
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaSource url(URL url) {
+        AreaSource source = new AreaSource() {
+            @Override
+            public InputStream open() throws IOException {
+                return url.openStream();
+            }
+
+            @Override
+            public String toString() {
+                return url.toString();
+            }
+        };
+        return StringUtils.endsWithIgnoreCase(url.getPath(), GZIP_EXTENSION) ? gzip(source) : source;
+    }
+
+
+    /**
+     * 按 gzip 解压 source 的内容，用于扩展名不是 .gz 的压缩数据
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaSource gzip(AreaSource source) {
+        return new AreaSource() {
+            @Override
+            public InputStream open() throws IOException {
+                InputStream in = source.open();
+                try {
+                    return new GZIPInputStream(in, 64 * 1024);
+                } catch (IOException | RuntimeException e) {
+                    in.close();
+                    throw e;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "gzip:" + source;
+            }
+        };
+    }
+}
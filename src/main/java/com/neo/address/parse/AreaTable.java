@@ -0,0 +1,681 @@
+package com.neo.address.parse;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * 地区数据的紧凑存储：按列保存在基本类型数组中，节点即数组下标（树的先序遍历顺序）
+ * <p>
+ * 相比每个节点一个对象（装箱的层级、代码，四个字符串引用，父节点引用和子节点列表），
+ * 每个节点只占用约 40 字节，名称等字符串去重后共享；子节点以 CSR 形式保存为偏移数组和下标数组。
+ * 构建完成后只读，可在多线程间共享。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class AreaTable {
+
+    static final int NONE = -1;
+
+    /**
+     * 每个节点在 {@link #refs} 中的字段：名称、简称、邮编、区号
+     */
+    private static final int NAME = 0, SHORT_NAME = 1, ZIP_CODE = 2, CITY_CODE = 3, FIELDS = 4;
+
+    private final int size;
+    /**
+     * 层级，为空时为 -1
+     */
+    private final byte[] levels;
+    private final long[] areaCodes;
+    /**
+     * 父节点下标，根节点为 -1
+     */
+    private final int[] parents;
+    /**
+     * 节点 i 的子节点为 children[childOffsets[i] .. childOffsets[i + 1])
+     */
+    private final int[] childOffsets;
+    private final int[] children;
+    /**
+     * 去重后的字符串池
+     */
+    private final String[] strings;
+    /**
+     * 字符串字段在字符串池中的下标，每个节点 {@link #FIELDS} 个，null 为 -1
+     */
+    private final int[] refs;
+    /**
+     * 各层级的节点下标，下标为层级
+     */
+    private final int[][] levelOrdinals;
+    /**
+     * 按行政代码排序的节点下标，行政代码本身已严格升序时为 null
+     */
+    private final int[] codeOrder;
+
+
+    private AreaTable(byte[] levels, long[] areaCodes, int[] parents, String[] strings, int[] refs) {
+        this.size = levels.length;
+        this.levels = levels;
+        this.areaCodes = areaCodes;
+        this.parents = parents;
+        this.strings = strings;
+        this.refs = refs;
+
+        // 先序遍历中子节点的下标递增，计数后按顺序填充即保持原有的子节点顺序
+        this.childOffsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            if (parents[i] != NONE) {
+                childOffsets[parents[i] + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            childOffsets[i + 1] += childOffsets[i];
+        }
+        this.children = new int[childOffsets[size]];
+        int[] cursor = Arrays.copyOf(childOffsets, size);
+        for (int i = 0; i < size; i++) {
+            if (parents[i] != NONE) {
+                children[cursor[parents[i]]++] = i;
+            }
+        }
+
+        AreaEnum[] types = AreaEnum.values();
+        int[] counts = new int[types.length];
+        for (byte level : levels) {
+            if (level >= 0 && level < types.length) {
+                counts[level]++;
+            }
+        }
+        this.levelOrdinals = new int[types.length][];
+        for (int level = 0; level < types.length; level++) {
+            levelOrdinals[level] = new int[counts[level]];
+            counts[level] = 0;
+        }
+        for (int i = 0; i < size; i++) {
+            if (levels[i] >= 0 && levels[i] < types.length) {
+                levelOrdinals[levels[i]][counts[levels[i]]++] = i;
+            }
+        }
+
+        this.codeOrder = codeOrder(areaCodes);
+    }
+
+
+    /**
+     * 通过已构建父子关系的先序遍历节点列表构建
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaTable of(List<AreaTree> areas) {
+        int size = areas.size();
+        Map<AreaTree, Integer> indexes = new IdentityHashMap<>(size);
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        byte[] levels = new byte[size];
+        long[] areaCodes = new long[size];
+        int[] parents = new int[size];
+        int[] refs = new int[size * FIELDS];
+
+        for (int i = 0; i < size; i++) {
+            AreaTree area = areas.get(i);
+            indexes.put(area, i);
+            Integer parentIndex = Objects.isNull(area.getParent()) ? null : indexes.get(area.getParent());
+            if (Objects.nonNull(area.getParent()) && Objects.isNull(parentIndex)) {
+                throw new IllegalArgumentException("父节点不在列表中或位于子节点之后：" + area);
+            }
+
+            levels[i] = Objects.isNull(area.getLevel()) ? -1 : area.getLevel().byteValue();
+            areaCodes[i] = Objects.isNull(area.getAreaCode()) ? 0L : area.getAreaCode();
+            parents[i] = Objects.isNull(parentIndex) ? NONE : parentIndex;
+            refs[i * FIELDS + NAME] = intern(area.getName(), stringIndexes);
+            refs[i * FIELDS + SHORT_NAME] = intern(area.getShortName(), stringIndexes);
+            refs[i * FIELDS + ZIP_CODE] = intern(area.getZipCode(), stringIndexes);
+            refs[i * FIELDS + CITY_CODE] = intern(area.getCityCode(), stringIndexes);
+        }
+
+        return new AreaTable(levels, areaCodes, parents, strings(stringIndexes), refs);
+    }
+
+
+    /**
+     * 逐个添加未构建父子关系的节点，构建时按 {@link TreeUtils#buildPath} 的规则排列为先序遍历顺序，不创建逐个节点的对象
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+
+    /**
+     * 截取 [from, to) 的节点，父节点不在区间内的节点成为根节点
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    AreaTable slice(int from, int to) {
+        int length = to - from;
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        int[] parents = new int[length];
+        int[] refs = new int[length * FIELDS];
+        for (int i = 0; i < length; i++) {
+            parents[i] = this.parents[from + i] >= from ? this.parents[from + i] - from : NONE;
+            for (int field = 0; field < FIELDS; field++) {
+                refs[i * FIELDS + field] = intern(string(from + i, field), stringIndexes);
+            }
+        }
+        return new AreaTable(Arrays.copyOfRange(levels, from, to), Arrays.copyOfRange(areaCodes, from, to),
+                parents, strings(stringIndexes), refs);
+    }
+
+
+    /**
+     * 按顺序拼接多个表，各表的根节点仍为根节点；各表均为先序遍历顺序时结果也是
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaTable concat(List<AreaTable> tables) {
+        int size = 0;
+        for (AreaTable table : tables) {
+            size += table.size;
+        }
+        Map<String, Integer> stringIndexes = new HashMap<>();
+        byte[] levels = new byte[size];
+        long[] areaCodes = new long[size];
+        int[] parents = new int[size];
+        int[] refs = new int[size * FIELDS];
+
+        int offset = 0;
+        for (AreaTable table : tables) {
+            System.arraycopy(table.levels, 0, levels, offset, table.size);
+            System.arraycopy(table.areaCodes, 0, areaCodes, offset, table.size);
+            for (int i = 0; i < table.size; i++) {
+                parents[offset + i] = table.parents[i] == NONE ? NONE : table.parents[i] + offset;
+                for (int field = 0; field < FIELDS; field++) {
+                    refs[(offset + i) * FIELDS + field] = intern(table.string(i, field), stringIndexes);
+                }
+            }
+            offset += table.size;
+        }
+        return new AreaTable(levels, areaCodes, parents, strings(stringIndexes), refs);
+    }
+
+
+    /**
+     * 写出节点，格式见 {@link AreaSnapshot}
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(strings.length);
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeByte(levels[i]);
+            out.writeLong(areaCodes[i]);
+            out.writeLong(parentCode(i));
+            out.writeInt(parents[i]);
+            for (int field = 0; field < FIELDS; field++) {
+                out.writeInt(refs[i * FIELDS + field]);
+            }
+        }
+    }
+
+
+    /**
+     * 读取 {@link #write(DataOutputStream)} 写出的节点
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    static AreaTable read(ByteBuffer buffer) {
+        String[] strings = new String[buffer.getInt()];
+        byte[] array = buffer.array();
+        for (int i = 0; i < strings.length; i++) {
+            int length = buffer.getInt();
+            strings[i] = new String(array, buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+
+        int size = buffer.getInt();
+        byte[] levels = new byte[size];
+        long[] areaCodes = new long[size];
+        int[] parents = new int[size];
+        int[] refs = new int[size * FIELDS];
+        for (int i = 0; i < size; i++) {
+            levels[i] = buffer.get();
+            areaCodes[i] = buffer.getLong();
+            // 父级行政代码由父节点推导
+            buffer.getLong();
+            parents[i] = buffer.getInt();
+            if (parents[i] >= i) {
+                throw new IllegalArgumentException("父节点位于子节点之后：" + i);
+            }
+            for (int field = 0; field < FIELDS; field++) {
+                refs[i * FIELDS + field] = buffer.getInt();
+            }
+        }
+        return new AreaTable(levels, areaCodes, parents, strings, refs);
+    }
+
+
+    int size() {
+        return size;
+    }
+
+    int level(int i) {
+        return levels[i];
+    }
+
+    long areaCode(int i) {
+        return areaCodes[i];
+    }
+
+    long parentCode(int i) {
+        return parents[i] == NONE ? 0L : areaCodes[parents[i]];
+    }
+
+    int parent(int i) {
+        return parents[i];
+    }
+
+    String name(int i) {
+        return string(i, NAME);
+    }
+
+    String shortName(int i) {
+        return string(i, SHORT_NAME);
+    }
+
+    String zipCode(int i) {
+        return string(i, ZIP_CODE);
+    }
+
+    String cityCode(int i) {
+        return string(i, CITY_CODE);
+    }
+
+    int[] children() {
+        return children;
+    }
+
+    int childrenFrom(int i) {
+        return childOffsets[i];
+    }
+
+    int childrenTo(int i) {
+        return childOffsets[i + 1];
+    }
+
+
+    /**
+     * 指定层级的节点下标，不在 {@link AreaEnum} 范围内的层级返回空数组
+     */
+    int[] ordinals(AreaEnum level) {
+        return levelOrdinals[level.getCode()];
+    }
+
+
+    /**
+     * 通过行政代码查找节点下标，代码重复时返回第一个，不存在时返回 -1
+     */
+    int indexOf(long areaCode) {
+        if (Objects.isNull(codeOrder)) {
+            int index = Arrays.binarySearch(areaCodes, areaCode);
+            return index < 0 ? NONE : index;
+        }
+        int low = 0, high = codeOrder.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (areaCodes[codeOrder[mid]] < areaCode) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < codeOrder.length && areaCodes[codeOrder[low]] == areaCode ? codeOrder[low] : NONE;
+    }
+
+
+    /**
+     * 估算占用的堆内存（字节），包括数组和字符串池
+     */
+    long footprint() {
+        long bytes = array(size) + array(8L * size) + array(4L * size) * 2 + array(4L * children.length)
+                + array(4L * refs.length) + array(8L * strings.length);
+        for (int[] ordinals : levelOrdinals) {
+            bytes += array(4L * ordinals.length);
+        }
+        if (Objects.nonNull(codeOrder)) {
+            bytes += array(4L * codeOrder.length);
+        }
+        for (String s : strings) {
+            // String 对象 24 字节 + 字节数组（JDK 9+ 中文为 UTF-16）
+            bytes += 24 + array(2L * s.length());
+        }
+        return bytes;
+    }
+
+
+    /**
+     * 节点 i 的只读 {@link AreaTree} 视图
+     */
+    AreaTree tree(int i) {
+        return new AreaTreeView(this, i);
+    }
+
+
+    /**
+     * 指定层级节点的只读 {@link AreaTree} 视图列表，元素在访问时创建
+     */
+    List<AreaTree> trees(AreaEnum level) {
+        return trees(ordinals(level), 0, ordinals(level).length);
+    }
+
+
+    /**
+     * 全部节点的只读 {@link AreaTree} 视图列表，元素在访问时创建
+     */
+    List<AreaTree> trees() {
+        return trees(null, 0, size);
+    }
+
+
+    List<AreaTree> trees(int[] ordinals, int from, int to) {
+        return new TreeList(this, ordinals, from, to);
+    }
+
+
+    private String string(int i, int field) {
+        int ref = refs[i * FIELDS + field];
+        return ref == NONE ? null : strings[ref];
+    }
+
+
+    private static int intern(String s, Map<String, Integer> indexes) {
+        if (Objects.isNull(s)) {
+            return NONE;
+        }
+        Integer index = indexes.get(s);
+        if (Objects.isNull(index)) {
+            index = indexes.size();
+            indexes.put(s, index);
+        }
+        return index;
+    }
+
+
+    private static String[] strings(Map<String, Integer> indexes) {
+        String[] strings = new String[indexes.size()];
+        indexes.forEach((s, index) -> strings[index] = s);
+        return strings;
+    }
+
+
+    private static int[] codeOrder(long[] areaCodes) {
+        boolean sorted = true;
+        for (int i = 1; i < areaCodes.length && sorted; i++) {
+            sorted = areaCodes[i - 1] < areaCodes[i];
+        }
+        if (sorted) {
+            return null;
+        }
+        // 稳定排序，相同代码保持先序顺序
+        Integer[] order = new Integer[areaCodes.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(areaCodes[a], areaCodes[b]));
+        int[] result = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            result[i] = order[i];
+        }
+        return result;
+    }
+
+
+    /**
+     * 数组对象占用：16 字节对象头 + 数据，按 8 字节对齐
+     */
+    private static long array(long bytes) {
+        return (16 + bytes + 7) & ~7L;
+    }
+
+
+    /**
+     * 按添加顺序保存节点的各列，字符串添加时即去重，构建时再按先序遍历顺序重新编号
+     * <p>
+     * 与 {@link TreeUtils#buildPath} 的规则一致：父级行政代码为 0 的节点为根节点，按添加顺序排列；
+     * 其余节点按父级行政代码分组，组内保持添加顺序，由先遍历到的、行政代码相同的节点认领；不可达的节点丢弃。
+     */
+    static final class Builder {
+        private int size;
+        private byte[] levels = new byte[64];
+        private long[] areaCodes = new long[64];
+        private long[] parentCodes = new long[64];
+        /**
+         * 行政代码、父级行政代码为 null 的节点，null 作为单独的一组
+         */
+        private final BitSet nullCodes = new BitSet();
+        private final BitSet nullParents = new BitSet();
+        private int[] refs = new int[64 * FIELDS];
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+
+        private Builder() {
+        }
+
+
+        Builder add(AreaTree area) {
+            if (size == levels.length) {
+                int capacity = size + (size >> 1);
+                levels = Arrays.copyOf(levels, capacity);
+                areaCodes = Arrays.copyOf(areaCodes, capacity);
+                parentCodes = Arrays.copyOf(parentCodes, capacity);
+                refs = Arrays.copyOf(refs, capacity * FIELDS);
+            }
+            levels[size] = Objects.isNull(area.getLevel()) ? -1 : area.getLevel().byteValue();
+            areaCodes[size] = Objects.isNull(area.getAreaCode()) ? 0L : area.getAreaCode();
+            parentCodes[size] = Objects.isNull(area.getParentCode()) ? 0L : area.getParentCode();
+            nullCodes.set(size, Objects.isNull(area.getAreaCode()));
+            nullParents.set(size, Objects.isNull(area.getParentCode()));
+            refs[size * FIELDS + NAME] = intern(area.getName(), stringIndexes);
+            refs[size * FIELDS + SHORT_NAME] = intern(area.getShortName(), stringIndexes);
+            refs[size * FIELDS + ZIP_CODE] = intern(area.getZipCode(), stringIndexes);
+            refs[size * FIELDS + CITY_CODE] = intern(area.getCityCode(), stringIndexes);
+            size++;
+            return this;
+        }
+
+
+        AreaTable build() {
+            String[] pool = strings(stringIndexes);
+            Groups groups = new Groups(size);
+            for (int i = 0; i < size; i++) {
+                if (!isRoot(i)) {
+                    groups.add(nullParents.get(i), parentCodes[i], i);
+                }
+            }
+
+            // 先序遍历：栈中保存节点及其父节点的新下标，子节点逆序入栈以保持原有顺序
+            int[] order = new int[size];
+            int[] parents = new int[size];
+            int[] stack = new int[size];
+            int[] stackParents = new int[size];
+            int count = 0;
+            for (int root = 0; root < size; root++) {
+                if (!isRoot(root)) {
+                    continue;
+                }
+                int top = 0;
+                stack[top] = root;
+                stackParents[top++] = NONE;
+                while (top > 0) {
+                    top--;
+                    int record = stack[top];
+                    order[count] = record;
+                    parents[count] = stackParents[top];
+                    int from = top;
+                    for (int child = groups.claim(nullCodes.get(record), areaCodes[record]); child != NONE; child = groups.next[child]) {
+                        stack[top] = child;
+                        stackParents[top++] = count;
+                    }
+                    reverse(stack, from, top);
+                    count++;
+                }
+            }
+
+            Map<String, Integer> indexes = new HashMap<>();
+            byte[] sortedLevels = new byte[count];
+            long[] sortedCodes = new long[count];
+            int[] sortedRefs = new int[count * FIELDS];
+            for (int i = 0; i < count; i++) {
+                int record = order[i];
+                sortedLevels[i] = levels[record];
+                sortedCodes[i] = areaCodes[record];
+                for (int field = 0; field < FIELDS; field++) {
+                    int ref = refs[record * FIELDS + field];
+                    sortedRefs[i * FIELDS + field] = ref == NONE ? NONE : intern(pool[ref], indexes);
+                }
+            }
+            return new AreaTable(sortedLevels, sortedCodes, Arrays.copyOf(parents, count), strings(indexes), sortedRefs);
+        }
+
+
+        private boolean isRoot(int i) {
+            return !nullParents.get(i) && parentCodes[i] == 0L;
+        }
+
+
+        private static void reverse(int[] values, int from, int to) {
+            for (int i = from, j = to - 1; i < j; i++, j--) {
+                int value = values[i];
+                values[i] = values[j];
+                values[j] = value;
+            }
+        }
+    }
+
+
+    /**
+     * 按父级行政代码分组的节点链表：开放寻址表保存各组的首尾节点，组被认领后即清空
+     */
+    private static final class Groups {
+        private final long[] keys;
+        private final boolean[] used;
+        private final int[] heads;
+        private final int[] tails;
+        private final int[] next;
+        private int nullHead = NONE, nullTail = NONE;
+
+        Groups(int size) {
+            int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+            this.keys = new long[capacity];
+            this.used = new boolean[capacity];
+            this.heads = new int[capacity];
+            this.tails = new int[capacity];
+            this.next = new int[size];
+            Arrays.fill(next, NONE);
+        }
+
+        void add(boolean nullKey, long key, int record) {
+            if (nullKey) {
+                if (nullHead == NONE) {
+                    nullHead = record;
+                } else {
+                    next[nullTail] = record;
+                }
+                nullTail = record;
+                return;
+            }
+            int slot = slot(key);
+            if (!used[slot]) {
+                used[slot] = true;
+                keys[slot] = key;
+                heads[slot] = record;
+            } else {
+                next[tails[slot]] = record;
+            }
+            tails[slot] = record;
+        }
+
+        /**
+         * 认领一组节点，返回第一个节点，组不存在或已被认领时返回 -1
+         */
+        int claim(boolean nullKey, long key) {
+            int head;
+            if (nullKey) {
+                head = nullHead;
+                nullHead = NONE;
+                return head;
+            }
+            int slot = slot(key);
+            if (!used[slot]) {
+                return NONE;
+            }
+            head = heads[slot];
+            heads[slot] = NONE;
+            return head;
+        }
+
+        private int slot(long key) {
+            int mask = keys.length - 1;
+            long h = key * 0x9e3779b97f4a7c15L;
+            int slot = (int) (h ^ (h >>> 32)) & mask;
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+
+
+    /**
+     * 节点下标列表的 {@link AreaTree} 视图，ordinals 为 null 时表示 [from, to) 的连续下标
+     */
+    private static final class TreeList extends AbstractList<AreaTree> implements RandomAccess {
+        private final AreaTable table;
+        private final int[] ordinals;
+        private final int from, to;
+
+        TreeList(AreaTable table, int[] ordinals, int from, int to) {
+            this.table = table;
+            this.ordinals = ordinals;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public AreaTree get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+            }
+            return table.tree(Objects.isNull(ordinals) ? from + index : ordinals[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.neo.address.parse;
+
+import java.util.List;
+
+/**
+ * {@link AreaTable} 中节点的只读 {@link AreaTree} 视图，供仍使用 {@link AreaTree} 的调用方使用
+ * <p>
+ * 只持有存储和下标，所有属性在读取时从存储中获取，父子节点同样以视图返回；修改操作抛出 {@link UnsupportedOperationException}。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class AreaTreeView extends AreaTree {
+    private static final long serialVersionUID = 5307265405151962183L;
+
+    private final transient AreaTable table;
+    private final int ordinal;
+
+
+    AreaTreeView(AreaTable table, int ordinal) {
+        this.table = table;
+        this.ordinal = ordinal;
+    }
+
+
+    @Override
+    public Integer getLevel() {
+        return table.level(ordinal) < 0 ? null : table.level(ordinal);
+    }
+
+    @Override
+    public Long getParentCode() {
+        return table.parentCode(ordinal);
+    }
+
+    @Override
+    public Long getAreaCode() {
+        return table.areaCode(ordinal);
+    }
+
+    @Override
+    public String getZipCode() {
+        return table.zipCode(ordinal);
+    }
+
+    @Override
+    public String getCityCode() {
+        return table.cityCode(ordinal);
+    }
+
+    @Override
+    public String getName() {
+        return table.name(ordinal);
+    }
+
+    @Override
+    public String getShortName() {
+        return table.shortName(ordinal);
+    }
+
+    @Override
+    public AreaTree getParent() {
+        int parent = table.parent(ordinal);
+        return parent == AreaTable.NONE ? null : table.tree(parent);
+    }
+
+    @Override
+    public List<AreaTree> getChildren() {
+        return table.trees(table.children(), table.childrenFrom(ordinal), table.childrenTo(ordinal));
+    }
+
+    @Override
+    public Long id() {
+        return getAreaCode();
+    }
+
+    @Override
+    public Long parentId() {
+        return getParentCode();
+    }
+
+
+    @Override
+    public void setLevel(Integer level) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setParentCode(Long parentCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setAreaCode(Long areaCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setZipCode(String zipCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setCityCode(String cityCode) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setName(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setShortName(String shortName) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setParent(AreaTree parent) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setChildren(List<AreaTree> children) {
+        throw readOnly();
+    }
+
+    @Override
+    public void parent(AreaTree parent) {
+        throw readOnly();
+    }
+
+    @Override
+    public void children(List<AreaTree> children) {
+        throw readOnly();
+    }
+
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("地区数据视图只读");
+    }
+}
@@ -0,0 +1,83 @@
+package com.neo.address.parse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 批量异步解析：输入按分块提交到线程池，同时执行的分块不超过 maxConcurrency 个，一个分块完成后提交下一个；
+ * 结果与输入顺序一致，单条解析失败时对应结果为空列表。future 结束（完成、超时或取消）后不再提交新的分块
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class AsyncBatch {
+
+    private final AddressParser parser;
+    private final List<String> addresses;
+    private final Executor executor;
+    private final int chunkSize, chunks;
+
+    private final List<ParseResult>[] results;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final CompletableFuture<List<List<ParseResult>>> future = new CompletableFuture<>();
+
+
+    AsyncBatch(AddressParser parser, List<String> addresses, AsyncOptions options) {
+        this.parser = parser;
+        this.addresses = addresses;
+        this.executor = options.executor();
+        this.chunkSize = options.chunkSize();
+        this.chunks = (addresses.size() + chunkSize - 1) / chunkSize;
+        this.results = new List[addresses.size()];
+        this.remaining = new AtomicInteger(chunks);
+    }
+
+
+    CompletableFuture<List<List<ParseResult>>> start(AsyncOptions options) {
+        if (chunks == 0) {
+            future.complete(Arrays.asList(results));
+            return future;
+        }
+        for (int i = 0; i < Math.min(options.maxConcurrency(), chunks); i++) {
+            submit();
+        }
+        return ParseExecutors.withTimeout(future, options.getTimeout());
+    }
+
+
+    private void submit() {
+        int chunk = next.getAndIncrement();
+        if (chunk >= chunks || future.isDone()) {
+            return;
+        }
+        try {
+            executor.execute(() -> run(chunk));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+
+    private void run(int chunk) {
+        if (future.isDone()) {
+            return;
+        }
+        int from = chunk * chunkSize, to = Math.min(from + chunkSize, addresses.size());
+        try {
+            parser.parseChunk(addresses, from, to, (index, address, result) -> results[index] = result);
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            return;
+        }
+        if (remaining.decrementAndGet() == 0) {
+            future.complete(Arrays.asList(results));
+        } else {
+            submit();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.neo.address.parse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * 异步解析配置
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsyncOptions {
+
+    /**
+     * 默认配置：{@link ParseExecutors#defaultExecutor()}，不超时
+     */
+    public static final AsyncOptions DEFAULT = AsyncOptions.builder().build();
+
+    /**
+     * 执行解析任务的线程池，为空时取 {@link ParseExecutors#defaultExecutor()}；由调用方负责其生命周期。
+     * 多次调用之间需要共享并发上限时，使用 {@link ParseExecutors#bounded(Executor, int)} 包装后传入
+     */
+    private Executor executor;
+
+    /**
+     * 批量异步解析时同时执行的分块数上限，小于等于 0 时取 CPU 核数
+     */
+    private int maxConcurrency;
+
+    /**
+     * 批量异步解析的分块大小，小于等于 0 时取 {@link BatchOptions#DEFAULT_CHUNK_SIZE}
+     */
+    private int chunkSize;
+
+    /**
+     * 超时时间，从提交时开始计算，超时后返回的 future 以 {@link java.util.concurrent.TimeoutException} 结束，
+     * 尚未开始的解析任务不再执行；为空时不超时
+     */
+    private Duration timeout;
+
+
+    Executor executor() {
+        return Objects.isNull(executor) ? ParseExecutors.defaultExecutor() : executor;
+    }
+
+    int maxConcurrency() {
+        return maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors();
+    }
+
+    int chunkSize() {
+        return chunkSize > 0 ? chunkSize : BatchOptions.DEFAULT_CHUNK_SIZE;
+    }
+}
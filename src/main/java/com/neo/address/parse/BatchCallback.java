@@ -0,0 +1,34 @@
+package com.neo.address.parse;
+
+import java.util.List;
+
+/**
+ * 批量解析回调
+ * <p>
+ * 在工作线程中调用：不同分块之间可能并发且不保证顺序，同一分块内按输入顺序调用，实现需自行保证线程安全。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@FunctionalInterface
+public interface BatchCallback {
+
+    /**
+     * 单条地址解析完成
+     *
+     * @param index   地址在输入中的下标
+     * @param address 原始地址
+     * @param results 解析结果，解析失败时为空列表
+     */
+    void accept(int index, String address, List<ParseResult> results);
+
+    /**
+     * 单条地址解析失败，不影响其余地址，随后仍会以空结果调用 {@link #accept}；异常已由解析器记录日志
+     *
+     * @param index   地址在输入中的下标
+     * @param address 原始地址
+     * @param e       异常
+     */
+    default void error(int index, String address, Exception e) {
+    }
+}
@@ -0,0 +1,56 @@
+package com.neo.address.parse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 批量解析配置
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOptions {
+
+    /**
+     * 默认分块大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    /**
+     * 默认配置：CPU 核数个线程，分块大小 {@link #DEFAULT_CHUNK_SIZE}
+     */
+    public static final BatchOptions DEFAULT = BatchOptions.builder().build();
+
+    /**
+     * 并行度，小于等于 0 时取 CPU 核数，为 1 时在调用线程中顺序解析；指定 executor 时忽略
+     */
+    private int parallelism;
+
+    /**
+     * 分块大小，同一分块在一个线程内顺序解析，小于等于 0 时取 {@link #DEFAULT_CHUNK_SIZE}
+     */
+    private int chunkSize;
+
+    /**
+     * 执行分块任务的线程池，为空时按 parallelism 创建临时的 {@link java.util.concurrent.ForkJoinPool}，用完即关闭；
+     * 指定时由调用方负责其生命周期
+     */
+    private ExecutorService executor;
+
+
+    int parallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    int chunkSize() {
+        return chunkSize > 0 ? chunkSize : DEFAULT_CHUNK_SIZE;
+    }
+}
@@ -0,0 +1,106 @@
+package com.neo.address.parse;
+
+/**
+ * 候选顺序：节点序号与排位之间的一一映射，由 {@link AdaptiveOrder} 发布，发布后不再修改
+ * <p>
+ * {@link AreaMatcher} 扫描时以排位代替序号排序，{@link AreaHits} 因而按排位升序排列，省份、城市、地区解析策略依次尝试的候选节点
+ * 及同一位置命中多个节点时的取舍都按该顺序。同一顺序下解析结果是确定的；为 null 时为节点序号（先序遍历）顺序。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class CandidateOrder {
+
+    /**
+     * 序号对应的排位
+     */
+    private final int[] ranks;
+
+    /**
+     * 排位对应的序号
+     */
+    private final int[] ordinals;
+
+    /**
+     * 按命中次数排在前面的节点数量，其后为其余节点按序号排列
+     */
+    private final int counted;
+
+
+    CandidateOrder(int[] ranks, int[] ordinals, int counted) {
+        this.ranks = ranks;
+        this.ordinals = ordinals;
+        this.counted = counted;
+    }
+
+
+    /**
+     * 按命中次数排序的节点序号构建，其余节点按序号排在其后
+     *
+     * @param size    节点总数
+     * @param head    按命中次数从高到低排列的节点序号
+     * @param counted head 中有效的数量
+     */
+    static CandidateOrder of(int size, int[] head, int counted) {
+        int[] ranks = new int[size];
+        int[] ordinals = new int[size];
+        for (int i = 0; i < counted; i++) {
+            ranks[head[i]] = i + 1;
+        }
+        int rank = counted;
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            if (ranks[ordinal] == 0) {
+                ranks[ordinal] = ++rank;
+            }
+        }
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            ordinals[--ranks[ordinal]] = ordinal;
+        }
+        return new CandidateOrder(ranks, ordinals, counted);
+    }
+
+
+    /**
+     * 序号对应的排位
+     */
+    int rank(int ordinal) {
+        return ranks[ordinal];
+    }
+
+
+    /**
+     * 排位对应的序号
+     */
+    int ordinal(int rank) {
+        return ordinals[rank];
+    }
+
+
+    int[] ranks() {
+        return ranks;
+    }
+
+
+    /**
+     * 按命中次数排在前面的节点数量
+     */
+    int counted() {
+        return counted;
+    }
+
+
+    /**
+     * 前 counted 个排位与 head 是否一致，一致时无需重新发布
+     */
+    boolean startsWith(int[] head, int counted) {
+        if (this.counted != counted) {
+            return false;
+        }
+        for (int i = 0; i < counted; i++) {
+            if (ordinals[i] != head[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
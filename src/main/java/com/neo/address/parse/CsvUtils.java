@@ -0,0 +1,66 @@
+package com.neo.address.parse;
+
+/**
+ * CSV 工具
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class CsvUtils {
+
+    private static final char QUOTE = '"';
+
+    private CsvUtils() {
+    }
+
+
+    /**
+     * 取出一行 CSV 中的第 index 列（从 0 开始），支持双引号包裹及 "" 转义，不支持跨行字段；列不存在时返回 null
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static String column(String line, int index, char delimiter) {
+        if (line == null || index < 0) {
+            return null;
+        }
+        int column = 0, i = 0, length = line.length();
+        while (column < index) {
+            boolean quoted = false;
+            for (; i < length; i++) {
+                char c = line.charAt(i);
+                if (c == QUOTE) {
+                    quoted = !quoted;
+                } else if (c == delimiter && !quoted) {
+                    break;
+                }
+            }
+            if (i >= length) {
+                return null;
+            }
+            i++;
+            column++;
+        }
+
+        if (i < length && line.charAt(i) == QUOTE) {
+            StringBuilder value = new StringBuilder();
+            for (i++; i < length; i++) {
+                char c = line.charAt(i);
+                if (c == QUOTE) {
+                    if (i + 1 < length && line.charAt(i + 1) == QUOTE) {
+                        value.append(QUOTE);
+                        i++;
+                    } else {
+                        break;
+                    }
+                } else {
+                    value.append(c);
+                }
+            }
+            return value.toString();
+        }
+
+        int end = line.indexOf(delimiter, i);
+        return line.substring(i, end < 0 ? length : end);
+    }
+}
@@ -0,0 +1,54 @@
+package com.neo.address.parse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 模糊匹配结果：地址中与地区名称相差一个字的片段
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FuzzyMatch {
+    /**
+     * 匹配到的地区
+     */
+    private AreaNode area;
+
+    /**
+     * 片段在地址中的起始位置
+     */
+    private int index;
+
+    /**
+     * 片段长度，与地区名称长度相同
+     */
+    private int length;
+
+    /**
+     * 片段与地区名称的编辑距离
+     */
+    private int distance;
+
+    /**
+     * 相似度：1 - 编辑距离 / 名称长度
+     */
+    private double similarity;
+
+
+    /**
+     * 将地址中的片段替换为地区名称
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public String correct(String address) {
+        return address.substring(0, index) + area.getName() + address.substring(index + length);
+    }
+}
@@ -0,0 +1,141 @@
+package com.neo.address.parse;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 基于 NIO 通道的分块行读取器
+ * <p>
+ * 使用固定大小的字节、字符缓冲区循环读取和解码，内存占用与文件大小无关；跨缓冲区边界的多字节字符由解码器保留到下一块处理，
+ * 支持 UTF-8、GBK 等任意字符集。以 \n 或 \r\n 分行，忽略 UTF-8 BOM，无法解码的字节替换为替换字符。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class LineReader implements Closeable {
+
+    /**
+     * 默认缓冲区大小
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final char BOM = '\uFEFF';
+
+    private final ReadableByteChannel channel;
+    private final CharsetDecoder decoder;
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
+    private final StringBuilder line = new StringBuilder();
+
+    private boolean eof, finished, started;
+    private long bytesRead;
+
+
+    public LineReader(ReadableByteChannel channel, Charset charset, int bufferSize) {
+        this.channel = channel;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocate(bufferSize);
+        this.chars = CharBuffer.allocate(bufferSize);
+        this.chars.flip();
+    }
+
+
+    /**
+     * 打开文件
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static LineReader open(Path path, Charset charset, int bufferSize) throws IOException {
+        return new LineReader(FileChannel.open(path, StandardOpenOption.READ), charset, bufferSize);
+    }
+
+
+    /**
+     * 读取下一行，不包含换行符，已读完时返回 null
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public String readLine() throws IOException {
+        line.setLength(0);
+        boolean read = false;
+        while (chars.hasRemaining() || fill()) {
+            read = true;
+            char[] array = chars.array();
+            int start = chars.position(), limit = chars.limit();
+            if (!started) {
+                started = true;
+                start += array[start] == BOM ? 1 : 0;
+            }
+            for (int i = start; i < limit; i++) {
+                if (array[i] == '\n') {
+                    line.append(array, start, i - start);
+                    chars.position(i + 1);
+                    return trim();
+                }
+            }
+            line.append(array, start, limit - start);
+            chars.position(limit);
+        }
+        return read ? trim() : null;
+    }
+
+
+    /**
+     * 已读取的字节数
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+
+    private boolean fill() throws IOException {
+        chars.clear();
+        while (chars.position() == 0 && !finished) {
+            if (!eof) {
+                int n = channel.read(bytes);
+                if (n < 0) {
+                    eof = true;
+                } else {
+                    bytesRead += n;
+                }
+            }
+            bytes.flip();
+            decoder.decode(bytes, chars, eof);
+            bytes.compact();
+            if (eof) {
+                decoder.flush(chars);
+                finished = true;
+            }
+        }
+        chars.flip();
+        return chars.hasRemaining();
+    }
+
+
+    private String trim() {
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,260 @@
+package com.neo.address.parse;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 手机号、电话号码、邮编提取
+ * <p>
+ * 不使用正则，按数字串及分隔符直接判断，结果与依次使用 {@link AddressParser#MOBILE_PATTERN}、{@link AddressParser#PHONE_PATTERN}、
+ * {@link AddressParser#ZIP_CODE_PATTERN} 查找第一个匹配、并将其所有出现替换为空格的原实现一致：
+ * <ol>
+ *     <li>手机号：[86-|86]1[3-9] 加 9 位数字，同一位置依次尝试 86-、86 前缀和无前缀</li>
+ *     <li>电话号码：3~4 位区号-7~8 位号码，否则为 12~7 位数字（取最长）</li>
+ *     <li>邮编：6 位数字</li>
+ * </ol>
+ * 每一步只在前一步未替换的位置上查找，被替换的区间视为一个空格。提取结果以原地址中的区间表示，
+ * 由 {@link #strip(String)} 一次性生成去除号码后的地址。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Getter
+public final class NumberExtraction {
+
+    private static final NumberExtraction NONE = new NumberExtraction(AddressParser.EMPTY, AddressParser.EMPTY, AddressParser.EMPTY, new long[0], 0);
+
+    /**
+     * 手机号，不存在时为空字符串
+     */
+    private final String mobile;
+    /**
+     * 电话号码，不存在时为空字符串
+     */
+    private final String phone;
+    /**
+     * 邮编，不存在时为空字符串
+     */
+    private final String zipCode;
+
+    /**
+     * 需替换的区间 (开始 << 32 | 结束)，按位置升序排列
+     */
+    @Getter(lombok.AccessLevel.NONE)
+    private final long[] spans;
+    @Getter(lombok.AccessLevel.NONE)
+    private final int size;
+
+
+    private NumberExtraction(String mobile, String phone, String zipCode, long[] spans, int size) {
+        this.mobile = mobile;
+        this.phone = phone;
+        this.zipCode = zipCode;
+        this.spans = spans;
+        this.size = size;
+    }
+
+
+    /**
+     * 提取地址中的手机号、电话号码和邮编
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static NumberExtraction extract(String address) {
+        if (Objects.isNull(address) || !hasDigit(address)) {
+            return NONE;
+        }
+
+        Scanner scanner = new Scanner(address);
+        String mobile = scanner.remove(scanner.findMobile());
+        String phone = scanner.remove(scanner.findPhone());
+        String zipCode = scanner.remove(scanner.findZipCode());
+
+        Arrays.sort(scanner.spans, 0, scanner.size);
+        return new NumberExtraction(mobile, phone, zipCode, scanner.spans, scanner.size);
+    }
+
+
+    /**
+     * 需替换的区间数量
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 第 i 个区间的开始位置
+     */
+    public int start(int i) {
+        return (int) (spans[i] >>> 32);
+    }
+
+    /**
+     * 第 i 个区间的结束位置（不包含）
+     */
+    public int end(int i) {
+        return (int) spans[i];
+    }
+
+
+    /**
+     * 将地址中的号码区间替换为空格，address 需为提取时使用的地址
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public String strip(String address) {
+        if (size == 0) {
+            return address;
+        }
+        StringBuilder builder = ParseScratch.get().builder();
+        int from = 0;
+        for (int i = 0; i < size; i++) {
+            builder.append(address, from, start(i)).append(AddressParser.BLANK);
+            from = end(i);
+        }
+        return builder.append(address, from, address.length()).toString();
+    }
+
+
+    private static boolean hasDigit(String address) {
+        for (int i = 0; i < address.length(); i++) {
+            if (isDigit(address.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+
+    /**
+     * 提取过程中的状态，被替换的位置不再参与后续查找
+     */
+    private static class Scanner {
+        private final String text;
+        private final boolean[] removed;
+        private long[] spans = new long[4];
+        private int size;
+
+        Scanner(String text) {
+            this.text = text;
+            this.removed = ParseScratch.get().flags(text.length());
+        }
+
+        /**
+         * 返回 (开始 << 32 | 结束)，未找到返回 -1
+         */
+        long findMobile() {
+            for (int i = 0; i < text.length(); i++) {
+                if (is(i, '8') && is(i + 1, '6')) {
+                    if (is(i + 2, '-') && isMobile(i + 3)) {
+                        return span(i, i + 14);
+                    }
+                    if (isMobile(i + 2)) {
+                        return span(i, i + 13);
+                    }
+                }
+                if (isMobile(i)) {
+                    return span(i, i + 11);
+                }
+            }
+            return -1;
+        }
+
+        long findPhone() {
+            for (int i = 0; i < text.length(); i++) {
+                int digits = digits(i, 12);
+                if (digits == 0) {
+                    continue;
+                }
+                // 区号优先取 4 位，再取 3 位
+                if (digits >= 4 && is(i + 4, '-') && digits(i + 5, 7) == 7) {
+                    return span(i, i + 5 + digits(i + 5, 8));
+                }
+                if (digits == 3 && is(i + 3, '-') && digits(i + 4, 7) == 7) {
+                    return span(i, i + 4 + digits(i + 4, 8));
+                }
+                if (digits >= 7) {
+                    return span(i, i + digits);
+                }
+            }
+            return -1;
+        }
+
+        long findZipCode() {
+            for (int i = 0; i < text.length(); i++) {
+                if (digits(i, 6) == 6) {
+                    return span(i, i + 6);
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 将找到的号码在未替换的位置上从左到右的所有出现标记为替换，返回号码
+         */
+        String remove(long found) {
+            if (found < 0) {
+                return AddressParser.EMPTY;
+            }
+            String number = text.substring((int) (found >>> 32), (int) found);
+            int index = text.indexOf(number);
+            while (index >= 0) {
+                int end = index + number.length();
+                if (isRemoved(index, end)) {
+                    index = text.indexOf(number, index + 1);
+                    continue;
+                }
+                Arrays.fill(removed, index, end, true);
+                if (size == spans.length) {
+                    spans = Arrays.copyOf(spans, size << 1);
+                }
+                spans[size++] = span(index, end);
+                index = text.indexOf(number, end);
+            }
+            return number;
+        }
+
+        private boolean isMobile(int i) {
+            return is(i, '1') && i + 1 < text.length() && !removed[i + 1]
+                    && text.charAt(i + 1) >= '3' && text.charAt(i + 1) <= '9'
+                    && digits(i + 2, 9) == 9;
+        }
+
+        /**
+         * 从 i 开始连续未替换数字的个数，最多 max 个
+         */
+        private int digits(int i, int max) {
+            int count = 0;
+            while (count < max && i + count < text.length() && !removed[i + count] && isDigit(text.charAt(i + count))) {
+                count++;
+            }
+            return count;
+        }
+
+        private boolean is(int i, char c) {
+            return i < text.length() && !removed[i] && text.charAt(i) == c;
+        }
+
+        private boolean isRemoved(int start, int end) {
+            for (int i = start; i < end; i++) {
+                if (removed[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static long span(int start, int end) {
+            return (long) start << 32 | end;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.neo.address.parse;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 解析结果缓存，键为清洗后的地址及返回的结果数量（0 为全部候选结果，见 {@link AddressParser#parseTop(String, int)}）
+ * <p>
+ * 缓存归属于一个 {@link AddressParser}，字典替换时随新的解析器重新创建，不会返回旧字典的结果。
+ * 写入和读取时都复制 {@link ParseResult}，调用方修改返回结果不会影响缓存。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public final class ParseCache {
+
+    /**
+     * 缓存配置
+     */
+    @Getter
+    private final ParseCacheOptions options;
+
+    private final Cache<Object, List<ParseResult>> cache;
+
+
+    ParseCache(ParseCacheOptions options) {
+        this.options = options;
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .maximumSize(options.maximumSize())
+                .recordStats();
+        if (Objects.nonNull(options.getExpireAfterWrite())) {
+            builder.expireAfterWrite(options.getExpireAfterWrite());
+        }
+        this.cache = builder.build();
+    }
+
+
+    /**
+     * 获取缓存结果的副本，不存在时返回 null
+     */
+    List<ParseResult> get(String address, int limit) {
+        Object event = ParseEvents.beginCacheLookup();
+        List<ParseResult> results = cache.getIfPresent(key(address, limit));
+        ParseEvents.commitCacheLookup(event, address.length(), Objects.nonNull(results));
+        return Objects.isNull(results) ? null : copy(results);
+    }
+
+
+    /**
+     * 缓存结果的副本
+     */
+    void put(String address, int limit, List<ParseResult> results) {
+        cache.put(key(address, limit), copy(results));
+    }
+
+
+    /**
+     * 命中、未命中、淘汰次数等统计
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+
+    /**
+     * 当前缓存条数（近似值）
+     */
+    public long size() {
+        return cache.size();
+    }
+
+
+    /**
+     * 清空缓存
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+
+    private static Object key(String address, int limit) {
+        return limit == 0 ? address : new RankedKey(address, limit);
+    }
+
+
+    private static List<ParseResult> copy(List<ParseResult> results) {
+        List<ParseResult> copies = new ArrayList<>(results.size());
+        for (ParseResult result : results) {
+            copies.add(result.toBuilder().build());
+        }
+        return copies;
+    }
+
+
+    /**
+     * 排序模式的缓存键
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class RankedKey {
+        private final String address;
+        private final int limit;
+    }
+}
@@ -0,0 +1,46 @@
+package com.neo.address.parse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * 解析结果缓存配置
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParseCacheOptions {
+
+    /**
+     * 默认最大缓存条数
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * 默认配置：最多 {@link #DEFAULT_MAXIMUM_SIZE} 条，不过期
+     */
+    public static final ParseCacheOptions DEFAULT = ParseCacheOptions.builder().build();
+
+    /**
+     * 最大缓存条数，超出后淘汰最近最少使用的条目；小于等于 0 时取 {@link #DEFAULT_MAXIMUM_SIZE}
+     */
+    private long maximumSize;
+
+    /**
+     * 写入后的过期时间，为空时不过期
+     */
+    private Duration expireAfterWrite;
+
+
+    long maximumSize() {
+        return maximumSize > 0 ? maximumSize : DEFAULT_MAXIMUM_SIZE;
+    }
+}
@@ -0,0 +1,117 @@
+package com.neo.address.parse;
+
+/**
+ * JFR（Java Flight Recorder）事件
+ * <p>
+ * 核心代码兼容 Java 8，此处不产生任何事件；在 JDK 11 及以上构建时，多版本 JAR 的 META-INF/versions/11 中包含同名的实现
+ * （源码位于 src/main/java11），运行在 JDK 11 及以上时由其替代本类。
+ * <p>
+ * begin 方法开始一个事件并返回事件对象，事件未启用时返回 null；commit 方法在事件为 null 时直接返回，
+ * 因此未启用时解析过程只多一次判断。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class ParseEvents {
+
+    private ParseEvents() {
+    }
+
+
+    /**
+     * 是否支持 JFR 事件
+     */
+    static boolean isSupported() {
+        return false;
+    }
+
+
+    /**
+     * 解析阶段事件是否已启用
+     */
+    static boolean isStageEnabled() {
+        return false;
+    }
+
+
+    /**
+     * 开始一次完整解析的事件
+     */
+    static Object beginParse() {
+        return null;
+    }
+
+
+    /**
+     * 提交一次完整解析的事件
+     *
+     * @param inputLength 原始地址长度
+     * @param type        排在第一位的结果的类型，没有结果或未识别出地区时为 null
+     * @param results     结果数量
+     */
+    static void commitParse(Object event, int inputLength, AreaEnum type, int results) {
+    }
+
+
+    /**
+     * 开始一个解析阶段的事件
+     */
+    static Object beginStage() {
+        return null;
+    }
+
+
+    /**
+     * 提交解析阶段的事件
+     *
+     * @param inputLength 该阶段处理的地址长度
+     * @param candidates  该阶段产生的候选结果数量
+     */
+    static void commitStage(Object event, ParseStage stage, int inputLength, int candidates) {
+    }
+
+
+    /**
+     * 提交解析阶段的事件并开始下一个阶段的事件，用于连续的阶段
+     */
+    static Object nextStage(Object event, ParseStage stage, int inputLength, int candidates) {
+        return null;
+    }
+
+
+    /**
+     * 开始一次字典加载的事件
+     */
+    static Object beginLoad() {
+        return null;
+    }
+
+
+    /**
+     * 提交字典加载的事件
+     *
+     * @param source 数据来源
+     * @param nodes  加载的节点数量
+     * @param reload 是否为重新加载
+     */
+    static void commitLoad(Object event, String source, int nodes, boolean reload) {
+    }
+
+
+    /**
+     * 开始一次缓存查找的事件
+     */
+    static Object beginCacheLookup() {
+        return null;
+    }
+
+
+    /**
+     * 提交缓存查找的事件
+     *
+     * @param inputLength 清洗后的地址长度
+     * @param hit         是否命中
+     */
+    static void commitCacheLookup(Object event, int inputLength, boolean hit) {
+    }
+}
@@ -0,0 +1,203 @@
+package com.neo.address.parse;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 异步解析使用的线程池工具
+ * <p>
+ * 运行在 JDK 21 及以上时默认使用虚拟线程（见 {@link VirtualThreads}），否则使用 {@link ForkJoinPool#commonPool()}。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public final class ParseExecutors {
+
+    private static final ExecutorService VIRTUAL = VirtualThreads.newExecutor();
+
+    private ParseExecutors() {
+    }
+
+
+    /**
+     * 当前运行环境是否支持虚拟线程
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static boolean isVirtualThreadSupported() {
+        return Objects.nonNull(VIRTUAL);
+    }
+
+
+    /**
+     * 创建每个任务一个虚拟线程的线程池，由调用方负责关闭；JDK 21 以下抛出 {@link UnsupportedOperationException}
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        ExecutorService executor = VirtualThreads.newExecutor();
+        if (Objects.isNull(executor)) {
+            throw new UnsupportedOperationException("虚拟线程需要 JDK 21 及以上，当前版本：" + System.getProperty("java.version"));
+        }
+        return executor;
+    }
+
+
+    /**
+     * 默认线程池：支持虚拟线程时为共享的虚拟线程池，否则为 {@link ForkJoinPool#commonPool()}，均不需要关闭
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static Executor defaultExecutor() {
+        return Objects.isNull(VIRTUAL) ? ForkJoinPool.commonPool() : VIRTUAL;
+    }
+
+
+    /**
+     * 限制并发的线程池：同时在 executor 中执行的任务不超过 maxConcurrency 个，其余任务排队，不阻塞提交线程；
+     * 同一个实例可在多次调用之间共享
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static Executor bounded(Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency 必须大于 0：" + maxConcurrency);
+        }
+        return new BoundedExecutor(Objects.requireNonNull(executor), maxConcurrency);
+    }
+
+
+    /**
+     * 超时后以 {@link TimeoutException} 结束 future，timeout 为空或不大于 0 时原样返回（Java 8 中没有 orTimeout）
+     */
+    static <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future, Duration timeout) {
+        if (Objects.isNull(timeout) || timeout.isZero() || timeout.isNegative() || future.isDone()) {
+            return future;
+        }
+        ScheduledFuture<?> task = Timer.INSTANCE.schedule(
+                () -> future.completeExceptionally(new TimeoutException("解析超时：" + timeout.toMillis() + " ms")),
+                timeout.toNanos(), TimeUnit.NANOSECONDS);
+        future.whenComplete((result, e) -> task.cancel(false));
+        return future;
+    }
+
+
+    /**
+     * 超时计时线程，首次使用时创建
+     */
+    private static final class Timer {
+        static final ScheduledExecutorService INSTANCE;
+
+        static {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "address-parse-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.setRemoveOnCancelPolicy(true);
+            INSTANCE = timer;
+        }
+    }
+
+
+    /**
+     * 限制并发的线程池
+     * <p>
+     * delegate 拒绝任务时：在 delegate 的线程中（上一个任务结束后）取出的任务直接在当前线程中执行，名额保持占用，任务不会丢失，异常也不会逸出到工作线程；
+     * 在提交线程中取出的任务放回队首，提交的任务仍在队列中时从队列中移除并向提交方抛出 {@link RejectedExecutionException}，
+     * 其余排队的任务等待正在执行的任务结束后再次提交。
+     */
+    private static final class BoundedExecutor implements Executor {
+        private final Executor delegate;
+        private final int maxConcurrency;
+        private final Deque<Runnable> queue = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger running = new AtomicInteger();
+
+        BoundedExecutor(Executor delegate, int maxConcurrency) {
+            this.delegate = delegate;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            queue.add(Objects.requireNonNull(command));
+            try {
+                drain(false);
+            } catch (RejectedExecutionException e) {
+                if (queue.removeLastOccurrence(command)) {
+                    throw e;
+                }
+            }
+        }
+
+        /**
+         * 有空闲名额且队列不为空时取出任务交给 delegate；任务结束后归还名额并再次检查队列
+         *
+         * @param worker 是否在 delegate 的线程中调用
+         */
+        private void drain(boolean worker) {
+            while (!queue.isEmpty()) {
+                int current = running.get();
+                if (current >= maxConcurrency) {
+                    return;
+                }
+                if (!running.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                Runnable task = queue.poll();
+                if (Objects.isNull(task)) {
+                    running.decrementAndGet();
+                    continue;
+                }
+                try {
+                    delegate.execute(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            running.decrementAndGet();
+                            drain(true);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    if (!worker) {
+                        running.decrementAndGet();
+                        queue.offerFirst(task);
+                        throw e;
+                    }
+                    runInline(task);
+                }
+            }
+        }
+
+        /**
+         * 在当前的工作线程中执行被拒绝的任务，任务抛出的异常交给线程的未捕获异常处理器，之后继续处理队列
+         */
+        private void runInline(Runnable task) {
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.neo.address.parse;
+
+/**
+ * 解析过程监听，用于采集各阶段耗时及解析结果分布
+ * <p>
+ * 在解析线程中同步调用，实现需线程安全且足够轻量。未设置监听时使用 {@link #NOOP}，解析过程不会计时。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public interface ParseListener {
+
+    /**
+     * 不做任何处理
+     */
+    ParseListener NOOP = new ParseListener() {
+    };
+
+
+    /**
+     * 阶段完成
+     *
+     * @param stage 阶段
+     * @param nanos 耗时（纳秒）
+     */
+    default void onStage(ParseStage stage, long nanos) {
+    }
+
+    /**
+     * 解析策略产生的候选结果数量
+     *
+     * @param stage 解析策略：{@link ParseStage#PARSE_BY_PROVINCE}、{@link ParseStage#PARSE_BY_CITY} 或 {@link ParseStage#PARSE_BY_AREA}
+     * @param count 候选结果数量
+     */
+    default void onCandidates(ParseStage stage, int count) {
+    }
+
+    /**
+     * 一次解析的最终结果
+     *
+     * @param winner  排在第一位的结果的类型，即产生该结果的解析策略；地址为空或未匹配到任何地区时为 null
+     * @param results 结果数量，地址为空时为 0
+     */
+    default void onOutcome(AreaEnum winner, int results) {
+    }
+}
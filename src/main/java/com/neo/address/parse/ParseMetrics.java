@@ -0,0 +1,207 @@
+package com.neo.address.parse;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 内置的解析指标采集
+ * <p>
+ * 全部使用 {@link LongAdder} 分段计数，记录时无锁且线程间几乎不竞争；耗时按 2 的幂分桶统计直方图，
+ * 百分位为所在桶的上界。指标自创建起累计，可定期调用 {@link #snapshot()} 采集。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class ParseMetrics implements ParseListener {
+
+    /**
+     * 直方图桶数：第 i 个桶记录 [2^(i-1), 2^i) 纳秒，最后一个桶包含更大的值
+     */
+    private static final int BUCKETS = 40;
+
+    private static final ParseStage[] STAGES = ParseStage.values();
+
+    private static final AreaEnum[] TYPES = AreaEnum.values();
+
+    private final Histogram[] stages = new Histogram[STAGES.length];
+    private final LongAdder[] candidates = new LongAdder[STAGES.length];
+    private final LongAdder[] misses = new LongAdder[STAGES.length];
+    private final LongAdder[] winners = new LongAdder[TYPES.length];
+    private final LongAdder unmatched = new LongAdder();
+    private final LongAdder empty = new LongAdder();
+
+
+    public ParseMetrics() {
+        for (int i = 0; i < STAGES.length; i++) {
+            stages[i] = new Histogram();
+            candidates[i] = new LongAdder();
+            misses[i] = new LongAdder();
+        }
+        for (int i = 0; i < TYPES.length; i++) {
+            winners[i] = new LongAdder();
+        }
+    }
+
+
+    @Override
+    public void onStage(ParseStage stage, long nanos) {
+        stages[stage.ordinal()].record(nanos);
+    }
+
+
+    @Override
+    public void onCandidates(ParseStage stage, int count) {
+        candidates[stage.ordinal()].add(count);
+        if (count == 0) {
+            misses[stage.ordinal()].increment();
+        }
+    }
+
+
+    @Override
+    public void onOutcome(AreaEnum winner, int results) {
+        if (results == 0) {
+            empty.increment();
+        } else if (winner == null) {
+            unmatched.increment();
+        } else {
+            winners[winner.ordinal()].increment();
+        }
+    }
+
+
+    /**
+     * 采集当前指标
+     *
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public Snapshot snapshot() {
+        Map<ParseStage, StageSnapshot> stageSnapshots = new EnumMap<>(ParseStage.class);
+        Map<ParseStage, Long> candidateCounts = new EnumMap<>(ParseStage.class);
+        Map<ParseStage, Long> missCounts = new EnumMap<>(ParseStage.class);
+        for (ParseStage stage : STAGES) {
+            Histogram histogram = stages[stage.ordinal()];
+            if (histogram.count.sum() > 0) {
+                stageSnapshots.put(stage, histogram.snapshot());
+            }
+            long count = candidates[stage.ordinal()].sum();
+            long miss = misses[stage.ordinal()].sum();
+            if (count > 0 || miss > 0) {
+                candidateCounts.put(stage, count);
+                missCounts.put(stage, miss);
+            }
+        }
+
+        Map<AreaEnum, Long> winnerCounts = new EnumMap<>(AreaEnum.class);
+        for (AreaEnum type : TYPES) {
+            long count = winners[type.ordinal()].sum();
+            if (count > 0) {
+                winnerCounts.put(type, count);
+            }
+        }
+        return new Snapshot(stageSnapshots, candidateCounts, missCounts, winnerCounts, unmatched.sum(), empty.sum());
+    }
+
+
+    /**
+     * 耗时直方图，也用于服务模式的请求耗时
+     */
+    static class Histogram {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+        Histogram() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos) {
+            nanos = Math.max(nanos, 0);
+            count.increment();
+            total.add(nanos);
+            max.accumulate(nanos);
+            buckets[Math.min(64 - Long.numberOfLeadingZeros(nanos), BUCKETS - 1)].increment();
+        }
+
+        StageSnapshot snapshot() {
+            long[] counts = new long[BUCKETS];
+            long sum = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets[i].sum();
+                sum += counts[i];
+            }
+            long n = count.sum(), maximum = max.get();
+            return new StageSnapshot(n, total.sum(), n == 0 ? 0 : total.sum() / n,
+                    Math.min(percentile(counts, sum, 0.5), maximum), Math.min(percentile(counts, sum, 0.99), maximum), maximum);
+        }
+
+        private static long percentile(long[] counts, long sum, double p) {
+            long rank = (long) Math.ceil(sum * p);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    return i == 0 ? 0 : 1L << i;
+                }
+            }
+            return 0;
+        }
+    }
+
+
+    /**
+     * 指标快照
+     */
+    @Data
+    @AllArgsConstructor
+    public static class Snapshot {
+        /**
+         * 各阶段耗时
+         */
+        private Map<ParseStage, StageSnapshot> stages;
+        /**
+         * 各解析策略产生的候选结果总数
+         */
+        private Map<ParseStage, Long> candidates;
+        /**
+         * 各解析策略没有产生候选结果的次数
+         */
+        private Map<ParseStage, Long> misses;
+        /**
+         * 排在第一位的结果按类型统计
+         */
+        private Map<AreaEnum, Long> winners;
+        /**
+         * 未匹配到任何地区的次数
+         */
+        private long unmatched;
+        /**
+         * 地址为空的次数
+         */
+        private long empty;
+    }
+
+
+    /**
+     * 单个阶段的耗时统计，单位纳秒，百分位为近似值（不小于真实值的 2 的幂，且不超过最大值）
+     */
+    @Data
+    @AllArgsConstructor
+    public static class StageSnapshot {
+        private long count;
+        private long totalNanos;
+        private long meanNanos;
+        private long p50Nanos;
+        private long p99Nanos;
+        private long maxNanos;
+    }
+}
@@ -15,7 +15,7 @@ import java.util.Objects;
  * @since 2022/8/9 13:56
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ParseResult {
@@ -24,8 +24,18 @@ public class ParseResult {
     private String province;
     private String city;
     private String area;
+    /**
+     * 乡镇、村，仅在加载了扩展数据时识别
+     */
+    private String town;
+    private String village;
     private String detail;
 
+    /**
+     * 识别出的最末级地区的行政代码
+     */
+    private Long areaCode;
+
     private String zipCode;
 
     private String mobile;
@@ -34,6 +44,16 @@ public class ParseResult {
     private AreaEnum type;
     private String address;
 
+    /**
+     * 置信度，取值 0 ~ 1，仅在 {@link AddressParser#parseBest(String)}、{@link AddressParser#parseTop(String, int)} 的结果中设置
+     */
+    private Double confidence;
+
+    /**
+     * 模糊匹配的相似度，取值 0 ~ 1，地址中的地区名称经模糊匹配纠正后才设置，精确匹配时为 null
+     */
+    private Double similarity;
+
 
     public static ParseResult assign(ParseResult target, ParseResult source) {
         if (Objects.isNull(target) && Objects.nonNull(source)) {
@@ -48,6 +68,9 @@ public class ParseResult {
         target.setProvince(StringUtils.isBlank(source.getProvince()) ? target.getProvince() : source.getProvince());
         target.setCity(StringUtils.isBlank(source.getCity()) ? target.getCity() : source.getCity());
         target.setArea(StringUtils.isBlank(source.getArea()) ? target.getArea() : source.getArea());
+        target.setTown(StringUtils.isBlank(source.getTown()) ? target.getTown() : source.getTown());
+        target.setVillage(StringUtils.isBlank(source.getVillage()) ? target.getVillage() : source.getVillage());
+        target.setAreaCode(Objects.isNull(source.getAreaCode()) ? target.getAreaCode() : source.getAreaCode());
         target.setDetail(StringUtils.isBlank(source.getDetail()) ? target.getDetail() : source.getDetail());
 
         target.setZipCode(StringUtils.isBlank(source.getZipCode()) ? target.getZipCode() : source.getZipCode());
@@ -62,8 +85,13 @@ public class ParseResult {
     }
 
     public String format() {
-        return String.format("姓名：%s，电话：%s，手机：%s，省：%s，市：%s，区：%s，详细地址：%s，类型：%s",
-                this.getName(), this.getPhone(), this.getMobile(), this.getProvince(), this.getCity(), this.getArea(), this.getDetail(), this.getType());
+        if (StringUtils.isBlank(this.getTown())) {
+            return String.format("姓名：%s，电话：%s，手机：%s，省：%s，市：%s，区：%s，详细地址：%s，类型：%s",
+                    this.getName(), this.getPhone(), this.getMobile(), this.getProvince(), this.getCity(), this.getArea(), this.getDetail(), this.getType());
+        }
+        return String.format("姓名：%s，电话：%s，手机：%s，省：%s，市：%s，区：%s，乡镇：%s，村：%s，详细地址：%s，类型：%s",
+                this.getName(), this.getPhone(), this.getMobile(), this.getProvince(), this.getCity(), this.getArea(),
+                this.getTown(), this.getVillage(), this.getDetail(), this.getType());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.neo.address.parse;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * 解析过程中可复用的线程内缓冲区，使常规路径上只分配最终结果对象
+ * <p>
+ * 通过 {@link #get()} 获取当前线程的实例，不可跨线程使用。命中结果、地址视图按调用深度复用：
+ * 每个扫描地址的方法在开始时 {@link #acquire()}、返回前 {@link #release()}（地址视图为 {@link #acquireCursor()}、{@link #releaseCursor()}），
+ * 嵌套调用各自使用不同的实例。
+ * 其余缓冲区只在单个步骤内使用，步骤之间不保留内容；超出 {@link #MAX_RETAINED} 的缓冲区用完后不保留，避免个别超长地址长期占用内存。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class ParseScratch {
+
+    /**
+     * 保留的单个缓冲区最大长度
+     */
+    static final int MAX_RETAINED = 4096;
+
+    private static final ThreadLocal<ParseScratch> SCRATCH = ThreadLocal.withInitial(ParseScratch::new);
+
+    /**
+     * 自动机原始命中记录
+     */
+    private long[] raw = new long[64];
+
+    private AreaHits[] hits = new AreaHits[8];
+    private int depth;
+
+    private AddressCursor[] cursors = new AddressCursor[8];
+    private int cursorDepth;
+
+    private char[] chars = new char[256];
+    private CharBuffer charView = CharBuffer.wrap(chars);
+    private int[] ints = new int[256];
+    private boolean[] flags = new boolean[256];
+    private final StringBuilder builder = new StringBuilder(256);
+
+    /**
+     * 当前解析使用的候选顺序，解析开始时从 {@link AdaptiveOrder} 取得，整个解析过程（包括重新扫描）使用同一顺序
+     */
+    private CandidateOrder order;
+
+
+    private ParseScratch() {
+    }
+
+
+    static ParseScratch get() {
+        return SCRATCH.get();
+    }
+
+
+    /**
+     * 当前解析使用的候选顺序，null 为序号顺序
+     */
+    CandidateOrder order() {
+        return order;
+    }
+
+
+    /**
+     * 设置当前解析使用的候选顺序，返回原来的顺序以便解析结束时恢复
+     */
+    CandidateOrder order(CandidateOrder order) {
+        CandidateOrder previous = this.order;
+        this.order = order;
+        return previous;
+    }
+
+
+    /**
+     * 获取当前深度的命中结果，需与 {@link #release()} 成对调用
+     */
+    AreaHits acquire() {
+        if (depth == hits.length) {
+            hits = Arrays.copyOf(hits, depth << 1);
+        }
+        if (hits[depth] == null) {
+            hits[depth] = new AreaHits();
+        }
+        return hits[depth++];
+    }
+
+    void release() {
+        depth--;
+    }
+
+
+    /**
+     * 获取当前深度的地址视图，需与 {@link #releaseCursor()} 成对调用
+     */
+    AddressCursor acquireCursor() {
+        if (cursorDepth == cursors.length) {
+            cursors = Arrays.copyOf(cursors, cursorDepth << 1);
+        }
+        if (cursors[cursorDepth] == null) {
+            cursors[cursorDepth] = new AddressCursor();
+        }
+        return cursors[cursorDepth++];
+    }
+
+    void releaseCursor() {
+        cursors[--cursorDepth].clear();
+    }
+
+
+    /**
+     * 原始命中记录缓冲区，容量不足时扩容并保留已有内容
+     */
+    long[] raw(int capacity) {
+        if (raw.length < capacity) {
+            raw = Arrays.copyOf(raw, Math.max(capacity, raw.length << 1));
+        }
+        return raw;
+    }
+
+
+    /**
+     * 长度至少为 length 的字符缓冲区，内容未定义
+     */
+    char[] chars(int length) {
+        if (chars.length < length) {
+            chars = new char[length];
+            charView = CharBuffer.wrap(chars);
+        }
+        return chars;
+    }
+
+
+    /**
+     * {@link #chars(int)} 缓冲区前 length 个字符的只读视图
+     */
+    CharSequence charView(int length) {
+        charView.clear();
+        charView.limit(length);
+        return charView;
+    }
+
+
+    /**
+     * 长度至少为 length 且前 length 个元素为 0 的数组
+     */
+    int[] ints(int length) {
+        if (ints.length < length) {
+            ints = new int[length];
+        } else {
+            Arrays.fill(ints, 0, length, 0);
+        }
+        return ints;
+    }
+
+
+    /**
+     * 长度至少为 length 且前 length 个元素为 false 的数组
+     */
+    boolean[] flags(int length) {
+        if (flags.length < length) {
+            flags = new boolean[length];
+        } else {
+            Arrays.fill(flags, 0, length, false);
+        }
+        return flags;
+    }
+
+
+    /**
+     * 清空的字符串构建器
+     */
+    StringBuilder builder() {
+        builder.setLength(0);
+        return builder;
+    }
+
+
+    /**
+     * 丢弃处理超长地址时扩容的缓冲区
+     */
+    void trim() {
+        if (raw.length > MAX_RETAINED) {
+            raw = new long[64];
+        }
+        if (chars.length > MAX_RETAINED) {
+            chars = new char[256];
+            charView = CharBuffer.wrap(chars);
+        }
+        if (ints.length > MAX_RETAINED) {
+            ints = new int[256];
+        }
+        if (flags.length > MAX_RETAINED) {
+            flags = new boolean[256];
+        }
+        for (int i = cursorDepth; i < cursors.length && cursors[i] != null; i++) {
+            if (cursors[i].capacity() > MAX_RETAINED) {
+                cursors[i] = new AddressCursor();
+            }
+        }
+        if (builder.capacity() > MAX_RETAINED) {
+            builder.setLength(256);
+            builder.trimToSize();
+        }
+    }
+}
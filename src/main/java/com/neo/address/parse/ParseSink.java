@@ -0,0 +1,25 @@
+package com.neo.address.parse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 流式解析结果输出
+ * <p>
+ * 始终在调用解析的线程中按输入顺序调用，实现无需考虑线程安全。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@FunctionalInterface
+public interface ParseSink {
+
+    /**
+     * 输出一行的解析结果
+     *
+     * @param lineNumber 行号，从 1 开始
+     * @param address    参与解析的地址（指定列时为该列的内容）
+     * @param results    解析结果，解析失败时为空列表
+     */
+    void accept(long lineNumber, String address, List<ParseResult> results) throws IOException;
+}
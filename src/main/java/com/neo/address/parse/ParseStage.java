@@ -0,0 +1,47 @@
+package com.neo.address.parse;
+
+/**
+ * 解析阶段
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public enum ParseStage {
+    /**
+     * 完整的一次 {@link AddressParser#parse(String)}
+     */
+    TOTAL,
+    /**
+     * 地址清洗
+     */
+    CLEAN,
+    /**
+     * 提取手机号、电话号码、邮编
+     */
+    EXTRACT_NUMBERS,
+    /**
+     * 提取姓名
+     */
+    PARSE_NAME,
+    /**
+     * 正向解析
+     */
+    PARSE_BY_PROVINCE,
+    /**
+     * 通过城市逆向解析
+     */
+    PARSE_BY_CITY,
+    /**
+     * 通过区县逆向解析
+     */
+    PARSE_BY_AREA,
+    /**
+     * 乡镇、村级解析及行政代码定位
+     */
+    PARSE_TOWN,
+    /**
+     * 精确匹配未识别出城市时的模糊匹配
+     */
+    FUZZY,
+    ;
+}
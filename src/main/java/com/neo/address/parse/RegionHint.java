@@ -0,0 +1,110 @@
+package com.neo.address.parse;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+
+/**
+ * 从地址中提取的电话区号、邮编推断出的地区范围，用于在重名的区县中选择、筛选候选结果
+ * <p>
+ * 区号、邮编都通过 {@link AreaDictionary} 的索引校验，字典中不存在的号码不作为依据；
+ * 邮编没有精确对应的节点时按邮区（前 {@value AreaDictionary#POSTAL_ZONE_LENGTH} 位）比较。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class RegionHint {
+
+    /**
+     * 没有可用的区号、邮编
+     */
+    static final RegionHint NONE = new RegionHint(null, null, null);
+
+    /**
+     * 区号，不可用时为 null
+     */
+    private final String cityCode;
+
+    /**
+     * 邮编，字典中没有精确对应的节点时为 null
+     */
+    private final String zipCode;
+
+    /**
+     * 邮区，邮编有精确对应的节点或邮区不存在时为 null
+     */
+    private final String postalZone;
+
+
+    private RegionHint(String cityCode, String zipCode, String postalZone) {
+        this.cityCode = cityCode;
+        this.zipCode = zipCode;
+        this.postalZone = postalZone;
+    }
+
+
+    /**
+     * 通过提取出的电话号码、邮编构建，都不可用时返回 {@link #NONE}
+     */
+    static RegionHint of(AreaDictionary dictionary, String phone, String zipCode) {
+        String cityCode = cityCode(dictionary, phone);
+        String zone = null;
+        if (StringUtils.isNotBlank(zipCode) && dictionary.findByZipCode(zipCode).isEmpty()) {
+            zone = StringUtils.left(zipCode, AreaDictionary.POSTAL_ZONE_LENGTH);
+            zone = dictionary.findByPostalZone(zone).isEmpty() ? null : zone;
+            zipCode = null;
+        } else if (StringUtils.isBlank(zipCode)) {
+            zipCode = null;
+        }
+        if (Objects.isNull(cityCode) && Objects.isNull(zipCode) && Objects.isNull(zone)) {
+            return NONE;
+        }
+        return new RegionHint(cityCode, zipCode, zone);
+    }
+
+
+    boolean isEmpty() {
+        return this == NONE;
+    }
+
+
+    /**
+     * 节点或其上级是否与区号、邮编之一相符
+     */
+    boolean matches(AreaNode node) {
+        for (; Objects.nonNull(node); node = node.getParent()) {
+            if (Objects.nonNull(cityCode) && cityCode.equals(node.getCityCode())) {
+                return true;
+            }
+            if (Objects.nonNull(zipCode) && zipCode.equals(node.getZipCode())) {
+                return true;
+            }
+            if (Objects.nonNull(postalZone) && StringUtils.startsWith(node.getZipCode(), postalZone)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * 电话号码中的区号：带分隔符时取分隔符之前的部分，否则以 0 开头时依次尝试 3、4 位（010、02X 为 3 位，其余为 4 位）
+     */
+    private static String cityCode(AreaDictionary dictionary, String phone) {
+        if (StringUtils.isBlank(phone) || phone.charAt(0) != '0') {
+            return null;
+        }
+        int separator = phone.indexOf('-');
+        if (separator > 0) {
+            String code = phone.substring(0, separator);
+            return dictionary.findByCityCode(code).isEmpty() ? null : code;
+        }
+        for (int length = 3; length <= 4 && length < phone.length(); length++) {
+            String code = phone.substring(0, length);
+            if (!dictionary.findByCityCode(code).isEmpty()) {
+                return code;
+            }
+        }
+        return null;
+    }
+}
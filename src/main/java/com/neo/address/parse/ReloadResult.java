@@ -0,0 +1,45 @@
+package com.neo.address.parse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 字典重新加载结果
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReloadResult {
+    /**
+     * 数据来源
+     */
+    private String source;
+
+    /**
+     * 当前使用的字典版本
+     */
+    private String version;
+    /**
+     * 当前使用的字典代次
+     */
+    private long generation;
+    /**
+     * 替换前的字典版本
+     */
+    private String previousVersion;
+
+    /**
+     * 节点数量
+     */
+    private int size;
+    /**
+     * 加载耗时（毫秒）
+     */
+    private long duration;
+}
@@ -0,0 +1,82 @@
+package com.neo.address.parse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 服务模式配置，见 {@link AddressParseServer}
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServerOptions {
+
+    /**
+     * 默认端口
+     */
+    public static final int DEFAULT_PORT = 8080;
+
+    /**
+     * 每个工作线程默认的排队请求数
+     */
+    public static final int DEFAULT_QUEUE_PER_WORKER = 64;
+
+    /**
+     * 单条解析接口默认的请求体上限（字节）
+     */
+    public static final int DEFAULT_MAX_BODY_SIZE = 64 * 1024;
+
+    /**
+     * 默认配置：监听全部地址的 {@link #DEFAULT_PORT} 端口，CPU 核数个工作线程
+     */
+    public static final ServerOptions DEFAULT = ServerOptions.builder().port(DEFAULT_PORT).build();
+
+    /**
+     * 监听地址，为空时监听全部地址
+     */
+    private String host;
+
+    /**
+     * 监听端口，为 0 时由系统分配，启动后通过 {@link AddressParseServer#getPort()} 获取
+     */
+    private int port;
+
+    /**
+     * 工作线程数，小于等于 0 时取 CPU 核数
+     */
+    private int workers;
+
+    /**
+     * 等待工作线程的请求数上限，超出后直接返回 503，小于等于 0 时取工作线程数的 {@link #DEFAULT_QUEUE_PER_WORKER} 倍
+     */
+    private int queueCapacity;
+
+    /**
+     * TCP 连接等待队列长度，小于等于 0 时使用系统默认值
+     */
+    private int backlog;
+
+    /**
+     * 单条解析接口（POST /parse）的请求体上限（字节），超出时返回 413，小于等于 0 时取 {@link #DEFAULT_MAX_BODY_SIZE}
+     */
+    private int maxBodySize;
+
+
+    int workers() {
+        return workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+    }
+
+    int queueCapacity() {
+        return queueCapacity > 0 ? queueCapacity : workers() * DEFAULT_QUEUE_PER_WORKER;
+    }
+
+    int maxBodySize() {
+        return maxBodySize > 0 ? maxBodySize : DEFAULT_MAX_BODY_SIZE;
+    }
+}
@@ -0,0 +1,99 @@
+package com.neo.address.parse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 流式文件解析配置
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamOptions {
+
+    /**
+     * 默认配置：UTF-8，整行作为地址，CPU 核数个线程
+     */
+    public static final StreamOptions DEFAULT = StreamOptions.builder().build();
+
+    /**
+     * 文件字符集，为空时取 UTF-8
+     */
+    private Charset charset;
+
+    /**
+     * 地址所在的 CSV 列（从 0 开始），为空时整行作为地址
+     */
+    private Integer column;
+
+    /**
+     * CSV 分隔符，为空时取逗号
+     */
+    private Character delimiter;
+
+    /**
+     * 是否跳过首行表头
+     */
+    private boolean skipHeader;
+
+    /**
+     * 并行度，小于等于 0 时取 CPU 核数，为 1 时在调用线程中顺序解析；指定 executor 时忽略
+     */
+    private int parallelism;
+
+    /**
+     * 每个解析任务包含的行数，小于等于 0 时取 {@link BatchOptions#DEFAULT_CHUNK_SIZE}
+     */
+    private int chunkSize;
+
+    /**
+     * 同时在途（已读取未输出）的任务数上限，小于等于 0 时取并行度的两倍；内存占用约为 window * chunkSize 行
+     */
+    private int window;
+
+    /**
+     * 读取缓冲区大小，小于等于 0 时取 {@link LineReader#DEFAULT_BUFFER_SIZE}
+     */
+    private int bufferSize;
+
+    /**
+     * 执行解析任务的线程池，为空时按 parallelism 创建临时的 {@link java.util.concurrent.ForkJoinPool}，用完即关闭
+     */
+    private ExecutorService executor;
+
+
+    Charset charset() {
+        return Objects.isNull(charset) ? StandardCharsets.UTF_8 : charset;
+    }
+
+    char delimiter() {
+        return Objects.isNull(delimiter) ? ',' : delimiter;
+    }
+
+    int parallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    int chunkSize() {
+        return chunkSize > 0 ? chunkSize : BatchOptions.DEFAULT_CHUNK_SIZE;
+    }
+
+    int window() {
+        return window > 0 ? window : parallelism() * 2;
+    }
+
+    int bufferSize() {
+        return bufferSize > 0 ? bufferSize : LineReader.DEFAULT_BUFFER_SIZE;
+    }
+}
@@ -0,0 +1,143 @@
+package com.neo.address.parse;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * 流式文件解析流水线
+ * <p>
+ * 调用线程负责分块读取文件并按顺序输出结果，解析任务在线程池中并行执行；在途任务数达到窗口上限时，
+ * 先等待最早的任务完成并输出，再提交新任务，因此内存中最多保留 window 个分块，与文件大小无关。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+@Slf4j
+class StreamPipeline {
+
+    private final AddressParser parser;
+    private final StreamOptions options;
+    private final ParseSink sink;
+    private final StreamProgress progress;
+
+
+    StreamPipeline(AddressParser parser, StreamOptions options, ParseSink sink, StreamProgress progress) {
+        this.parser = parser;
+        this.options = options;
+        this.sink = sink;
+        this.progress = progress;
+    }
+
+
+    void run(Path path) throws IOException {
+        progress.start(Files.size(path));
+        ExecutorService executor = options.getExecutor();
+        boolean temporary = Objects.isNull(executor) && options.parallelism() > 1;
+        executor = temporary ? new ForkJoinPool(options.parallelism()) : executor;
+
+        int chunkSize = options.chunkSize();
+        Deque<Future<Chunk>> window = new ArrayDeque<>(options.window());
+        try (LineReader reader = LineReader.open(path, options.charset(), options.bufferSize())) {
+            long lineNumber = 0;
+            if (options.isSkipHeader() && Objects.nonNull(reader.readLine())) {
+                lineNumber++;
+                progress.read(reader.getBytesRead(), 1);
+            }
+
+            List<String> lines = new ArrayList<>(chunkSize);
+            String line;
+            do {
+                line = reader.readLine();
+                if (Objects.nonNull(line)) {
+                    lines.add(line);
+                }
+                if (lines.size() == chunkSize || (Objects.isNull(line) && !lines.isEmpty())) {
+                    Chunk chunk = new Chunk(lineNumber + 1, lines);
+                    lineNumber += lines.size();
+                    progress.read(reader.getBytesRead(), lines.size());
+                    lines = new ArrayList<>(chunkSize);
+
+                    if (Objects.isNull(executor)) {
+                        write(parse(chunk));
+                        continue;
+                    }
+                    if (window.size() >= options.window()) {
+                        write(window.poll().get());
+                    }
+                    window.add(executor.submit(() -> parse(chunk)));
+                }
+            } while (Objects.nonNull(line));
+
+            while (!window.isEmpty()) {
+                write(window.poll().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("流式解析被中断", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("流式解析失败", e.getCause());
+        } finally {
+            window.forEach(future -> future.cancel(true));
+            if (temporary) {
+                executor.shutdownNow();
+            }
+            progress.finish();
+        }
+    }
+
+
+    private Chunk parse(Chunk chunk) {
+        Integer column = options.getColumn();
+        for (int i = 0; i < chunk.lines.size(); i++) {
+            String address = chunk.lines.get(i);
+            if (Objects.nonNull(column)) {
+                address = Objects.toString(CsvUtils.column(address, column, options.delimiter()), AddressParser.EMPTY);
+                chunk.lines.set(i, address);
+            }
+            List<ParseResult> results;
+            try {
+                results = parser.parse(address);
+            } catch (RuntimeException e) {
+                log.warn("第 {} 行地址解析失败：{}", chunk.firstLine + i, address, e);
+                progress.error();
+                results = Collections.EMPTY_LIST;
+            }
+            chunk.results.add(results);
+        }
+        return chunk;
+    }
+
+
+    private void write(Chunk chunk) throws IOException {
+        for (int i = 0; i < chunk.lines.size(); i++) {
+            sink.accept(chunk.firstLine + i, chunk.lines.get(i), chunk.results.get(i));
+            progress.written();
+        }
+    }
+
+
+    private static class Chunk {
+        private final long firstLine;
+        private final List<String> lines;
+        private final List<List<ParseResult>> results;
+
+        private Chunk(long firstLine, List<String> lines) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+            this.results = new ArrayList<>(lines.size());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.neo.address.parse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 流式解析进度，可在其他线程中随时读取
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class StreamProgress {
+
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong linesWritten = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private volatile long startNanos, endNanos;
+
+
+    void start(long totalBytes) {
+        this.totalBytes.set(totalBytes);
+        this.startNanos = System.nanoTime();
+    }
+
+    void read(long bytesRead, long lines) {
+        this.bytesRead.set(bytesRead);
+        this.linesRead.addAndGet(lines);
+    }
+
+    void written() {
+        linesWritten.incrementAndGet();
+    }
+
+    void error() {
+        errors.incrementAndGet();
+    }
+
+    void finish() {
+        this.endNanos = System.nanoTime();
+    }
+
+
+    /**
+     * 文件总字节数
+     */
+    public long getTotalBytes() {
+        return totalBytes.get();
+    }
+
+    /**
+     * 已读取字节数
+     */
+    public long getBytesRead() {
+        return bytesRead.get();
+    }
+
+    /**
+     * 已读取行数
+     */
+    public long getLinesRead() {
+        return linesRead.get();
+    }
+
+    /**
+     * 已输出行数
+     */
+    public long getLinesWritten() {
+        return linesWritten.get();
+    }
+
+    /**
+     * 解析失败行数
+     */
+    public long getErrors() {
+        return errors.get();
+    }
+
+    /**
+     * 读取进度，0 ~ 1
+     */
+    public double getPercent() {
+        long total = totalBytes.get();
+        return total <= 0 ? 0 : (double) bytesRead.get() / total;
+    }
+
+    /**
+     * 已耗时（毫秒）
+     */
+    public long getElapsed() {
+        if (startNanos == 0) {
+            return 0;
+        }
+        long end = endNanos == 0 ? System.nanoTime() : endNanos;
+        return TimeUnit.NANOSECONDS.toMillis(end - startNanos);
+    }
+
+    /**
+     * 吞吐量（行/秒）
+     */
+    public long getLinesPerSecond() {
+        return linesWritten.get() * 1000 / Math.max(1, getElapsed());
+    }
+
+    /**
+     * 吞吐量（字节/秒）
+     */
+    public long getBytesPerSecond() {
+        return bytesRead.get() * 1000 / Math.max(1, getElapsed());
+    }
+
+
+    @Override
+    public String toString() {
+        return String.format("进度：%.1f%%，读取：%d 行 / %d bytes，输出：%d 行，失败：%d 行，耗时：%d ms，吞吐量：%d 行/秒，%d bytes/秒",
+                getPercent() * 100, getLinesRead(), getBytesRead(), getLinesWritten(), getErrors(),
+                getElapsed(), getLinesPerSecond(), getBytesPerSecond());
+    }
+}
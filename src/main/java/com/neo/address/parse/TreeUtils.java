@@ -7,8 +7,15 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -22,6 +29,16 @@ public class TreeUtils {
 
     public static final String DEFAULT_SPLITERATOR = "/";
 
+    /**
+     * 节点数量达到该值时默认使用 fork/join 并行构建子树
+     */
+    public static final int PARALLEL_THRESHOLD = 50000;
+
+    /**
+     * 并行构建时拆分任务的最大深度，更深的子树在当前任务内顺序构建
+     */
+    private static final int PARALLEL_DEPTH = 2;
+
     private TreeUtils() {
     }
 
@@ -88,7 +105,7 @@ public class TreeUtils {
 
 
     /**
-     * 树构建的基础方法
+     * 树构建的基础方法，节点数量达到 {@link #PARALLEL_THRESHOLD} 时并行构建子树
      *
      * @author Neo
      * @since 2022/8/9 13:58
@@ -97,33 +114,58 @@ public class TreeUtils {
                                                                                     List<T> originData,
                                                                                     CharSequence spliterator,
                                                                                     Predicate<T> rootPredicate) {
+        return baseBuild(model, originData, spliterator, rootPredicate, CollectionUtils.size(originData) >= PARALLEL_THRESHOLD);
+    }
+
+
+    /**
+     * 树构建的基础方法
+     * <p>
+     * 先按父节点ID将节点分组一次，再自顶向下组装，整体复杂度 O(n log n)；不修改 originData。
+     * 同一父节点下的子节点按 index() 稳定排序，结果与逐层过滤的方式一致。
+     *
+     * @param parallel 是否使用 {@link ForkJoinPool#commonPool()} 并行构建各子树，结果与顺序构建一致
+     * @author Neo
+     * @since 2026/10/16
+     */
+    public static <T extends ITree<T, K>, K extends Serializable> List<T> baseBuild(Model model,
+                                                                                    List<T> originData,
+                                                                                    CharSequence spliterator,
+                                                                                    Predicate<T> rootPredicate,
+                                                                                    boolean parallel) {
         if (Objects.isNull(model) || CollectionUtils.isEmpty(originData) || Objects.isNull(rootPredicate)) {
             return Collections.EMPTY_LIST;
         }
 
-        List<T> result = new ArrayList<>(CollectionUtils.size(originData));
-
         List<T> roots = originData.stream().filter(rootPredicate).sorted(Comparator.comparing(T::index)).collect(Collectors.toList());
 
         if (CollectionUtils.isEmpty(roots)) {
             return Collections.EMPTY_LIST;
         }
 
-        // 删除根节点，避免重复遍历
-        originData.removeAll(roots);
-
-        switch (model) {
-            case TREE:
-                roots.forEach(r -> result.add(buildTree(r, originData)));
-                break;
-            case PATH:
-                roots.forEach(r -> result.addAll(buildPath(r, originData, spliterator)));
-                break;
-            case TREE_AND_PATH:
-                roots.forEach(r -> result.add(buildTreeAndPath(r, originData, spliterator)));
-                break;
-            default:
-                throw new RuntimeException();
+        // 根节点不参与分组，避免重复遍历
+        Map<K, List<T>> childrenMapping = groupByParentId(originData, roots, parallel);
+
+        List<T> result = new ArrayList<>(CollectionUtils.size(originData));
+        if (parallel) {
+            List<BuildTask<T, K>> tasks = new ArrayList<>(roots.size());
+            for (T root : roots) {
+                tasks.add(new BuildTask<>(model, root, childrenMapping, spliterator, 0));
+            }
+            // 调用方通常不是 fork/join 工作线程，显式提交到公共池，子树任务在池内继续拆分
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+            for (BuildTask<T, K> task : tasks) {
+                collect(model, task.node, task.join(), result);
+            }
+            return result;
+        }
+
+        for (T root : roots) {
+            List<T> nodes = Model.PATH == model ? result : null;
+            build(model, root, childrenMapping, spliterator, nodes, 0, false);
+            if (Model.PATH != model) {
+                result.add(root);
+            }
         }
         return result;
     }
@@ -140,19 +182,7 @@ public class TreeUtils {
      * @since 2022/8/9 13:58
      */
     public static <T extends ITree<T, K>, K extends Serializable> T buildTree(T parentNode, List<T> originData) {
-        List<T> childrenNode = new ArrayList<>();
-
-        List<T> children = filterByParentId(parentNode.id(), originData);
-
-        if (CollectionUtils.isNotEmpty(children)) {
-            // 删除节点，避免重复遍历
-            originData.removeAll(children);
-        }
-        for (T child : children) {
-            child.parent(parentNode);
-            childrenNode.add(buildTree(child, originData));
-        }
-        parentNode.children(childrenNode);
+        build(Model.TREE, parentNode, groupByParentId(originData, Collections.singletonList(parentNode), false), null, null, 0, false);
         return parentNode;
     }
 
@@ -165,49 +195,157 @@ public class TreeUtils {
      */
     public static <T extends ITree<T, K>, K extends Serializable> List<T> buildPath(T parentNode, List<T> originData, CharSequence spliterator) {
         List<T> result = new ArrayList<>();
+        build(Model.PATH, parentNode, groupByParentId(originData, Collections.singletonList(parentNode), false), spliterator, result, 0, false);
+        return result;
+    }
+
+    /**
+     * 构建树和路径
+     *
+     * @author Neo
+     * @since 2022/8/9 13:57
+     */
+    public static <T extends ITree<T, K>, K extends Serializable> T buildTreeAndPath(T parentNode, List<T> originData, CharSequence spliterator) {
+        build(Model.TREE_AND_PATH, parentNode, groupByParentId(originData, Collections.singletonList(parentNode), false), spliterator, null, 0, false);
+        return parentNode;
+    }
 
-        List<T> children = filterByParentId(parentNode.id(), originData);
 
-        result.add(parentNode);
+    /**
+     * 按父节点ID分组，组内保持原始顺序并按 index() 稳定排序
+     *
+     * @param excludes 不参与分组的节点（按引用判断）
+     * @author Neo
+     * @since 2026/10/16
+     */
+    private static <T extends ITree<T, K>, K extends Serializable> Map<K, List<T>> groupByParentId(List<T> originData, List<T> excludes, boolean concurrent) {
+        Set<T> excludeSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        excludeSet.addAll(excludes);
+
+        Map<K, List<T>> mapping = new HashMap<>();
+        for (T node : originData) {
+            if (!excludeSet.contains(node)) {
+                mapping.computeIfAbsent(node.parentId(), k -> new ArrayList<>()).add(node);
+            }
+        }
+        for (List<T> children : mapping.values()) {
+            children.sort(Comparator.comparing(T::index));
+        }
+        return concurrent ? Collections.synchronizedMap(mapping) : mapping;
+    }
 
-        if (CollectionUtils.isEmpty(children)) {
-            return result;
+
+    /**
+     * 自顶向下组装节点
+     * <p>
+     * 子节点分组被认领后即从 childrenMapping 中移除，ID 重复时只有先遍历到的节点获得子节点，与逐层过滤后删除的语义一致。
+     *
+     * @param pathNodes PATH 模式下按先序遍历收集节点，其他模式为 null
+     * @author Neo
+     * @since 2026/10/16
+     */
+    private static <T extends ITree<T, K>, K extends Serializable> void build(Model model,
+                                                                             T parentNode,
+                                                                             Map<K, List<T>> childrenMapping,
+                                                                             CharSequence spliterator,
+                                                                             List<T> pathNodes,
+                                                                             int depth,
+                                                                             boolean parallel) {
+        if (Objects.nonNull(pathNodes)) {
+            pathNodes.add(parentNode);
         }
 
-        // 删除节点，避免重复遍历
-        originData.removeAll(children);
+        List<T> children = claimChildren(model, parentNode, childrenMapping, spliterator);
+        if (Objects.isNull(children)) {
+            return;
+        }
+
+        if (parallel && depth < PARALLEL_DEPTH && children.size() > 1) {
+            List<BuildTask<T, K>> tasks = new ArrayList<>(children.size());
+            for (T child : children) {
+                tasks.add(new BuildTask<>(model, child, childrenMapping, spliterator, depth + 1));
+            }
+            ForkJoinTask.invokeAll(tasks);
+            for (BuildTask<T, K> task : tasks) {
+                if (Objects.nonNull(pathNodes)) {
+                    pathNodes.addAll(task.join());
+                }
+            }
+            return;
+        }
 
         for (T child : children) {
-            child.parent(parentNode);
-            child.path(parentNode.path() + spliterator + child.pathProperty());
-            result.addAll(buildPath(child, originData, spliterator));
+            build(model, child, childrenMapping, spliterator, pathNodes, depth + 1, parallel);
         }
-        parentNode.children(children);
-        return result;
     }
 
+
     /**
-     * 构建树和路径
+     * 认领父节点的子节点，并设置父节点、路径和子节点列表；没有子节点时返回 null
      *
      * @author Neo
-     * @since 2022/8/9 13:57
+     * @since 2026/10/16
      */
-    public static <T extends ITree<T, K>, K extends Serializable> T buildTreeAndPath(T parentNode, List<T> originData, CharSequence spliterator) {
-        List<T> children = filterByParentId(parentNode.id(), originData);
-
-        if (CollectionUtils.isNotEmpty(children)) {
-            originData.removeAll(children);
+    private static <T extends ITree<T, K>, K extends Serializable> List<T> claimChildren(Model model,
+                                                                                        T parentNode,
+                                                                                        Map<K, List<T>> childrenMapping,
+                                                                                        CharSequence spliterator) {
+        List<T> children = childrenMapping.remove(parentNode.id());
+        if (CollectionUtils.isEmpty(children)) {
+            if (Model.PATH != model) {
+                parentNode.children(new ArrayList<>());
+            }
+            return null;
         }
 
         for (T child : children) {
             child.parent(parentNode);
-            child.path(parentNode.path() + spliterator + child.path());
-            buildTreeAndPath(child, originData, spliterator);
+            if (Model.PATH == model) {
+                child.path(parentNode.path() + spliterator + child.pathProperty());
+            } else if (Model.TREE_AND_PATH == model) {
+                child.path(parentNode.path() + spliterator + child.path());
+            }
         }
-
         parentNode.children(children);
-        return parentNode;
+        return children;
+    }
 
+
+    private static <T> void collect(Model model, T root, List<T> pathNodes, List<T> result) {
+        if (Model.PATH == model) {
+            result.addAll(pathNodes);
+        } else {
+            result.add(root);
+        }
+    }
+
+
+    /**
+     * 并行构建子树的任务，PATH 模式下返回子树的先序遍历节点
+     */
+    private static class BuildTask<T extends ITree<T, K>, K extends Serializable> extends RecursiveTask<List<T>> {
+        private static final long serialVersionUID = 3164957208436421590L;
+
+        private final Model model;
+        private final T node;
+        private final Map<K, List<T>> childrenMapping;
+        private final CharSequence spliterator;
+        private final int depth;
+
+        BuildTask(Model model, T node, Map<K, List<T>> childrenMapping, CharSequence spliterator, int depth) {
+            this.model = model;
+            this.node = node;
+            this.childrenMapping = childrenMapping;
+            this.spliterator = spliterator;
+            this.depth = depth;
+        }
+
+        @Override
+        protected List<T> compute() {
+            List<T> pathNodes = Model.PATH == model ? new ArrayList<>() : null;
+            build(model, node, childrenMapping, spliterator, pathNodes, depth, true);
+            return pathNodes;
+        }
     }
 
 
@@ -0,0 +1,26 @@
+package com.neo.address.parse;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 虚拟线程支持
+ * <p>
+ * 核心代码兼容 Java 8，此处不支持虚拟线程；在 JDK 21 及以上构建时，多版本 JAR 的 META-INF/versions/21 中包含同名的实现
+ * （源码位于 src/main/java21），运行在 JDK 21 及以上时由其替代本类。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+
+    /**
+     * 每个任务一个虚拟线程的线程池，不支持时返回 null
+     */
+    static ExecutorService newExecutor() {
+        return null;
+    }
+}
@@ -0,0 +1,219 @@
+package com.neo.address.parse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR（Java Flight Recorder）事件，JDK 11 及以上的实现，编译到多版本 JAR 的 META-INF/versions/11 中
+ * <p>
+ * 事件默认不启用，可通过 address-parse.jfc 或 {@code Recording.enable("com.neo.address.parse.Parse")} 启用；
+ * 解析、阶段及缓存查找事件默认只记录超过 1 ms 的调用，字典加载事件全部记录。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class ParseEvents {
+
+    private static final EventType PARSE = EventType.getEventType(ParseEvent.class);
+    private static final EventType STAGE = EventType.getEventType(StageEvent.class);
+    private static final EventType LOAD = EventType.getEventType(LoadEvent.class);
+    private static final EventType CACHE_LOOKUP = EventType.getEventType(CacheLookupEvent.class);
+
+    private ParseEvents() {
+    }
+
+
+    static boolean isSupported() {
+        return true;
+    }
+
+
+    static boolean isStageEnabled() {
+        return STAGE.isEnabled();
+    }
+
+
+    static Object beginParse() {
+        if (!PARSE.isEnabled()) {
+            return null;
+        }
+        ParseEvent event = new ParseEvent();
+        event.begin();
+        return event;
+    }
+
+
+    static void commitParse(Object event, int inputLength, AreaEnum type, int results) {
+        if (event == null) {
+            return;
+        }
+        ParseEvent parse = (ParseEvent) event;
+        parse.end();
+        if (parse.shouldCommit()) {
+            parse.inputLength = inputLength;
+            parse.type = type == null ? null : type.name();
+            parse.results = results;
+            parse.commit();
+        }
+    }
+
+
+    static Object beginStage() {
+        if (!STAGE.isEnabled()) {
+            return null;
+        }
+        StageEvent event = new StageEvent();
+        event.begin();
+        return event;
+    }
+
+
+    static void commitStage(Object event, ParseStage stage, int inputLength, int candidates) {
+        if (event == null) {
+            return;
+        }
+        StageEvent current = (StageEvent) event;
+        current.end();
+        if (current.shouldCommit()) {
+            current.stage = stage.name();
+            current.inputLength = inputLength;
+            current.candidates = candidates;
+            current.commit();
+        }
+    }
+
+
+    static Object nextStage(Object event, ParseStage stage, int inputLength, int candidates) {
+        commitStage(event, stage, inputLength, candidates);
+        return beginStage();
+    }
+
+
+    static Object beginLoad() {
+        if (!LOAD.isEnabled()) {
+            return null;
+        }
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        return event;
+    }
+
+
+    static void commitLoad(Object event, String source, int nodes, boolean reload) {
+        if (event == null) {
+            return;
+        }
+        LoadEvent load = (LoadEvent) event;
+        load.end();
+        if (load.shouldCommit()) {
+            load.source = source;
+            load.nodes = nodes;
+            load.reload = reload;
+            load.commit();
+        }
+    }
+
+
+    static Object beginCacheLookup() {
+        if (!CACHE_LOOKUP.isEnabled()) {
+            return null;
+        }
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        return event;
+    }
+
+
+    static void commitCacheLookup(Object event, int inputLength, boolean hit) {
+        if (event == null) {
+            return;
+        }
+        CacheLookupEvent lookup = (CacheLookupEvent) event;
+        lookup.end();
+        if (lookup.shouldCommit()) {
+            lookup.inputLength = inputLength;
+            lookup.hit = hit;
+            lookup.commit();
+        }
+    }
+
+
+    @Name("com.neo.address.parse.Parse")
+    @Label("Address Parse")
+    @Description("一次完整的地址解析")
+    @Category("Address Parse")
+    @Enabled(false)
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static final class ParseEvent extends Event {
+        @Label("Input Length")
+        int inputLength;
+
+        @Label("Result Type")
+        @Description("排在第一位的结果的类型（AreaEnum），未识别出地区时为空")
+        String type;
+
+        @Label("Results")
+        int results;
+    }
+
+
+    @Name("com.neo.address.parse.ParseStage")
+    @Label("Address Parse Stage")
+    @Description("地址解析的一个阶段：清洗、号码提取、姓名、省份、城市、区县、乡镇及模糊匹配")
+    @Category("Address Parse")
+    @Enabled(false)
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static final class StageEvent extends Event {
+        @Label("Stage")
+        String stage;
+
+        @Label("Input Length")
+        int inputLength;
+
+        @Label("Candidates")
+        @Description("省份、城市、区县解析策略产生的候选结果数量，其他阶段为 0")
+        int candidates;
+    }
+
+
+    @Name("com.neo.address.parse.DictionaryLoad")
+    @Label("Address Dictionary Load")
+    @Description("地区字典的加载及重新加载，包括分片加载")
+    @Category("Address Parse")
+    @Enabled(false)
+    @Threshold("0 ms")
+    static final class LoadEvent extends Event {
+        @Label("Source")
+        String source;
+
+        @Label("Nodes")
+        int nodes;
+
+        @Label("Reload")
+        boolean reload;
+    }
+
+
+    @Name("com.neo.address.parse.CacheLookup")
+    @Label("Address Parse Cache Lookup")
+    @Category("Address Parse")
+    @Enabled(false)
+    @Threshold("1 ms")
+    @StackTrace(false)
+    static final class CacheLookupEvent extends Event {
+        @Label("Input Length")
+        int inputLength;
+
+        @Label("Hit")
+        boolean hit;
+    }
+}
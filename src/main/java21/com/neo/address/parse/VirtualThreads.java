@@ -0,0 +1,24 @@
+package com.neo.address.parse;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 虚拟线程支持，JDK 21 及以上的实现，编译到多版本 JAR 的 META-INF/versions/21 中
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+
+    /**
+     * 每个任务一个虚拟线程的线程池
+     */
+    static ExecutorService newExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
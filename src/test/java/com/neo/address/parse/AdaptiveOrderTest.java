@@ -0,0 +1,125 @@
+package com.neo.address.parse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 自适应候选顺序测试：发布前结果与序号顺序一致，偏向少数城市的流量发布后频繁命中的地区排在前面，同一顺序下结果确定，
+ * 替换字典后保留命中次数，并发解析与发布互不影响，并输出最佳结果与序号顺序不同的地址及两种顺序的耗时
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AdaptiveOrderTest {
+
+    public static void main(String[] args) throws Exception {
+        AddressParser parser = AddressParse.getParser();
+        AddressParser adaptive = parser.withAdaptiveOrder(AdaptiveOrderOptions.builder().republishInterval(Long.MAX_VALUE).build());
+        AdaptiveOrder order = adaptive.getAdaptiveOrder();
+
+        // 尚未发布时为序号顺序
+        for (String address : AddressParseTest.ADDRESSES) {
+            if (!parser.parse(address).equals(adaptive.parse(address))) {
+                throw new IllegalStateException("发布前的结果不应变化：" + address);
+            }
+        }
+
+        // 偏向深圳的流量：每条其他地址之后重复一批深圳的地址
+        List<String> workload = workload();
+        workload.forEach(adaptive::parseBest);
+        if (!order.republish() || order.getGeneration() != 1) {
+            throw new IllegalStateException("候选顺序未发布");
+        }
+        List<String> top = order.getTop(3).stream().map(AreaNode::getName).collect(Collectors.toList());
+        System.out.println("记录 " + order.getRecorded() + " 次解析，命中最多的地区：" + top);
+        if (!top.contains("广东省") || !top.contains("深圳市") || !top.contains("盐田区")) {
+            throw new IllegalStateException("命中最多的地区不正确：" + top);
+        }
+
+        // 命中按发布的顺序排列，从任一节点之后继续时与顺序一致
+        AreaHits hits = parser.getDictionary().getMatcher().scan("江西九江市湖口县广东省深圳市盐田区", new AreaHits(), order.current());
+        for (int i = 1; i < hits.size(); i++) {
+            if (order.current().rank(hits.ordinal(i - 1)) >= order.current().rank(hits.ordinal(i)) || hits.indexAfter(hits.ordinal(i - 1)) != i) {
+                throw new IllegalStateException("命中未按发布的顺序排列");
+            }
+        }
+        if (!"广东省".equals(parser.getDictionary().get(hits.ordinal(0)).getName())) {
+            throw new IllegalStateException("命中最多的地区应排在最前面");
+        }
+
+        // 同一顺序下结果确定；顺序不同时，候选节点的尝试顺序不同，最佳结果可能不同
+        for (String address : AddressParseTest.ADDRESSES) {
+            if (!adaptive.parse(address).equals(adaptive.parse(address)) || !adaptive.parseBest(address).equals(adaptive.parseBest(address))) {
+                throw new IllegalStateException("同一顺序下结果应一致：" + address);
+            }
+            ParseResult natural = parser.parseBest(address), ordered = adaptive.parseBest(address);
+            if (!natural.equals(ordered)) {
+                System.out.println("最佳结果不同：" + address.replace('\n', ' ') + "\n  序号顺序：" + natural.format() + "（" + natural.getConfidence()
+                        + "）\n  自适应顺序：" + ordered.format() + "（" + ordered.getConfidence() + "）");
+            }
+        }
+
+        // 替换字典后按行政代码保留命中次数，其余 with 方法共用计数
+        AdaptiveOrder rebased = adaptive.withDictionary(AreaDictionary.load()).getAdaptiveOrder();
+        if (rebased.getGeneration() != 1 || !top.equals(rebased.getTop(3).stream().map(AreaNode::getName).collect(Collectors.toList()))
+                || adaptive.withFuzzy(false).getAdaptiveOrder() != order || Objects.nonNull(adaptive.withAdaptiveOrder(null).getAdaptiveOrder())) {
+            throw new IllegalStateException("替换字典后的候选顺序不正确");
+        }
+
+        // 并发解析的同时频繁发布，结束后同一顺序下结果确定
+        AddressParser concurrent = parser.withAdaptiveOrder(AdaptiveOrderOptions.builder().republishInterval(100).build());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            futures.add(executor.submit(() -> {
+                for (String address : workload) {
+                    if (Objects.isNull(concurrent.parseBest(address).getProvince())) {
+                        throw new IllegalStateException("并发解析未识别出省份：" + address);
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        AdaptiveOrder shared = concurrent.getAdaptiveOrder();
+        System.out.println("并发解析 " + shared.getRecorded() + " 次，发布 " + shared.getGeneration() + " 次");
+        if (shared.getRecorded() != 4L * workload.size() || shared.getGeneration() == 0
+                || !concurrent.parse(workload.get(0)).equals(concurrent.parse(workload.get(0)))) {
+            throw new IllegalStateException("并发解析的计数或发布不正确");
+        }
+
+        // 前两轮为预热
+        for (int round = 0; round < 5; round++) {
+            System.out.printf("偏向深圳的流量：序号顺序 %.2f us/条，自适应顺序 %.2f us/条%n", time(parser, workload), time(adaptive, workload));
+        }
+    }
+
+
+    private static List<String> workload() {
+        List<String> shenzhen = AddressParseTest.ADDRESSES.stream().filter(a -> a.contains("盐田区")).collect(Collectors.toList());
+        List<String> workload = new ArrayList<>();
+        for (String address : AddressParseTest.ADDRESSES) {
+            workload.add(address);
+            workload.addAll(shenzhen);
+        }
+        return workload;
+    }
+
+
+    private static double time(AddressParser parser, List<String> addresses) {
+        int rounds = 1000;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            addresses.forEach(parser::parseBest);
+        }
+        return (System.nanoTime() - start) / 1000.0 / (rounds * addresses.size());
+    }
+}
@@ -0,0 +1,77 @@
+package com.neo.address.parse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 地址清洗测试：结果必须与原先基于 replaceAll 的实现一致
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AddressNormalizerTest {
+
+    private static final int ROUNDS = 200_000;
+
+    /**
+     * 随机地址使用的字符：空白、数字、分隔符、特殊符号以及关键字中的字
+     */
+    private static final String ALPHABET = "  \r\n\t-0123456789.,，。()【】地址详细收货人件联系电話话手机号码邮编姓名所在区省直辖县级行政划自治a";
+
+
+    public static void main(String[] args) {
+        AddressNormalizer normalizer = new AddressNormalizer(AddressParser.DEFAULT_EXCLUDE_KEYS);
+
+        for (String address : AddressParseTest.ADDRESSES) {
+            check(normalizer, address);
+        }
+        for (String address : Arrays.asList("138-1234-5678", "1234-5678-9012", "123 4567 123-4567-8901", "收货人收件人收 收", "地址地址址", "详细地址：\r\n\r\n  广东省")) {
+            check(normalizer, address);
+        }
+
+        Random random = new Random(0);
+        StringBuilder builder = new StringBuilder();
+        for (int round = 0; round < ROUNDS; round++) {
+            builder.setLength(0);
+            int length = random.nextInt(40);
+            for (int i = 0; i < length; i++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            check(normalizer, builder.toString());
+        }
+
+        AddressNormalizer folding = new AddressNormalizer(AddressParser.DEFAULT_EXCLUDE_KEYS, true);
+        String folded = folding.normalize("聯系電話：１３８　１２３４　５６７８");
+        if (!"  13812345678".equals(folded)) {
+            throw new IllegalStateException("全角、繁体转换结果不正确：[" + folded + "]");
+        }
+        System.out.println("地址清洗结果一致，随机地址：" + ROUNDS + " 条");
+    }
+
+
+    private static void check(AddressNormalizer normalizer, String address) {
+        String expected = legacy(address, AddressParser.DEFAULT_EXCLUDE_KEYS);
+        String actual = normalizer.normalize(address);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("清洗结果不一致：[" + address + "]\n期望：[" + expected + "]\n实际：[" + actual + "]");
+        }
+    }
+
+
+    /**
+     * 原先的实现
+     */
+    private static String legacy(String address, List<String> excludeKeys) {
+        address = address.replaceAll("\\r\\n", " ")
+                .replaceAll("\\n", " ")
+                .replaceAll("\\t", " ")
+                .replaceAll(" {2,}", " ")
+                .replaceAll("(\\d{3})-(\\d{4})-(\\d{4})", "$1$2$3")
+                .replaceAll("(\\d{3}) (\\d{4}) (\\d{4})", "$1$2$3");
+        for (String search : excludeKeys) {
+            address = address.replaceAll(search, " ");
+        }
+        return address.replaceAll(AddressParser.SPECIAL_SYMBOL_REGEX, " ");
+    }
+}
@@ -0,0 +1,249 @@
+package com.neo.address.parse;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 服务模式测试及本地压测客户端：校验单条、批量（NDJSON）、指标接口及排队满时的 503，然后以多个线程持续请求单条接口，
+ * 统计每秒请求数及耗时百分位
+ * <p>
+ * 参数：[服务地址] [线程数] [持续秒数]，未指定服务地址时在本进程内启动服务，如 {@code http://127.0.0.1:8080 16 30}
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AddressParseServerLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        AddressParseServer server = null;
+        String url;
+        if (args.length > 0) {
+            url = args[0];
+        } else {
+            // 与独立运行的服务保持一致
+            if (System.getProperty(AddressParseServer.NODELAY) == null) {
+                System.setProperty(AddressParseServer.NODELAY, Boolean.TRUE.toString());
+            }
+            server = AddressParseServer.start(ServerOptions.builder().host("127.0.0.1").port(0).build());
+            url = "http://127.0.0.1:" + server.getPort();
+        }
+
+        try {
+            if (server != null) {
+                verify(url);
+                verifyRejection();
+            }
+            load(url, threads, seconds);
+            System.out.println(request(url + "/metrics", "GET", null).body);
+        } finally {
+            if (server != null) {
+                server.stop(0);
+            }
+        }
+    }
+
+
+    private static void verify(String url) throws IOException {
+        AddressParser parser = AddressParse.getParser();
+        String address = AddressParseTest.ADDRESSES.get(0);
+        Response single = request(url + "/parse", "POST", address);
+        String expected = new com.google.gson.Gson().toJson(parser.parse(address));
+        if (single.status != 200 || !expected.equals(single.body)) {
+            throw new IllegalStateException("单条接口结果不一致：" + single.status + " " + single.body);
+        }
+        if (request(url + "/parse?top=0", "POST", address).status != 400) {
+            throw new IllegalStateException("参数错误时应返回 400");
+        }
+        if (request(url + "/parse", "POST", StringUtils.repeat('x', ServerOptions.DEFAULT_MAX_BODY_SIZE + 1)).status != 413) {
+            throw new IllegalStateException("请求体超过上限时应返回 413");
+        }
+
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < AddressParseTest.ADDRESSES.size(); i++) {
+            JsonObject line = new JsonObject();
+            line.addProperty("id", "order-" + i);
+            line.addProperty("address", AddressParseTest.ADDRESSES.get(i));
+            ndjson.append(line).append('\n');
+        }
+        ndjson.append("{broken\n");
+        Response batch = request(url + "/parse/batch", "POST", ndjson.toString());
+        String[] lines = batch.body.split("\n");
+        if (batch.status != 200 || lines.length != AddressParseTest.ADDRESSES.size() + 1) {
+            throw new IllegalStateException("批量接口输出行数不正确：" + batch.status + " " + lines.length);
+        }
+        for (int i = 0; i < AddressParseTest.ADDRESSES.size(); i++) {
+            JsonObject line = JsonParser.parseString(lines[i]).getAsJsonObject();
+            if (line.get("index").getAsInt() != i || !("order-" + i).equals(line.get("id").getAsString())
+                    || !line.get("results").toString().equals(new com.google.gson.Gson().toJson(parser.parse(AddressParseTest.ADDRESSES.get(i))))) {
+                throw new IllegalStateException("批量接口第 " + i + " 行结果不一致：" + lines[i]);
+            }
+        }
+        JsonObject broken = JsonParser.parseString(lines[lines.length - 1]).getAsJsonObject();
+        if (!broken.has("error") || !broken.get("error").getAsString().startsWith("格式错误")) {
+            throw new IllegalStateException("格式错误的行应输出格式错误：" + broken);
+        }
+        System.out.println("单条、批量接口校验通过，批量 " + lines.length + " 行");
+    }
+
+
+    /**
+     * 1 个工作线程、排队 1 个：批量请求占住工作线程时，并发的请求中应有 503
+     */
+    private static void verifyRejection() throws Exception {
+        AddressParseServer server = AddressParseServer.start(ServerOptions.builder().host("127.0.0.1").port(0).workers(1).queueCapacity(1).build());
+        try {
+            String url = "http://127.0.0.1:" + server.getPort();
+            StringBuilder ndjson = new StringBuilder();
+            for (int i = 0; i < 20_000; i++) {
+                ndjson.append('"').append(AddressParseTest.ADDRESSES.get(i % AddressParseTest.ADDRESSES.size()).replace("\n", " ")).append("\"\n");
+            }
+            Thread slow = new Thread(() -> {
+                try {
+                    request(url + "/parse/batch", "POST", ndjson.toString());
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            slow.start();
+            int rejected = 0;
+            for (int i = 0; i < 20 && rejected == 0; i++) {
+                List<Thread> clients = new ArrayList<>();
+                AtomicLong busy = new AtomicLong();
+                for (int j = 0; j < 4; j++) {
+                    Thread client = new Thread(() -> {
+                        try {
+                            if (request(url + "/parse", "POST", AddressParseTest.ADDRESSES.get(0)).status == 503) {
+                                busy.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    });
+                    client.start();
+                    clients.add(client);
+                }
+                for (Thread client : clients) {
+                    client.join();
+                }
+                rejected += busy.get();
+            }
+            slow.join();
+            System.out.println("排队已满时拒绝的请求：" + rejected);
+            if (rejected == 0) {
+                throw new IllegalStateException("排队已满时应返回 503");
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+
+    private static void load(String url, int threads, int seconds) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<long[]> latencies = new ArrayList<>();
+        AtomicLong failed = new AtomicLong(), busy = new AtomicLong();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long[] samples = new long[1 << 20];
+            latencies.add(samples);
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                int n = 0;
+                while (System.nanoTime() < deadline && n < samples.length) {
+                    String address = AddressParseTest.ADDRESSES.get((offset + n) % AddressParseTest.ADDRESSES.size());
+                    long start = System.nanoTime();
+                    try {
+                        int status = request(url + "/parse", "POST", address).status;
+                        if (status == 503) {
+                            busy.incrementAndGet();
+                        } else if (status != 200) {
+                            failed.incrementAndGet();
+                        }
+                    } catch (IOException e) {
+                        failed.incrementAndGet();
+                    }
+                    samples[n++] = System.nanoTime() - start;
+                }
+                samples[samples.length - 1] = n;
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        int total = 0;
+        for (long[] samples : latencies) {
+            total += (int) samples[samples.length - 1];
+        }
+        long[] all = new long[total];
+        int k = 0;
+        for (long[] samples : latencies) {
+            int n = (int) samples[samples.length - 1];
+            System.arraycopy(samples, 0, all, k, n);
+            k += n;
+        }
+        Arrays.sort(all);
+        System.out.printf("线程数：%d，请求数：%d，%.0f 请求/秒，p50 %.2f ms，p95 %.2f ms，p99 %.2f ms，最大 %.2f ms，503：%d，失败：%d%n",
+                threads, total, total / (double) seconds, percentile(all, 0.5), percentile(all, 0.95), percentile(all, 0.99),
+                all.length == 0 ? 0 : all[all.length - 1] / 1e6, busy.get(), failed.get());
+    }
+
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) Math.ceil(sorted.length * p) - 1)] / 1e6;
+    }
+
+
+    private static Response request(String url, String method, String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(bytes.length);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(bytes);
+            }
+        }
+        int status = connection.getResponseCode();
+        InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (in != null) {
+            try (InputStream stream = in) {
+                byte[] buffer = new byte[8192];
+                for (int n; (n = stream.read(buffer)) != -1; ) {
+                    bytes.write(buffer, 0, n);
+                }
+            }
+        }
+        return new Response(status, new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+
+    private static class Response {
+        final int status;
+        final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.neo.address.parse;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * 内存分配测试：预热后统计单次解析在当前线程上分配的字节数，超出预算时失败
+ * <p>
+ * 预算按测试地址的平均值设定，包含结果对象及地址切分产生的字符串；匹配、清洗、号码提取等中间状态使用线程内缓冲区，不应随解析次数分配。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AddressParserAllocationTest {
+
+    /**
+     * 每次 parse 平均分配字节数上限
+     */
+    private static final long PARSE_BUDGET = 2048;
+
+    /**
+     * 每次 parseBest 平均分配字节数上限
+     */
+    private static final long PARSE_BEST_BUDGET = 3072;
+
+    private static final int ROUNDS = 200;
+
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            System.out.println("当前 JVM 不支持统计线程分配字节数，跳过");
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        AddressParser parser = AddressParse.getParser();
+        List<String> addresses = AddressParseTest.ADDRESSES;
+
+        // 预热，使缓冲区扩容到稳定大小并完成 JIT 编译
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String address : addresses) {
+                parser.parse(address);
+                parser.parseBest(address);
+            }
+        }
+
+        long id = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(id);
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String address : addresses) {
+                parser.parse(address);
+            }
+        }
+        long parseBytes = (threads.getThreadAllocatedBytes(id) - before) / ((long) ROUNDS * addresses.size());
+
+        before = threads.getThreadAllocatedBytes(id);
+        for (int round = 0; round < ROUNDS; round++) {
+            for (String address : addresses) {
+                parser.parseBest(address);
+            }
+        }
+        long bestBytes = (threads.getThreadAllocatedBytes(id) - before) / ((long) ROUNDS * addresses.size());
+
+        System.out.printf("parse：%d bytes/次（预算 %d），parseBest：%d bytes/次（预算 %d）%n", parseBytes, PARSE_BUDGET, bestBytes, PARSE_BEST_BUDGET);
+        if (parseBytes > PARSE_BUDGET || bestBytes > PARSE_BEST_BUDGET) {
+            throw new IllegalStateException("单次解析分配的内存超出预算");
+        }
+    }
+}
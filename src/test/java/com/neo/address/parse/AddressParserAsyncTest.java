@@ -0,0 +1,197 @@
+package com.neo.address.parse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 异步解析测试：结果与同步解析一致、并发上限、超时、线程池拒绝任务时排队的任务不丢失，以及虚拟线程支持
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AddressParserAsyncTest {
+
+    public static void main(String[] args) throws Exception {
+        AddressParser parser = AddressParse.getParser();
+        List<String> addresses = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            addresses.add(AddressParseTest.ADDRESSES.get(i % AddressParseTest.ADDRESSES.size()));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            // 单条异步解析
+            List<CompletableFuture<List<ParseResult>>> futures = new ArrayList<>();
+            for (String address : AddressParseTest.ADDRESSES) {
+                futures.add(parser.parseAsync(address, AsyncOptions.builder().executor(pool).build()));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                if (!futures.get(i).get().toString().equals(parser.parse(AddressParseTest.ADDRESSES.get(i)).toString())) {
+                    throw new IllegalStateException("第 " + i + " 条异步结果与同步解析不一致");
+                }
+            }
+
+            // 批量异步解析，同时解析的地址数不超过上限（按解析开始、结束的阶段事件统计）
+            AtomicInteger active = new AtomicInteger(), peak = new AtomicInteger();
+            AddressParser counting = parser.withListener(new ParseListener() {
+                @Override
+                public void onStage(ParseStage stage, long nanos) {
+                    if (stage == ParseStage.CLEAN) {
+                        peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                    } else if (stage == ParseStage.TOTAL) {
+                        active.decrementAndGet();
+                    }
+                }
+            });
+            List<List<ParseResult>> results = counting.parseAllAsync(addresses,
+                    AsyncOptions.builder().executor(pool).maxConcurrency(3).chunkSize(16).build()).get();
+            for (int i = 0; i < results.size(); i++) {
+                if (!results.get(i).toString().equals(parser.parse(addresses.get(i)).toString())) {
+                    throw new IllegalStateException("第 " + i + " 条批量异步结果与同步解析不一致");
+                }
+            }
+            System.out.println("批量异步解析：" + results.size() + " 条，最大并发数：" + peak.get());
+            if (peak.get() > 3) {
+                throw new IllegalStateException("并发数超出上限：" + peak.get());
+            }
+
+            // 多次调用共享的并发上限
+            peak.set(0);
+            Executor bounded = ParseExecutors.bounded(pool, 2);
+            futures.clear();
+            for (String address : addresses) {
+                futures.add(counting.parseAsync(address, AsyncOptions.builder().executor(bounded).build()));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+            System.out.println("限制并发的线程池：" + futures.size() + " 条，最大并发数：" + peak.get());
+            if (peak.get() > 2) {
+                throw new IllegalStateException("并发数超出上限：" + peak.get());
+            }
+
+            // 超时：线程池被占满时任务无法开始
+            CountDownLatch blocked = new CountDownLatch(1);
+            Executor single = ParseExecutors.bounded(pool, 1);
+            single.execute(() -> {
+                try {
+                    blocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            CompletableFuture<List<ParseResult>> timed = parser.parseAsync(addresses.get(0),
+                    AsyncOptions.builder().executor(single).timeout(Duration.ofMillis(50)).build());
+            try {
+                timed.get();
+                throw new IllegalStateException("应当超时");
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof TimeoutException)) {
+                    throw e;
+                }
+            } finally {
+                blocked.countDown();
+            }
+            System.out.println("超时：" + timed.isCompletedExceptionally());
+
+            rejection(parser, addresses, pool);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        // 默认线程池：JDK 21 及以上为虚拟线程
+        System.out.println("虚拟线程：" + (ParseExecutors.isVirtualThreadSupported() ? "支持" : "不支持（JDK " + System.getProperty("java.version") + "）"));
+        if (ParseExecutors.isVirtualThreadSupported()) {
+            ExecutorService virtual = ParseExecutors.newVirtualThreadPerTaskExecutor();
+            try {
+                List<List<ParseResult>> results = parser.parseAllAsync(addresses, AsyncOptions.builder().executor(virtual).build()).get();
+                System.out.println("虚拟线程批量解析：" + results.size() + " 条");
+            } finally {
+                virtual.shutdown();
+            }
+        } else {
+            try {
+                ParseExecutors.newVirtualThreadPerTaskExecutor();
+                throw new IllegalStateException("不支持虚拟线程时应抛出异常");
+            } catch (UnsupportedOperationException expected) {
+                // ignore
+            }
+        }
+        System.out.println("默认线程池：" + AddressParse.parseAllAsync(addresses, AsyncOptions.DEFAULT).get().size() + " 条");
+    }
+
+
+    /**
+     * 线程池开始拒绝任务后：排队的任务在工作线程中继续执行并正常结束，异常不逸出到工作线程；提交方收到拒绝异常，被拒绝的任务不会再执行
+     */
+    private static void rejection(AddressParser parser, List<String> addresses, ExecutorService pool) throws Exception {
+        AtomicBoolean rejecting = new AtomicBoolean();
+        AtomicInteger uncaught = new AtomicInteger();
+        AtomicInteger active = new AtomicInteger();
+        Executor delegate = command -> {
+            if (rejecting.get()) {
+                throw new RejectedExecutionException("拒绝");
+            }
+            active.incrementAndGet();
+            pool.execute(() -> {
+                Thread.currentThread().setUncaughtExceptionHandler((thread, e) -> uncaught.incrementAndGet());
+                try {
+                    command.run();
+                } finally {
+                    active.decrementAndGet();
+                }
+            });
+        };
+        Executor single = ParseExecutors.bounded(delegate, 1);
+
+        CountDownLatch blocked = new CountDownLatch(1);
+        single.execute(() -> {
+            try {
+                blocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        List<CompletableFuture<List<ParseResult>>> queued = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            queued.add(parser.parseAsync(addresses.get(i), AsyncOptions.builder().executor(single).build()));
+        }
+        rejecting.set(true);
+        blocked.countDown();
+        CompletableFuture.allOf(queued.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < queued.size(); i++) {
+            if (!queued.get(i).get().equals(parser.parse(addresses.get(i)))) {
+                throw new IllegalStateException("拒绝后执行的结果不正确");
+            }
+        }
+
+        // future 完成时工作线程可能仍占用名额，等它归还后提交才会直接交给 delegate
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (active.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        AtomicBoolean ran = new AtomicBoolean();
+        try {
+            single.execute(() -> ran.set(true));
+            throw new IllegalStateException("线程池拒绝时应抛出异常");
+        } catch (RejectedExecutionException expected) {
+            // ignore
+        }
+        rejecting.set(false);
+        CountDownLatch after = new CountDownLatch(1);
+        single.execute(after::countDown);
+        if (!after.await(10, TimeUnit.SECONDS) || ran.get() || uncaught.get() > 0) {
+            throw new IllegalStateException("被拒绝的任务不应再执行，工作线程不应出现未捕获的异常");
+        }
+        System.out.println("拒绝任务：排队的 " + queued.size() + " 个任务全部完成");
+    }
+}
@@ -0,0 +1,57 @@
+package com.neo.address.parse;
+
+import com.google.common.base.Stopwatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 批量解析测试：结果顺序、单条失败隔离，以及并行度从 1 到 CPU 核数的吞吐量
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AddressParserBatchTest {
+
+    private static final int SIZE = 100_000;
+
+
+    public static void main(String[] args) {
+        AddressParser parser = AddressParse.getParser();
+        List<String> addresses = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            addresses.add(AddressParseTest.ADDRESSES.get(i % AddressParseTest.ADDRESSES.size()));
+        }
+
+        // 顺序与单条解析一致
+        List<List<ParseResult>> results = parser.parseAll(addresses.subList(0, 1000), BatchOptions.builder().parallelism(4).chunkSize(16).build());
+        for (int i = 0; i < results.size(); i++) {
+            if (!results.get(i).toString().equals(parser.parse(addresses.get(i)).toString())) {
+                throw new IllegalStateException("第 " + i + " 条结果与单条解析不一致");
+            }
+        }
+
+        // 回调方式逐条输出，空地址不影响其余地址
+        List<String> partial = new ArrayList<>(addresses.subList(0, 10));
+        partial.set(3, null);
+        AtomicInteger accepted = new AtomicInteger();
+        parser.parseAll(partial, BatchOptions.builder().parallelism(2).chunkSize(2).build(), (index, address, result) -> accepted.incrementAndGet());
+        if (accepted.get() != partial.size()) {
+            throw new IllegalStateException("回调次数不正确：" + accepted.get());
+        }
+
+        // 预热
+        parser.parseAll(addresses);
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int parallelism = 1; parallelism <= processors; parallelism <<= 1) {
+            BatchOptions options = BatchOptions.builder().parallelism(parallelism).build();
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            parser.parseAll(addresses, options);
+            long millis = Math.max(1, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+            System.out.println("并行度：" + parallelism + "，条数：" + SIZE + "，耗时：" + millis + " ms，吞吐量：" + SIZE * 1000L / millis + " 条/秒");
+        }
+    }
+}
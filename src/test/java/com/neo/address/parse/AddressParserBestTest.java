@@ -0,0 +1,92 @@
+package com.neo.address.parse;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 最优结果模式测试：结果来自全部候选结果且优先完整的省市区县、置信度有序、相同地区合并，并对比两种模式的耗时
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AddressParserBestTest {
+
+    public static void main(String[] args) {
+        AddressParser parser = AddressParse.getParser();
+
+        int agreed = 0;
+        for (String address : AddressParseTest.ADDRESSES) {
+            List<ParseResult> all = parser.parse(address);
+            ParseResult best = parser.parseBest(address);
+            System.out.println(best.format() + "，置信度：" + best.getConfidence());
+
+            // 全部候选结果中有完整的省市区县且姓名中不含地区名称时，最优结果也应完整
+            boolean complete = all.stream().anyMatch(r -> complete(r)
+                    && (StringUtils.isBlank(r.getName()) || parser.getDictionary().getMatcher().scan(r.getName()).size() == 0));
+            if (complete && !complete(best)) {
+                throw new IllegalStateException("最优结果不完整：" + address + " -> " + best);
+            }
+            if (all.stream().anyMatch(r -> sameArea(r, best))) {
+                agreed++;
+            }
+
+            List<ParseResult> top = parser.parseTop(address, 3);
+            for (int i = 1; i < top.size(); i++) {
+                if (top.get(i).getConfidence() > top.get(i - 1).getConfidence()) {
+                    throw new IllegalStateException("结果未按置信度排序：" + top);
+                }
+                for (int j = 0; j < i; j++) {
+                    if (sameArea(top.get(i), top.get(j))) {
+                        throw new IllegalStateException("相同地区未合并：" + top);
+                    }
+                }
+            }
+            if (!sameArea(top.get(0), best) || !Objects.equals(top.get(0).getConfidence(), best.getConfidence())) {
+                throw new IllegalStateException("parseTop 第一个结果与 parseBest 不一致：" + address);
+            }
+        }
+        System.out.printf("最优结果出现在全部候选结果中：%d/%d%n", agreed, AddressParseTest.ADDRESSES.size());
+        if (agreed != AddressParseTest.ADDRESSES.size()) {
+            throw new IllegalStateException("最优结果不在全部候选结果中");
+        }
+
+        ParseResult unmatched = parser.parseBest("张三 13800138000");
+        if (unmatched.getConfidence() != 0 || Objects.nonNull(parser.parseBest(" "))) {
+            throw new IllegalStateException("未识别地区时的结果不正确：" + unmatched);
+        }
+        try {
+            parser.parseTop(AddressParseTest.ADDRESSES.get(0), 0);
+            throw new IllegalStateException("k 为 0 时应抛出异常");
+        } catch (IllegalArgumentException expected) {
+            // ignore
+        }
+
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < 200; i++) {
+                AddressParseTest.ADDRESSES.forEach(parser::parse);
+            }
+            long all = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < 200; i++) {
+                AddressParseTest.ADDRESSES.forEach(parser::parseBest);
+            }
+            long best = System.nanoTime() - start;
+            System.out.printf("parse：%.2f us/条，parseBest：%.2f us/条%n",
+                    all / 1000.0 / (200 * AddressParseTest.ADDRESSES.size()), best / 1000.0 / (200 * AddressParseTest.ADDRESSES.size()));
+        }
+    }
+
+
+    private static boolean complete(ParseResult result) {
+        return StringUtils.isNotBlank(result.getProvince()) && StringUtils.isNotBlank(result.getCity()) && StringUtils.isNotBlank(result.getArea());
+    }
+
+
+    private static boolean sameArea(ParseResult a, ParseResult b) {
+        return Objects.equals(a.getProvince(), b.getProvince()) && Objects.equals(a.getCity(), b.getCity())
+                && Objects.equals(a.getArea(), b.getArea());
+    }
+}
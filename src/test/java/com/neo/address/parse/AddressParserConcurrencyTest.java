@@ -0,0 +1,89 @@
+package com.neo.address.parse;
+
+import com.google.common.base.Stopwatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 多线程压力测试：并发解析结果必须与单线程结果一致
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AddressParserConcurrencyTest {
+
+    private static final int THREADS = Math.max(8, Runtime.getRuntime().availableProcessors() * 4);
+
+    private static final int ROUNDS = 200;
+
+
+    public static void main(String[] args) throws Exception {
+        AddressParser parser = AddressParse.getParser();
+        List<String> addresses = AddressParseTest.ADDRESSES;
+
+        // 单线程结果作为基准
+        List<String> expected = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            expected.add(format(parser.parse(address)));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong parsed = new AtomicLong();
+        AtomicLong mismatched = new AtomicLong();
+
+        List<Future<?>> futures = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            long seed = t;
+            futures.add(executor.submit(() -> {
+                List<Integer> order = new ArrayList<>(addresses.size());
+                for (int i = 0; i < addresses.size(); i++) {
+                    order.add(i);
+                }
+                Random random = new Random(seed);
+                start.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    Collections.shuffle(order, random);
+                    for (int i : order) {
+                        String actual = format(parser.parse(addresses.get(i)));
+                        parsed.incrementAndGet();
+                        if (!expected.get(i).equals(actual)) {
+                            mismatched.incrementAndGet();
+                            System.err.println("结果不一致：" + addresses.get(i) + "\n期望：" + expected.get(i) + "\n实际：" + actual);
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        System.out.println("线程数：" + THREADS + "，解析次数：" + parsed.get() + "，不一致：" + mismatched.get()
+                + "，耗时：" + stopwatch.elapsed(TimeUnit.MILLISECONDS) + " ms");
+        if (mismatched.get() > 0) {
+            throw new IllegalStateException("并发解析结果与单线程结果不一致：" + mismatched.get());
+        }
+    }
+
+
+    private static String format(List<ParseResult> results) {
+        return results.stream().map(ParseResult::toString).collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,144 @@
+package com.neo.address.parse;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 模糊匹配测试：默认关闭；开启后只差一个字且能由已识别的省份或区号确认的地区名称被纠正并带有相似度，精确匹配成功的地址结果不变，
+ * 道路名、占位名称、其他省份下的相似名称不被误纠正，批量生成的地址中纠正结果不超出已识别的省份，并对比开启、关闭模糊匹配在命中和未命中时的耗时
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AddressParserFuzzyTest {
+
+    private static final List<String> TYPOS = Arrays.asList(
+            "王五 0792-8888888 九讧市某某路5号",
+            "张三 13800138000 四川省成部市某某路100号",
+            "李四 0755-88888888 深训市科技园1号",
+            "赵六 13900139000 江西省九讧市某某路5号");
+
+    /**
+     * 不应纠正的地址：其他省份下的相似名称、没有省份和区号佐证的短名称、无法区分的多个相似名称
+     */
+    private static final List<String> UNCONFIRMED = Arrays.asList(
+            "浙江省张三新区樟坑一区",
+            "九龙 观塘区建设路",
+            "王五 13700137000 九讧市某某路5号",
+            "广东省南湾街道尚峰花园4C2231",
+            "谢先生，南湾街道尚峰花园 13111111111",
+            "谢先生，深圳市南湾街道尚峰花园 13111111111");
+
+    private static final List<String> UNMATCHED = Arrays.asList(
+            "张三 13800138000 某某路100号",
+            "李四 光明大道1号 13900139000",
+            "王五 幸福小区3栋",
+            "赵六 13700137000 人民路5号");
+
+
+    public static void main(String[] args) {
+        AddressParser exact = AddressParse.getParser();
+        AddressParser parser = exact.withFuzzy(true);
+        if (exact.isFuzzy()) {
+            throw new IllegalStateException("模糊匹配默认应关闭");
+        }
+
+        expect(parser, TYPOS.get(0), "九江市");
+        expect(parser, TYPOS.get(1), "成都市");
+        // 深州市、深圳市都只差一个字，由区号区分
+        expect(parser, TYPOS.get(2), "深圳市");
+        expect(parser, TYPOS.get(3), "九江市");
+
+        // 精确匹配成功时不执行模糊匹配
+        for (String address : AddressParseTest.ADDRESSES) {
+            List<ParseResult> results = parser.parse(address);
+            if (!results.equals(exact.parse(address)) || results.stream().anyMatch(r -> Objects.nonNull(r.getSimilarity()))) {
+                throw new IllegalStateException("精确匹配的结果不应变化：" + address);
+            }
+        }
+
+        // 道路名、占位名称、与精确命中重叠的片段不纠正
+        for (String address : Arrays.asList("赵六 13600136000 南京西路100号", "谢先生 18210997754 湖南省市辖区建设路12号", "太阳鲜鲜 山东市辖区山海四季城")) {
+            if (parser.parse(address).stream().anyMatch(r -> Objects.nonNull(r.getSimilarity()))) {
+                throw new IllegalStateException("不应模糊匹配：" + address + " -> " + parser.parse(address));
+            }
+        }
+        for (String address : UNCONFIRMED) {
+            if (!parser.parse(address).equals(exact.parse(address)) || !parser.parseBest(address).equals(exact.parseBest(address))) {
+                throw new IllegalStateException("不应模糊匹配：" + address + " -> " + parser.parse(address));
+            }
+        }
+        differential(parser, exact);
+
+        AreaDictionary dictionary = parser.getDictionary();
+        if (!dictionary.fuzzyMatch("九江市").isEmpty() || !dictionary.fuzzyMatch("九讧").isEmpty()) {
+            throw new IllegalStateException("地区名称本身及两个字的片段不应模糊匹配");
+        }
+        FuzzyMatch match = dictionary.fuzzyMatch("九讧市浔阳路").get(0);
+        if (match.getIndex() != 0 || match.getLength() != 3 || match.getDistance() != 1 || !"九江市浔阳路".equals(match.correct("九讧市浔阳路"))) {
+            throw new IllegalStateException("模糊匹配结果不正确：" + match);
+        }
+
+        // 前两轮为预热
+        for (int round = 0; round < 5; round++) {
+            System.out.printf("命中：开启 %.2f us/条，关闭 %.2f us/条；错别字：开启 %.2f us/条，关闭 %.2f us/条；未识别：开启 %.2f us/条，关闭 %.2f us/条%n",
+                    time(parser, AddressParseTest.ADDRESSES), time(exact, AddressParseTest.ADDRESSES),
+                    time(parser, TYPOS), time(exact, TYPOS), time(parser, UNMATCHED), time(exact, UNMATCHED));
+        }
+    }
+
+
+    /**
+     * 省份加上其他省份区县名称改动一个字、区县名称改动一个字两类地址：纠正后的结果不超出精确匹配识别出的省份，
+     * 没有省份时只纠正相似度不低于 0.8（不少于 5 个字）的名称
+     */
+    private static void differential(AddressParser parser, AddressParser exact) {
+        AreaDictionary dictionary = parser.getDictionary();
+        List<AreaNode> provinces = dictionary.getProvinces(), districts = dictionary.getDistricts();
+        Random random = new Random(42);
+        int changed = 0, total = 5000;
+        for (int i = 0; i < total; i++) {
+            String name = districts.get(random.nextInt(districts.size())).getName();
+            int index = random.nextInt(name.length() - 1);
+            String typo = name.substring(0, index) + "张" + name.substring(index + 1);
+            String address = (i % 2 == 0 ? provinces.get(random.nextInt(provinces.size())).getName() : "") + typo + "建设路" + i + "号";
+
+            List<ParseResult> before = exact.parse(address), after = parser.parse(address);
+            if (after.equals(before)) {
+                continue;
+            }
+            changed++;
+            for (ParseResult result : after) {
+                boolean confirmed = before.stream().anyMatch(r -> Objects.nonNull(r.getProvince()) && r.getProvince().equals(result.getProvince()))
+                        || (before.stream().allMatch(r -> Objects.isNull(r.getProvince())) && result.getSimilarity() >= 0.8);
+                if (!confirmed) {
+                    throw new IllegalStateException("纠正结果超出已识别的省份：" + address + " -> " + after + "，精确匹配：" + before);
+                }
+            }
+        }
+        System.out.println("生成的 " + total + " 条地址中纠正了 " + changed + " 条");
+    }
+
+
+    private static void expect(AddressParser parser, String address, String city) {
+        ParseResult best = parser.parseBest(address);
+        List<ParseResult> all = parser.parse(address);
+        System.out.println(address + " -> " + best.format() + "，相似度：" + best.getSimilarity() + "，置信度：" + best.getConfidence());
+        if (!city.equals(best.getCity()) || Objects.isNull(best.getSimilarity())
+                || all.stream().noneMatch(r -> city.equals(r.getCity()) && Objects.nonNull(r.getSimilarity()))) {
+            throw new IllegalStateException("模糊匹配未纠正：" + address + " -> " + best + " / " + all);
+        }
+    }
+
+
+    private static double time(AddressParser parser, List<String> addresses) {
+        int rounds = 2000;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            addresses.forEach(parser::parse);
+        }
+        return (System.nanoTime() - start) / 1000.0 / (rounds * addresses.size());
+    }
+}
@@ -0,0 +1,89 @@
+package com.neo.address.parse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * 流式文件解析测试：UTF-8 / GBK、CSV 列、输出顺序，以及大文件吞吐量
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AddressParserStreamTest {
+
+    private static final int SIZE = 200_000;
+
+
+    public static void main(String[] args) throws IOException {
+        AddressParser parser = AddressParse.getParser();
+        List<String> addresses = new ArrayList<>();
+        for (String address : AddressParseTest.ADDRESSES) {
+            // 流式解析按行分隔，多行地址合并为一行
+            addresses.add(address.replace("\r", "").replace('\n', ' '));
+        }
+
+        Path file = Files.createTempFile("address-parse", ".csv");
+        try {
+            // UTF-8 CSV，带表头，地址在第 1 列并用双引号包裹；很小的缓冲区使多字节字符跨越缓冲区边界
+            write(file, StandardCharsets.UTF_8, "id,address", addresses, i -> i + ",\"" + addresses.get(i).replace("\"", "\"\"") + "\",x");
+            verify(parser, file, addresses, StreamOptions.builder().column(1).skipHeader(true).bufferSize(7).parallelism(3).chunkSize(2).window(2).build());
+
+            // GBK 整行
+            write(file, Charset.forName("GBK"), null, addresses, addresses::get);
+            verify(parser, file, addresses, StreamOptions.builder().charset(Charset.forName("GBK")).parallelism(1).build());
+
+            // 吞吐量
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < SIZE; i++) {
+                    writer.write(addresses.get(i % addresses.size()));
+                    writer.newLine();
+                }
+            }
+            long[] count = new long[1];
+            StreamProgress progress = parser.parseFile(file, StreamOptions.DEFAULT, (lineNumber, address, results) -> count[0] += results.size());
+            System.out.println(progress);
+            if (progress.getLinesWritten() != SIZE) {
+                throw new IllegalStateException("输出行数不正确：" + progress.getLinesWritten());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+
+    private static void verify(AddressParser parser, Path file, List<String> addresses, StreamOptions options) throws IOException {
+        long[] expectedLine = {options.isSkipHeader() ? 2 : 1};
+        StreamProgress progress = parser.parseFile(file, options, (lineNumber, address, results) -> {
+            int i = (int) (expectedLine[0]++ - (options.isSkipHeader() ? 2 : 1));
+            if (lineNumber != expectedLine[0] - 1 || !address.equals(addresses.get(i))
+                    || !results.toString().equals(parser.parse(addresses.get(i)).toString())) {
+                throw new IllegalStateException("第 " + lineNumber + " 行结果不一致：" + address);
+            }
+        });
+        if (progress.getLinesWritten() != addresses.size()) {
+            throw new IllegalStateException("输出行数不正确：" + progress.getLinesWritten());
+        }
+        System.out.println(progress);
+    }
+
+
+    private static void write(Path file, Charset charset, String header, List<String> addresses, IntFunction<String> line) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, charset)) {
+            if (header != null) {
+                writer.write(header);
+                writer.write("\r\n");
+            }
+            for (int i = 0; i < addresses.size(); i++) {
+                writer.write(line.apply(i));
+                writer.write("\r\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.neo.address.parse;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+
+/**
+ * 代码索引测试：邮编、区号、行政代码查找与逐个节点比较的结果一致，并通过区号、邮编选择重名的区县
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AreaCodeIndexTest {
+
+    public static void main(String[] args) {
+        AddressParser parser = AddressParse.getParser();
+        AreaDictionary dictionary = parser.getDictionary();
+
+        for (AreaNode node : dictionary.getAreas()) {
+            if (StringUtils.isNotBlank(node.getCityCode()) && !dictionary.findByCityCode(node.getCityCode()).contains(node)) {
+                throw new IllegalStateException("区号索引缺少节点：" + node);
+            }
+            if (!AreaDictionary.PLACEHOLDER_ZIP_CODE.equals(node.getZipCode()) && !dictionary.findByZipCode(node.getZipCode()).contains(node)) {
+                throw new IllegalStateException("邮编索引缺少节点：" + node);
+            }
+            if (!node.equals(dictionary.findByAreaCode(node.getAreaCode()))) {
+                throw new IllegalStateException("行政代码索引不一致：" + node);
+            }
+        }
+        if (!dictionary.findByZipCode(AreaDictionary.PLACEHOLDER_ZIP_CODE).isEmpty() || !dictionary.findByCityCode("9999").isEmpty()) {
+            throw new IllegalStateException("不存在的代码应返回空列表");
+        }
+        System.out.println("0431：" + dictionary.findByCityCode("0431").size() + " 个节点，100000：" + dictionary.findByZipCode("100000").size() + " 个节点");
+
+        // 重名的朝阳区：北京 010、长春 0431
+        expect(parser, "张三 朝阳区建国路88号", "北京市");
+        expect(parser, "张三 朝阳区人民大街100号 0431-88888888", "长春市");
+        expect(parser, "张三 朝阳区人民大街100号 043188888888", "长春市");
+        expect(parser, "张三 朝阳区人民大街100号 130021", "长春市");
+        expect(parser, "张三 朝阳区建国路88号 010-88888888", "北京市");
+        // 区号与地址不符时不影响结果
+        expect(parser, "张三 朝阳区建国路88号 0755-22107333", "北京市");
+    }
+
+
+    private static void expect(AddressParser parser, String address, String city) {
+        ParseResult best = parser.parseBest(address);
+        List<ParseResult> all = parser.parse(address);
+        boolean found = all.stream().anyMatch(r -> "朝阳区".equals(r.getArea()) && city.equals(r.getCity()));
+        System.out.println(address + " -> " + best.format());
+        if (!city.equals(best.getCity()) || !found) {
+            throw new IllegalStateException("重名区县选择错误：" + address + " -> " + best);
+        }
+    }
+}
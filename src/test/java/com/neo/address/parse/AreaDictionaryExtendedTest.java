@@ -0,0 +1,175 @@
+package com.neo.address.parse;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 乡镇、村级扩展数据测试：在默认数据的每个区县下生成约 14 个乡镇、每个乡镇约 15 个村（与全国约 4 万乡镇、60 万村的规模相当），
+ * 验证解析结果并输出加载耗时、堆占用和解析耗时
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AreaDictionaryExtendedTest {
+
+    private static final String CHARS = "东南西北中新安平和兴华宁丰顺康泰福寿长青山水河湖桥湾岭坪塘田村庄家园林石金银龙凤阳春秋云白马牛羊花溪岗坝洲沙峰口";
+
+    private static final String[] TOWN_SUFFIXES = {"镇", "乡", "街道"};
+
+    private static final String[] VILLAGE_SUFFIXES = {"村", "社区"};
+
+
+    public static void main(String[] args) throws IOException {
+        List<String[]> samples = new ArrayList<>();
+        List<AreaTree> areas = generate(AddressParse.getParser().getDictionary(), samples);
+
+        Path json = Files.createTempFile("china-area-extended", ".json");
+        Path snapshot = Files.createTempFile("china-area-extended", AreaLoader.SNAPSHOT_EXTENSION);
+        try {
+            try (Writer writer = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+                new Gson().toJson(areas, writer);
+            }
+
+            long start = System.nanoTime();
+            AreaDictionary.load(json);
+            System.out.printf("JSON 加载：%d 个节点，%d ms%n", areas.size(), (System.nanoTime() - start) / 1_000_000);
+
+            AreaSnapshot.main(new String[]{json.toString(), snapshot.toString()});
+            long before = usedMemory();
+            start = System.nanoTime();
+            AreaDictionary dictionary = AreaDictionary.load(snapshot);
+            long loadMillis = (System.nanoTime() - start) / 1_000_000;
+            long heap = usedMemory() - before;
+            System.out.printf("快照加载：%d bytes，%d ms，乡镇 %d 个，村 %d 个，堆占用约 %d MB%n",
+                    Files.size(snapshot), loadMillis, dictionary.getTowns().size(), dictionary.getVillages().size(), heap >> 20);
+
+            AddressParser parser = AddressParse.getParser().withDictionary(dictionary);
+            check(parser.parse("广东省深圳市龙岗区龙岗街道龙岗大道1号").get(0), "龙岗街道", null);
+            check(parser.parse("张三 13800138000 白兔潭镇").get(0), "白兔潭镇", null);
+
+            // 只统计区县识别正确的样本，区县本身的识别不在此验证
+            int resolved = 0, matched = 0;
+            for (String[] sample : samples) {
+                ParseResult result = parser.parse(sample[0]).get(0);
+                if (!Objects.equals(result.getArea(), sample[4])) {
+                    continue;
+                }
+                resolved++;
+                if (Objects.equals(result.getTown(), sample[1]) && Objects.equals(result.getVillage(), sample[2])
+                        && Objects.equals(String.valueOf(result.getAreaCode()), sample[3])) {
+                    matched++;
+                }
+            }
+            System.out.printf("村级样本 %d 条，区县识别正确 %d 条，其中乡镇、村识别正确 %d 条%n", samples.size(), resolved, matched);
+            if (matched < resolved * 0.99) {
+                throw new IllegalStateException("村级识别正确率过低：" + matched + "/" + resolved);
+            }
+
+            for (AddressParser p : new AddressParser[]{AddressParse.getParser(), parser, AddressParse.getParser(), parser}) {
+                start = System.nanoTime();
+                for (int round = 0; round < 5; round++) {
+                    for (String[] sample : samples) {
+                        p.parse(sample[0]);
+                    }
+                }
+                System.out.printf("%s：%.2f us/条%n", p.getDictionary().hasTowns() ? "扩展数据" : "默认数据",
+                        (System.nanoTime() - start) / 1000.0 / (samples.size() * 5));
+            }
+        } finally {
+            Files.deleteIfExists(json);
+            Files.deleteIfExists(snapshot);
+        }
+    }
+
+
+    /**
+     * 在 base 的每个区县下生成乡镇和村，返回未构建父子关系的节点列表；samples 收集部分村级地址及期望结果
+     */
+    static List<AreaTree> generate(AreaDictionary base, List<String[]> samples) {
+        Random random = new Random(20261016);
+        List<AreaTree> areas = new ArrayList<>();
+
+        for (AreaNode node : base.getAreas()) {
+            areas.add(node.toAreaTree());
+            // 东莞、中山等不设区的地级市，默认数据中的区县即为乡镇
+            if (!node.is(AreaEnum.DISTRICT) || node.getAreaCode() % 1_000_000 != 0) {
+                continue;
+            }
+            List<String> towns = names(base, random, 10 + random.nextInt(9), TOWN_SUFFIXES);
+            if (Objects.equals(node.getName(), "龙岗区")) {
+                towns.set(0, "龙岗街道");
+            } else if (Objects.equals(node.getName(), "浏阳市")) {
+                towns.set(0, "白兔潭镇");
+            }
+            for (int t = 0; t < towns.size(); t++) {
+                long townCode = node.getAreaCode() + (t + 1) * 1000L;
+                areas.add(area(AreaEnum.TOWN, townCode, node.getAreaCode(), node, towns.get(t)));
+                List<String> villages = names(base, random, 10 + random.nextInt(11), VILLAGE_SUFFIXES);
+                for (int v = 0; v < villages.size(); v++) {
+                    areas.add(area(AreaEnum.VILLAGE, townCode + v + 1, townCode, node, villages.get(v)));
+                    if (random.nextInt(30) == 0) {
+                        samples.add(new String[]{node.getParent().getName() + node.getName() + towns.get(t) + villages.get(v) + (v + 1) + "组",
+                                towns.get(t), villages.get(v), String.valueOf(townCode + v + 1), node.getName()});
+                    }
+                }
+            }
+        }
+        return areas;
+    }
+
+
+    private static void check(ParseResult result, String town, String village) {
+        System.out.println(result.format() + "，代码：" + result.getAreaCode());
+        if (!Objects.equals(result.getTown(), town) || !Objects.equals(result.getVillage(), village) || Objects.isNull(result.getAreaCode())) {
+            throw new IllegalStateException("乡镇识别不正确：" + result);
+        }
+    }
+
+
+    /**
+     * 随机生成不重复的名称，排除包含省市区县名称的组合，避免生成的数据本身产生歧义
+     */
+    private static List<String> names(AreaDictionary base, Random random, int count, String[] suffixes) {
+        Set<String> names = new HashSet<>();
+        while (names.size() < count) {
+            String name = "" + CHARS.charAt(random.nextInt(CHARS.length())) + CHARS.charAt(random.nextInt(CHARS.length()))
+                    + suffixes[random.nextInt(suffixes.length)];
+            if (base.getMatcher().scan(name).size() == 0) {
+                names.add(name);
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+
+    private static AreaTree area(AreaEnum level, long areaCode, long parentCode, AreaNode district, String name) {
+        return AreaTree.builder()
+                .level(level.getCode())
+                .areaCode(areaCode)
+                .parentCode(parentCode)
+                .zipCode(district.getZipCode())
+                .cityCode(district.getCityCode())
+                .name(name)
+                .build();
+    }
+
+
+    static long usedMemory() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,60 @@
+package com.neo.address.parse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 字典堆占用对比：逐节点对象的 {@link AreaTree} 树与按列存储的 {@link AreaDictionary}
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AreaDictionaryFootprintTest {
+
+    public static void main(String[] args) throws IOException {
+        long before = AreaDictionaryExtendedTest.usedMemory();
+        List<AreaTree> trees = AreaLoader.loadJson(AreaLoader.class.getResource(AddressParse.FILE_PATH));
+        report("省市区县", trees, AreaDictionaryExtendedTest.usedMemory() - before, 2);
+
+        before = AreaDictionaryExtendedTest.usedMemory();
+        trees = AreaDictionaryExtendedTest.generate(AddressParse.getParser().getDictionary(), new ArrayList<>());
+        trees = TreeUtils.buildPath(trees, o -> Objects.equals(o.getParentCode(), 0L));
+        report("含乡镇、村", trees, AreaDictionaryExtendedTest.usedMemory() - before, 2.5);
+    }
+
+
+    /**
+     * @param treeBytes 实测的 AreaTree 树占用
+     * @param ratio     节点数据占用至少应缩小的倍数
+     */
+    private static void report(String name, List<AreaTree> trees, long treeBytes, double ratio) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AreaSnapshot.of(trees).write(bytes);
+        int size = trees.size();
+        trees = null;
+
+        long before = AreaDictionaryExtendedTest.usedMemory();
+        AreaDictionary dictionary = AreaDictionary.of(AreaSnapshot.read(new ByteArrayInputStream(bytes.toByteArray())));
+        long dictionaryBytes = AreaDictionaryExtendedTest.usedMemory() - before;
+        long matcherBytes = dictionary.getMatcher().footprint()
+                + (Objects.isNull(dictionary.getTownMatcher()) ? 0 : dictionary.getTownMatcher().footprint());
+        long nodeBytes = dictionaryBytes - matcherBytes;
+
+        System.out.printf("%s %d 个节点：AreaTree 树 %.1f MB（%d B/节点），字典 %.1f MB（估算 %.1f MB），"
+                        + "其中自动机 %.1f MB，节点数据 %.1f MB（%d B/节点），缩小 %.1f 倍%n",
+                name, size, mb(treeBytes), treeBytes / size, mb(dictionaryBytes), mb(dictionary.footprint()),
+                mb(matcherBytes), mb(nodeBytes), nodeBytes / size, (double) treeBytes / nodeBytes);
+        if (nodeBytes * ratio > treeBytes) {
+            throw new IllegalStateException(name + "节点数据占用未达到预期");
+        }
+    }
+
+
+    private static double mb(long bytes) {
+        return bytes / 1024.0 / 1024.0;
+    }
+}
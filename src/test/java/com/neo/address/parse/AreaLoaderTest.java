@@ -0,0 +1,170 @@
+package com.neo.address.parse;
+
+import cn.hutool.core.io.FileUtil;
+import com.google.common.reflect.TypeToken;
+import com.google.gson.Gson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 地区数据加载测试：classpath、文件、gzip 及自定义来源的 JSON 流式读取结果与整体读入后构建的结果一致（含乱序、重复代码、
+ * 未知字段、被过滤及不可达节点），按内容识别快照，数据不存在时抛出异常，并对比两种方式加载期间的内存分配
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AreaLoaderTest {
+
+    private static final String EDGE_CASES = "[\n"
+            + "  {\"areaCode\": 110101000000, \"level\": 2, \"name\": \"东城区\", \"parentCode\": 110100000000, \"shortName\": \"东城\", \"unknown\": {\"a\": [1, 2]}},\n"
+            + "  {\"areaCode\": 110000000000, \"level\": 0, \"name\": \"北京\", \"parentCode\": 0, \"shortName\": \"北京\", \"zipCode\": \"000000\"},\n"
+            + "  {\"areaCode\": \"110100000000\", \"level\": \"1\", \"name\": \"北京市\", \"parentCode\": 110000000000, \"cityCode\": \"010\", \"children\": [{\"name\": \"x\"}]},\n"
+            + "  {\"areaCode\": 110100000000, \"level\": 1, \"name\": \"北京重复\", \"parentCode\": 110000000000, \"zipCode\": null},\n"
+            + "  {\"areaCode\": 110102000000, \"level\": 2, \"name\": \"西城区\", \"parentCode\": 110100000000},\n"
+            + "  {\"areaCode\": 110103000000, \"level\": 2, \"name\": \"市辖区\", \"parentCode\": 110100000000},\n"
+            + "  {\"areaCode\": 110200000000, \"level\": 1, \"name\": \"县\", \"parentCode\": 110000000000},\n"
+            + "  {\"areaCode\": 110201000000, \"level\": 2, \"name\": \"密云区\", \"parentCode\": 110200000000},\n"
+            + "  {\"areaCode\": 990101000000, \"level\": 2, \"name\": \"无上级区\", \"parentCode\": 990100000000},\n"
+            + "  null,\n"
+            + "  {\"areaCode\": 120000000000, \"level\": 0, \"name\": \"天津\", \"parentCode\": 0}\n"
+            + "]";
+
+
+    public static void main(String[] args) throws IOException {
+        URL resource = AreaLoaderTest.class.getResource(AddressParse.FILE_PATH);
+        byte[] json = Files.readAllBytes(toPath(resource));
+        byte[] expected = bytes(AreaSnapshot.of(legacy(new String(json, StandardCharsets.UTF_8))));
+
+        // 各种来源的结果与整体读入后构建的结果一致
+        Path directory = Files.createTempDirectory("address-parse-loader");
+        Path plain = directory.resolve("china-area.json");
+        Path gzip = directory.resolve("china-area.json.gz");
+        Path unnamed = directory.resolve("china-area.data");
+        Files.write(plain, json);
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzip))) {
+            out.write(json);
+        }
+        Files.copy(gzip, unnamed);
+        check("classpath", expected, AreaLoader.load(AreaSource.classpath(AddressParse.FILE_PATH)));
+        check("文件", expected, AreaLoader.load(plain));
+        check("gzip 文件", expected, AreaLoader.load(gzip));
+        check("gzip 来源", expected, AreaLoader.load(AreaSource.gzip(AreaSource.path(unnamed))));
+        check("自定义来源", expected, AreaLoader.load(() -> new ByteArrayInputStream(json)));
+        check("节点对象", expected, AreaSnapshot.of(AreaLoader.loadJson(resource)));
+        if (AreaDictionary.load(AreaSource.path(gzip)).size() != AreaLoader.load(plain).getTable().size()) {
+            throw new IllegalStateException("gzip 数据加载的字典不一致");
+        }
+
+        // 乱序、重复代码、未知字段、字符串形式的数字、被过滤及不可达的节点
+        AreaSnapshot edge = AreaLoader.load(() -> new ByteArrayInputStream(EDGE_CASES.getBytes(StandardCharsets.UTF_8)));
+        check("边界数据", bytes(AreaSnapshot.of(legacy(EDGE_CASES))), edge);
+        if (edge.getTable().size() != 6 || !"北京市".equals(edge.getTable().name(1)) || edge.getTable().parent(2) != 1) {
+            throw new IllegalStateException("边界数据的节点不正确：" + edge.getAreas());
+        }
+
+        // 按内容识别快照，扩展名不影响
+        Path snapshot = directory.resolve("china-area.data.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(snapshot))) {
+            out.write(expected);
+        }
+        check("gzip 快照", expected, AreaLoader.load(snapshot));
+
+        try {
+            AreaLoader.load(AreaSource.classpath("/address-parse/missing.json.gz"));
+            throw new IllegalStateException("数据不存在时应抛出异常");
+        } catch (NoSuchFileException e) {
+            // ignore
+        }
+        // 快照和 JSON 都不存在时不以空字典启动
+        String message = null;
+        try {
+            AreaLoader.load("/address-parse/missing.json", "/address-parse/missing.bin");
+        } catch (IllegalStateException e) {
+            message = e.getMessage();
+        }
+        if (Objects.isNull(message) || !message.contains("missing.json") || !message.contains("missing.bin")) {
+            throw new IllegalStateException("快照和 JSON 都不存在时应抛出包含两个路径的异常：" + message);
+        }
+        FileUtil.del(directory.toFile());
+
+        // 构建节点存储期间的内存分配（不含两种方式相同的名称匹配自动机）：整体读入为按行读取、拼接、Gson 构建节点对象再构建树，
+        // 同时持有全文和全部节点对象；流式读取只保留按列存储的数组和去重后的字符串
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long id = Thread.currentThread().getId();
+        long legacyBytes = Long.MAX_VALUE, streamingBytes = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long before = threads.getThreadAllocatedBytes(id);
+            AreaTable.of(legacy(String.join(AddressParse.EMPTY, FileUtil.readUtf8Lines(resource))));
+            legacyBytes = Math.min(legacyBytes, threads.getThreadAllocatedBytes(id) - before);
+
+            before = threads.getThreadAllocatedBytes(id);
+            AreaTable.Builder builder = AreaTable.builder();
+            try (InputStream in = AreaSource.classpath(AddressParse.FILE_PATH).open()) {
+                AreaJsonReader.read(in, builder::add);
+            }
+            builder.build();
+            streamingBytes = Math.min(streamingBytes, threads.getThreadAllocatedBytes(id) - before);
+        }
+        long footprint = AreaLoader.load(AreaSource.classpath(AddressParse.FILE_PATH)).getTable().footprint();
+        System.out.printf("构建节点存储期间分配：整体读入 %.1f MB，流式读取 %.1f MB；节点存储占用约 %.1f MB%n",
+                mb(legacyBytes), mb(streamingBytes), mb(footprint));
+        if (streamingBytes * 3 > legacyBytes * 2) {
+            throw new IllegalStateException("流式读取的内存分配未达到预期");
+        }
+    }
+
+
+    /**
+     * 原有的加载方式：整体读入后由 Gson 构建节点对象，过滤后构建父子关系
+     */
+    private static List<AreaTree> legacy(String json) {
+        List<AreaTree> areas = new Gson().fromJson(json, new TypeToken<List<AreaTree>>() {}.getType());
+        areas.removeIf(area -> Objects.isNull(area) || AreaLoader.isExcluded(area));
+        return TreeUtils.buildPath(areas, o -> Objects.equals(o.getParentCode(), 0L));
+    }
+
+
+    private static void check(String name, byte[] expected, AreaSnapshot actual) throws IOException {
+        if (!Arrays.equals(expected, bytes(actual))) {
+            throw new IllegalStateException(name + "加载的结果不一致");
+        }
+        System.out.println(name + "：" + actual.getTable().size() + " 个节点");
+    }
+
+
+    private static byte[] bytes(AreaSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.write(out);
+        return out.toByteArray();
+    }
+
+
+    private static Path toPath(URL url) {
+        try {
+            return Paths.get(url.toURI());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    private static double mb(long bytes) {
+        return bytes / 1024.0 / 1024.0;
+    }
+}
@@ -0,0 +1,154 @@
+package com.neo.address.parse;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分片加载测试：未加载分片时省份可识别，解析时按地址中出现的任一层级的地区名称加载所属省份，
+ * 每条地址单独按需加载及全部加载后都与完整数据的解析结果一致，分片缺失时继续使用当前字典；默认解析器以分片模式初始化并在后台预热
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class AreaShardsTest {
+
+    private static final long GUANGDONG = 440000000000L;
+
+    /**
+     * 地址中的“南山区”“市南”同时命中黑龙江省鹤岗市南山区、山东省青岛市市南区
+     */
+    private static final long HEILONGJIANG = 230000000000L, SHANDONG = 370000000000L;
+
+    private static final long ZHEJIANG = 330000000000L;
+
+    private static final String ADDRESS = "张三 13800138000 广东省深圳市南山区科技园";
+
+
+    public static void main(String[] args) throws Exception {
+        // 默认解析器尚未初始化，直接进入分片模式
+        if (Objects.nonNull(AddressParse.PROVINCE_LIST)) {
+            throw new IllegalStateException("默认解析器初始化前不应有节点列表");
+        }
+        AreaShards shards = AreaShards.classpath(AddressParse.SHARDS_PATH);
+        AddressParse.useShards(shards);
+        if (shards.getLoadedCount() != 0 || shards.getDictionary().size() != shards.size()
+                || shards.getDictionary().size() != shards.getDictionary().getProvinces().size()) {
+            throw new IllegalStateException("初始时应只包含省份节点：" + shards);
+        }
+        if (AddressParse.getAreaList(AreaEnum.PROVINCE).size() != shards.size() || !AddressParse.getAreaList(AreaEnum.CITY).isEmpty()) {
+            throw new IllegalStateException("节点列表应只包含已加载的节点");
+        }
+
+        // 省份在加载分片前即可识别
+        ParseResult province = new AddressParser(shards.getDictionary(), AddressParser.DEFAULT_EXCLUDE_KEYS).parseBest(ADDRESS);
+        if (!"广东省".equals(province.getProvince()) || StringUtils.isNotBlank(province.getCity())) {
+            throw new IllegalStateException("未加载分片时省份识别不正确：" + province);
+        }
+
+        // 解析时只加载出现的地区所属的省份，重名的地区所属的省份一并加载
+        ParseResult result = AddressParse.parseBest(ADDRESS);
+        if (!"深圳市".equals(result.getCity()) || !"南山区".equals(result.getArea())) {
+            throw new IllegalStateException("加载分片后解析不正确：" + result);
+        }
+        if (shards.getLoadedCount() != 3 || !shards.isLoaded(GUANGDONG) || !shards.isLoaded(HEILONGJIANG)
+                || !shards.isLoaded(SHANDONG) || AddressParse.isReady()) {
+            throw new IllegalStateException("应只加载广东省、黑龙江省、山东省：" + shards);
+        }
+        if (AddressParse.getParser().getDictionary() != shards.getDictionary()) {
+            throw new IllegalStateException("默认解析器未使用最新的分片字典");
+        }
+        System.out.println("按需加载：" + shards + "，" + result.format());
+
+        // 通过城市提取区县时加载城市所属的省份
+        if (shards.isLoaded(ZHEJIANG)) {
+            throw new IllegalStateException("不应已加载浙江省：" + shards);
+        }
+        AreaTree hangzhou = AreaTree.builder().level(1).areaCode(330100000000L).parentCode(ZHEJIANG).name("杭州市").build();
+        ParseResult byCity = new ParseResult();
+        AddressParse.parseAreaByCity(hangzhou, byCity, "西湖区文三路");
+        if (!"西湖区".equals(byCity.getArea()) || !shards.isLoaded(ZHEJIANG)) {
+            throw new IllegalStateException("通过城市提取区县不正确：" + byCity + "，" + shards);
+        }
+
+        // 每条地址在未加载任何分片时按需加载，解析结果与完整数据一致，包括只有市、区县名称的地址
+        AddressParser full = new AddressParser(AreaDictionary.load(), AddressParser.DEFAULT_EXCLUDE_KEYS);
+        int loads = 0;
+        for (String address : AddressParseTest.ADDRESSES) {
+            AreaShards fresh = AreaShards.classpath(AddressParse.SHARDS_PATH);
+            fresh.loadFor(address);
+            loads += fresh.getLoadedCount();
+            List<ParseResult> expected = full.parse(address);
+            List<ParseResult> actual = new AddressParser(fresh.getDictionary(), AddressParser.DEFAULT_EXCLUDE_KEYS).parse(address);
+            if (!Objects.equals(expected, actual)) {
+                throw new IllegalStateException("按需加载后解析结果不一致：" + address + " -> " + actual + " / " + expected + "，" + fresh);
+            }
+        }
+        System.out.printf("逐条按需加载：%d 条地址，平均加载 %.1f 个省份%n",
+                AddressParseTest.ADDRESSES.size(), (double) loads / AddressParseTest.ADDRESSES.size());
+
+        // 一批地址一次加载所需的全部省份，结果同样一致
+        AreaShards batch = AreaShards.classpath(AddressParse.SHARDS_PATH);
+        if (!batch.loadFor(AddressParseTest.ADDRESSES) || batch.loadFor(AddressParseTest.ADDRESSES)) {
+            throw new IllegalStateException("批量加载应只在第一次改变字典：" + batch);
+        }
+        AddressParser batchParser = new AddressParser(batch.getDictionary(), AddressParser.DEFAULT_EXCLUDE_KEYS);
+        for (String address : AddressParseTest.ADDRESSES) {
+            if (!Objects.equals(full.parse(address), batchParser.parse(address))) {
+                throw new IllegalStateException("批量加载后解析结果不一致：" + address);
+            }
+        }
+        System.out.println("批量加载：" + batch);
+
+        // 分片缺失时记录日志，省份仍可识别
+        Path directory = Files.createTempDirectory("address-parse-shards");
+        for (String name : new String[]{AreaShards.PROVINCES_FILE, AreaShards.INDEX_FILE}) {
+            try (InputStream in = AreaShardsTest.class.getResourceAsStream(AddressParse.SHARDS_PATH + name)) {
+                Files.copy(in, directory.resolve(name));
+            }
+        }
+        AreaShards missing = AreaShards.directory(directory);
+        if (missing.loadFor(ADDRESS) || missing.getLoadedCount() != 0) {
+            throw new IllegalStateException("分片缺失时不应加载：" + missing);
+        }
+        try {
+            missing.load(GUANGDONG);
+            throw new IllegalStateException("分片缺失时应抛出异常");
+        } catch (IOException expected) {
+            // ignore
+        }
+
+        // 后台预热加载全部分片
+        AddressParser warmed = AddressParse.warmUp().get(30, TimeUnit.SECONDS);
+        if (!shards.isComplete() || !AddressParse.isReady() || warmed.getDictionary() != shards.getDictionary()) {
+            throw new IllegalStateException("预热后应加载全部分片：" + shards);
+        }
+
+        // 全部加载后与完整数据一致
+        if (!Objects.equals(full.getDictionary().getVersion(), warmed.getDictionary().getVersion())) {
+            throw new IllegalStateException("全部加载后字典版本不一致：" + full.getDictionary().getVersion()
+                    + " / " + warmed.getDictionary().getVersion());
+        }
+        for (String address : AddressParseTest.ADDRESSES) {
+            List<ParseResult> expected = full.parse(address);
+            List<ParseResult> actual = AddressParse.parse(address);
+            if (!Objects.equals(expected, actual)) {
+                throw new IllegalStateException("全部加载后解析结果不一致：" + address + " -> " + actual + " / " + expected);
+            }
+        }
+        System.out.println("预热完成：" + shards + "，版本：" + warmed.getDictionary().getVersion());
+
+        // 重新加载完整数据后退出分片模式
+        AddressParse.reload();
+        AddressParse.parse(ADDRESS);
+        if (AddressParse.getParser().getDictionary() == shards.getDictionary() || !AddressParse.isReady()) {
+            throw new IllegalStateException("重新加载后应退出分片模式");
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.neo.address.parse;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 号码提取测试：结果必须与原先依次使用正则查找并替换的实现一致
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class NumberExtractionTest {
+
+    private static final int ROUNDS = 500_000;
+
+    /**
+     * 随机地址使用的字符，数字占多数以产生大量号码
+     */
+    private static final String ALPHABET = "0123456789013568613-- 路号";
+
+
+    public static void main(String[] args) {
+        for (String address : AddressParseTest.ADDRESSES) {
+            check(AddressParse.cleanAddress(address));
+        }
+        for (String address : Arrays.asList("86-13812345678", "8613812345678 13812345678", "0755-12345678 518000",
+                "12345-1234567", "123-12345678901", "13812345678138123456781", "5180005180001", "")) {
+            check(address);
+        }
+
+        Random random = new Random(0);
+        StringBuilder builder = new StringBuilder();
+        for (int round = 0; round < ROUNDS; round++) {
+            builder.setLength(0);
+            int length = random.nextInt(48);
+            for (int i = 0; i < length; i++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            check(builder.toString());
+        }
+        System.out.println("号码提取结果一致，随机地址：" + ROUNDS + " 条");
+    }
+
+
+    private static void check(String address) {
+        String mobile = AddressParser.parseByPattern(AddressParser.MOBILE_PATTERN, address);
+        String expected = StringUtils.replace(address, mobile, AddressParser.BLANK);
+        String phone = AddressParser.parseByPattern(AddressParser.PHONE_PATTERN, expected);
+        expected = StringUtils.replace(expected, phone, AddressParser.BLANK);
+        String zipCode = AddressParser.parseByPattern(AddressParser.ZIP_CODE_PATTERN, expected);
+        expected = StringUtils.replace(expected, zipCode, AddressParser.BLANK);
+
+        NumberExtraction numbers = NumberExtraction.extract(address);
+        String actual = numbers.strip(address);
+        if (!expected.equals(actual) || !mobile.equals(numbers.getMobile())
+                || !phone.equals(numbers.getPhone()) || !zipCode.equals(numbers.getZipCode())) {
+            throw new IllegalStateException("提取结果不一致：[" + address + "]\n期望：[" + expected + "] " + mobile + " / " + phone + " / " + zipCode
+                    + "\n实际：[" + actual + "] " + numbers.getMobile() + " / " + numbers.getPhone() + " / " + numbers.getZipCode());
+        }
+    }
+}
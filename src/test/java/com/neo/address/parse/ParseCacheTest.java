@@ -0,0 +1,52 @@
+package com.neo.address.parse;
+
+import com.google.common.cache.CacheStats;
+
+import java.util.List;
+
+/**
+ * 解析结果缓存测试：命中统计、返回副本、字典重新加载后失效
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class ParseCacheTest {
+
+    public static void main(String[] args) {
+        AddressParser plain = AddressParse.getParser();
+        AddressParse.setParser(plain.withCache(ParseCacheOptions.builder().maximumSize(4).build()));
+        AddressParser parser = AddressParse.getParser();
+
+        for (int round = 0; round < 3; round++) {
+            for (String address : AddressParseTest.ADDRESSES.subList(0, 4)) {
+                List<ParseResult> results = AddressParse.parse(address);
+                if (!results.toString().equals(plain.parse(address).toString())) {
+                    throw new IllegalStateException("缓存结果与直接解析不一致：" + address);
+                }
+                // 修改返回结果不影响缓存
+                results.forEach(result -> result.setName("changed"));
+            }
+        }
+        CacheStats stats = parser.getCache().stats();
+        System.out.println(stats);
+        if (stats.missCount() != 4 || stats.hitCount() != 8) {
+            throw new IllegalStateException("命中统计不正确：" + stats);
+        }
+
+        // 超出容量后淘汰
+        for (String address : AddressParseTest.ADDRESSES) {
+            AddressParse.parse(address);
+        }
+        if (parser.getCache().stats().evictionCount() == 0) {
+            throw new IllegalStateException("超出容量后没有淘汰：" + parser.getCache().stats());
+        }
+
+        // 字典重新加载后使用新的空缓存
+        AddressParse.reload();
+        AddressParser reloaded = AddressParse.getParser();
+        if (reloaded.getCache() == parser.getCache() || reloaded.getCache().size() != 0) {
+            throw new IllegalStateException("重新加载后缓存未失效");
+        }
+        AddressParse.setParser(plain);
+    }
+}
@@ -0,0 +1,126 @@
+package com.neo.address.parse;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * JFR 事件测试：事件默认不启用，按 address-parse.jfc 启用并去掉阈值后，解析、各阶段、字典加载及缓存查找均产生事件且字段正确
+ * <p>
+ * JFR 实现位于多版本 JAR 的 META-INF/versions/11，直接以 target/classes 为 classpath 时不会加载，
+ * 需使用打包后的 JAR 或将 target/classes/META-INF/versions/11 放在 classpath 最前面，否则只检查解析不受影响。
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class ParseEventsTest {
+
+    private static final String PREFIX = "com.neo.address.parse.";
+
+    private static final String[] EVENTS = {"Parse", "ParseStage", "DictionaryLoad", "CacheLookup"};
+
+
+    public static void main(String[] args) throws Exception {
+        if (!ParseEvents.isSupported()) {
+            System.out.println("未加载 JFR 实现，只检查解析不受影响");
+            if (Objects.nonNull(ParseEvents.beginParse()) || !"深圳市".equals(AddressParse.parseBest(AddressParseTest.ADDRESSES.get(0)).getCity())) {
+                throw new IllegalStateException("未加载 JFR 实现时解析结果不正确");
+            }
+            return;
+        }
+        if (Objects.nonNull(ParseEvents.beginParse()) || ParseEvents.isStageEnabled()) {
+            throw new IllegalStateException("事件默认不应启用");
+        }
+
+        Configuration configuration;
+        try (Reader reader = new InputStreamReader(ParseEventsTest.class.getResourceAsStream("/address-parse/address-parse.jfc"), StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(reader);
+        }
+        Path file = Files.createTempFile("address-parse", ".jfr");
+        int parses = 0;
+        try (Recording recording = new Recording(configuration)) {
+            for (String event : EVENTS) {
+                recording.enable(PREFIX + event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+
+            AddressParser parser = AddressParse.getParser().withCache(ParseCacheOptions.builder().maximumSize(1000).build());
+            for (int round = 0; round < 2; round++) {
+                for (String address : AddressParseTest.ADDRESSES) {
+                    parser.parseBest(address);
+                    parses++;
+                }
+            }
+            parser.withCache(null).parse(AddressParseTest.ADDRESSES.get(0));
+            parser.parse(" ");
+            parses += 2;
+            AddressParse.reload();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+        int parseEvents = 0, typed = 0, hits = 0, misses = 0, loads = 0, reloads = 0, candidates = 0;
+        Set<ParseStage> stages = EnumSet.noneOf(ParseStage.class);
+        for (RecordedEvent event : events) {
+            switch (event.getEventType().getName().substring(PREFIX.length())) {
+                case "Parse":
+                    parseEvents++;
+                    typed += Objects.isNull(event.getString("type")) ? 0 : 1;
+                    break;
+                case "ParseStage":
+                    ParseStage stage = ParseStage.valueOf(event.getString("stage"));
+                    stages.add(stage);
+                    candidates += stage == ParseStage.PARSE_BY_PROVINCE ? event.getInt("candidates") : 0;
+                    if (event.getInt("inputLength") <= 0) {
+                        throw new IllegalStateException("阶段事件的地址长度不正确：" + event);
+                    }
+                    break;
+                case "CacheLookup":
+                    if (event.getBoolean("hit")) {
+                        hits++;
+                    } else {
+                        misses++;
+                    }
+                    break;
+                case "DictionaryLoad":
+                    loads++;
+                    reloads += event.getBoolean("reload") && event.getInt("nodes") > 0 ? 1 : 0;
+                    break;
+                default:
+                    break;
+            }
+        }
+        System.out.printf("解析 %d 次：解析事件 %d 个（识别出地区 %d 个），阶段 %s，缓存命中 %d / 未命中 %d，字典加载 %d 次（重新加载 %d 次）%n",
+                parses, parseEvents, typed, stages, hits, misses, loads, reloads);
+
+        int size = AddressParseTest.ADDRESSES.size();
+        if (parseEvents != parses || typed < size * 2) {
+            throw new IllegalStateException("解析事件数量不正确");
+        }
+        if (!stages.containsAll(EnumSet.of(ParseStage.CLEAN, ParseStage.EXTRACT_NUMBERS, ParseStage.PARSE_NAME,
+                ParseStage.PARSE_BY_PROVINCE, ParseStage.PARSE_BY_CITY, ParseStage.PARSE_BY_AREA, ParseStage.PARSE_TOWN)) || candidates == 0) {
+            throw new IllegalStateException("阶段事件不完整：" + stages);
+        }
+        if (hits != size || misses != size) {
+            throw new IllegalStateException("缓存查找事件数量不正确");
+        }
+        if (reloads != 1) {
+            throw new IllegalStateException("字典重新加载事件不正确");
+        }
+    }
+}
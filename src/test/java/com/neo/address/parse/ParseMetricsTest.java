@@ -0,0 +1,33 @@
+package com.neo.address.parse;
+
+/**
+ * 解析指标测试：各阶段计时及结果分布
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class ParseMetricsTest {
+
+    public static void main(String[] args) {
+        ParseMetrics metrics = new ParseMetrics();
+        AddressParser parser = AddressParse.getParser().withListener(metrics);
+
+        for (String address : AddressParseTest.ADDRESSES) {
+            parser.parse(address);
+        }
+        parser.parse(" ");
+        parser.parse("没有任何地区的文字");
+
+        ParseMetrics.Snapshot snapshot = metrics.snapshot();
+        snapshot.getStages().forEach((stage, stats) -> System.out.println(stage + "：" + stats));
+        System.out.println("候选：" + snapshot.getCandidates() + "，无候选：" + snapshot.getMisses());
+        System.out.println("结果：" + snapshot.getWinners() + "，未匹配：" + snapshot.getUnmatched() + "，空地址：" + snapshot.getEmpty());
+
+        long parsed = AddressParseTest.ADDRESSES.size() + 1;
+        long outcomes = snapshot.getWinners().values().stream().mapToLong(Long::longValue).sum() + snapshot.getUnmatched();
+        if (snapshot.getStages().get(ParseStage.TOTAL).getCount() != parsed || outcomes != parsed
+                || snapshot.getEmpty() != 1 || snapshot.getUnmatched() < 1) {
+            throw new IllegalStateException("指标统计不正确：" + snapshot);
+        }
+    }
+}
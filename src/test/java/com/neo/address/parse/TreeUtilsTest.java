@@ -0,0 +1,153 @@
+package com.neo.address.parse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * 树构建测试：并行构建与顺序构建的结果一致（三种模式、乱序输入、同序号的兄弟节点、不可达节点），
+ * 在非 fork/join 线程及其他 fork/join 池的工作线程中调用时结果相同
+ *
+ * @author Neo
+ * @since 2026/10/16
+ */
+public class TreeUtilsTest {
+
+    private static final Predicate<Node> ROOT = node -> node.parentId == 0;
+
+    public static void main(String[] args) throws Exception {
+        ForkJoinPool other = new ForkJoinPool(2);
+        try {
+            for (TreeUtils.Model model : TreeUtils.Model.values()) {
+                String expected = describe(TreeUtils.baseBuild(model, generate(), TreeUtils.DEFAULT_SPLITERATOR, ROOT, false));
+                String parallel = describe(TreeUtils.baseBuild(model, generate(), TreeUtils.DEFAULT_SPLITERATOR, ROOT, true));
+                String nested = other.submit(() -> describe(TreeUtils.baseBuild(model, generate(), TreeUtils.DEFAULT_SPLITERATOR, ROOT, true))).get();
+                String automatic = describe(TreeUtils.baseBuild(model, generate(), TreeUtils.DEFAULT_SPLITERATOR, ROOT));
+                if (!expected.equals(parallel) || !expected.equals(nested) || !expected.equals(automatic)) {
+                    throw new IllegalStateException(model + " 模式下并行构建的结果与顺序构建不一致");
+                }
+                System.out.println(model + "：" + expected.length() + " 个字符一致");
+            }
+        } finally {
+            other.shutdown();
+        }
+    }
+
+
+    /**
+     * 固定种子生成超过并行阈值的三层森林，顺序打乱，序号有重复，并带有父节点不存在的节点
+     */
+    private static List<Node> generate() {
+        Random random = new Random(7);
+        List<Node> nodes = new ArrayList<>();
+        int id = 0;
+        for (int province = 0; province < 30; province++) {
+            Node root = new Node(++id, 0, random.nextInt(10));
+            nodes.add(root);
+            for (int city = 0; city < 20; city++) {
+                Node parent = new Node(++id, root.id, random.nextInt(10));
+                nodes.add(parent);
+                for (int area = 0; area < 90; area++) {
+                    nodes.add(new Node(++id, parent.id, random.nextInt(10)));
+                }
+            }
+        }
+        for (int orphan = 0; orphan < 100; orphan++) {
+            nodes.add(new Node(++id, -1 - random.nextInt(10), random.nextInt(10)));
+        }
+        if (nodes.size() < TreeUtils.PARALLEL_THRESHOLD) {
+            throw new IllegalStateException("节点数量未达到并行阈值");
+        }
+        Collections.shuffle(nodes, random);
+        return nodes;
+    }
+
+
+    /**
+     * 按结果顺序先序输出节点、父节点、路径及子节点
+     */
+    private static String describe(List<Node> result) {
+        StringBuilder out = new StringBuilder();
+        for (Node node : result) {
+            describe(node, out);
+        }
+        return out.toString();
+    }
+
+    private static void describe(Node node, StringBuilder out) {
+        out.append(node.id).append('<').append(Objects.isNull(node.parent) ? 0 : node.parent.id)
+                .append(' ').append(node.path).append('[');
+        if (Objects.isNull(node.children)) {
+            out.append("null]");
+            return;
+        }
+        for (Node child : node.children) {
+            out.append(child.id).append(',');
+        }
+        out.append("]\n");
+        for (Node child : node.children) {
+            describe(child, out);
+        }
+    }
+
+
+    private static class Node implements ITree<Node, Integer> {
+        private final int id;
+        private final int parentId;
+        private final int index;
+        private String path;
+        private Node parent;
+        private List<Node> children;
+
+        Node(int id, int parentId, int index) {
+            this.id = id;
+            this.parentId = parentId;
+            this.index = index;
+            this.path = String.valueOf(id);
+        }
+
+        @Override
+        public Integer id() {
+            return id;
+        }
+
+        @Override
+        public Integer parentId() {
+            return parentId;
+        }
+
+        @Override
+        public void parent(Node parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public String pathProperty() {
+            return String.valueOf(id);
+        }
+
+        @Override
+        public String path() {
+            return path;
+        }
+
+        @Override
+        public void path(String path) {
+            this.path = path;
+        }
+
+        @Override
+        public Integer index() {
+            return index;
+        }
+
+        @Override
+        public void children(List<Node> children) {
+            this.children = children;
+        }
+    }
+}